@@ -1,11 +1,13 @@
 package org.fluentlenium.assertj;
 
 import org.fluentlenium.assertj.custom.AlertAssert;
+import org.fluentlenium.assertj.custom.ElementStateAssert;
 import org.fluentlenium.assertj.custom.FluentListAssert;
 import org.fluentlenium.assertj.custom.FluentWebElementAssert;
 import org.fluentlenium.assertj.custom.PageAssert;
 import org.fluentlenium.core.alert.Alert;
 import org.fluentlenium.core.FluentPage;
+import org.fluentlenium.core.domain.ElementState;
 import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentWebElement;
 
@@ -27,6 +29,10 @@ public final class FluentLeniumAssertions {
         return new FluentWebElementAssert(actual);
     }
 
+    public static ElementStateAssert assertThat(ElementState actual) {
+        return new ElementStateAssert(actual);
+    }
+
     public static FluentListAssert assertThat(FluentList<?> actual) {
         return new FluentListAssert(actual);
     }
@@ -0,0 +1,181 @@
+package org.fluentlenium.assertj.custom;
+
+import org.assertj.core.api.AbstractAssert;
+import org.fluentlenium.core.domain.ElementState;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assertions on an {@link ElementState} snapshot, checked without calling the driver.
+ */
+public class ElementStateAssert extends AbstractAssert<ElementStateAssert, ElementState> {
+
+    public ElementStateAssert(ElementState actual) {
+        super(actual, ElementStateAssert.class);
+    }
+
+    /**
+     * Secure failWithMessage by escaping String.format tokens when called without arguments.
+     *
+     * @see #failWithMessage(String, Object...)
+     */
+    protected void failWithMessage(String errorMessage) {
+        super.failWithMessage(errorMessage.replaceAll("(?:[^%]|\\A)%(?:[^%]|\\z)", "%%"));
+    }
+
+    /**
+     * check if the element is enabled
+     *
+     * @return
+     */
+    public ElementStateAssert isEnabled() {
+        if (!actual.isEnabled()) {
+            failWithMessage("Object not enabled");
+        }
+        return this;
+    }
+
+    /**
+     * check if the element is not enabled
+     *
+     * @return
+     */
+    public ElementStateAssert isNotEnabled() {
+        if (actual.isEnabled()) {
+            failWithMessage("Object is enabled");
+        }
+        return this;
+    }
+
+    /**
+     * check if the element is displayed
+     *
+     * @return
+     */
+    public ElementStateAssert isDisplayed() {
+        if (!actual.isDisplayed()) {
+            failWithMessage("Object not displayed");
+        }
+        return this;
+    }
+
+    /**
+     * check if the element is not displayed
+     *
+     * @return
+     */
+    public ElementStateAssert isNotDisplayed() {
+        if (actual.isDisplayed()) {
+            failWithMessage("Object is displayed");
+        }
+        return this;
+    }
+
+    /**
+     * check if the element is selected
+     *
+     * @return
+     */
+    public ElementStateAssert isSelected() {
+        if (!actual.isSelected()) {
+            failWithMessage("Object not selected");
+        }
+        return this;
+    }
+
+    /**
+     * check if the element is not selected
+     *
+     * @return
+     */
+    public ElementStateAssert isNotSelected() {
+        if (actual.isSelected()) {
+            failWithMessage("Object is selected");
+        }
+        return this;
+    }
+
+    /**
+     * check if the element contains the text
+     *
+     * @return
+     */
+    public ElementStateAssert hasText(String textToFind) {
+        if (!actual.getText().contains(textToFind)) {
+            failWithMessage("The element does not contain the text: " + textToFind + " . Actual text found : " + actual.getText());
+        }
+        return this;
+    }
+
+    /**
+     * check if the element matches the given regex
+     *
+     * @return
+     */
+    public ElementStateAssert hasTextMatching(String regexToBeMatched) {
+        if (!actual.getText().matches(regexToBeMatched)) {
+            failWithMessage("The element does not match the regex: " + regexToBeMatched + " . Actual text found : " + actual.getText());
+        }
+        return this;
+    }
+
+    /**
+     * check if the element does not contain the text
+     *
+     * @return
+     */
+    public ElementStateAssert hasNotText(String textToFind) {
+        if (actual.getText().contains(textToFind)) {
+            failWithMessage("The element contain the text: " + textToFind);
+        }
+        return this;
+    }
+
+    /**
+     * check if the element has the given id
+     *
+     * @param id to check
+     * @return
+     */
+    public ElementStateAssert hasId(String id) {
+        if (!id.equals(actual.getId())) {
+            failWithMessage("The element does not have the id: " + id + " . Actual id found : " + actual.getId());
+        }
+        return this;
+    }
+
+    /**
+     * check if the element has the class
+     *
+     * @param classToFind
+     * @return
+     */
+    public ElementStateAssert hasClass(String classToFind) {
+        if (!getClasses().contains(classToFind)) {
+            failWithMessage("The element does not have the class: " + classToFind + " . Actual class found : " + actual.getAttribute("class"));
+        }
+        return this;
+    }
+
+    /**
+     * check if the captured attribute has the given value
+     *
+     * @param attribute attribute name
+     * @param value     expected value
+     * @return
+     */
+    public ElementStateAssert hasAttribute(String attribute, String value) {
+        String actualValue = actual.getAttribute(attribute);
+        if (value == null ? actualValue != null : !value.equals(actualValue)) {
+            failWithMessage("The element does not have the attribute " + attribute + " with value: " + value
+                    + " . Actual value found : " + actualValue);
+        }
+        return this;
+    }
+
+    private List<String> getClasses() {
+        String classes = actual.getAttribute("class");
+        return classes == null ? Arrays.<String>asList() : Arrays.asList(classes.split(" "));
+    }
+}
@@ -0,0 +1,52 @@
+package org.fluentlenium.assertj.unit;
+
+import com.google.common.collect.ImmutableMap;
+import org.fluentlenium.assertj.FluentLeniumAssertions;
+import org.fluentlenium.core.domain.ElementState;
+import org.junit.Test;
+import org.openqa.selenium.Rectangle;
+
+public class ElementStateAssertTest {
+    private final ElementState state = new ElementState(null, "input", "Some text",
+            ImmutableMap.of("id", "field", "class", "big red"), true, false, true, new Rectangle(0, 0, 10, 10));
+
+    @Test
+    public void testStatesOk() {
+        FluentLeniumAssertions.assertThat(state).isDisplayed().isNotEnabled().isSelected();
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testIsEnabledKo() {
+        FluentLeniumAssertions.assertThat(state).isEnabled();
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testIsNotDisplayedKo() {
+        FluentLeniumAssertions.assertThat(state).isNotDisplayed();
+    }
+
+    @Test
+    public void testTextOk() {
+        FluentLeniumAssertions.assertThat(state).hasText("Some").hasTextMatching("S.*t").hasNotText("other");
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testHasTextKo() {
+        FluentLeniumAssertions.assertThat(state).hasText("other");
+    }
+
+    @Test
+    public void testAttributesOk() {
+        FluentLeniumAssertions.assertThat(state).hasId("field").hasClass("red").hasAttribute("class", "big red");
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testHasClassKo() {
+        FluentLeniumAssertions.assertThat(state).hasClass("blue");
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testHasIdKo() {
+        FluentLeniumAssertions.assertThat(state).hasId("other");
+    }
+}
@@ -0,0 +1,61 @@
+package org.fluentlenium.benchmarks;
+
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentListImpl;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Benchmarks of {@link FluentListImpl} operations.
+ * <p>
+ * Run with {@code -prof gc} to track allocation rate of wrapping elements.
+ */
+@State(Scope.Thread)
+public class FluentListBenchmark {
+    private FluentList<FluentWebElement> elements;
+
+    @Setup(Level.Iteration)
+    public void setUp(StubDriverState state) {
+        elements = state.fluent.find(".item");
+        state.driver.resetWireCalls();
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> fromElements(StubDriverState state) {
+        return FluentListImpl.fromElements(state.driver.getStubElements());
+    }
+
+    @Benchmark
+    public List<String> getTexts(StubDriverState state, WireCalls wireCalls) {
+        List<String> texts = elements.getTexts();
+        wireCalls.record(state.driver);
+        return texts;
+    }
+
+    @Benchmark
+    public List<String> getIds(StubDriverState state, WireCalls wireCalls) {
+        List<String> ids = elements.getIds();
+        wireCalls.record(state.driver);
+        return ids;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> click(StubDriverState state, WireCalls wireCalls) {
+        FluentList<FluentWebElement> clicked = elements.click();
+        wireCalls.record(state.driver);
+        return clicked;
+    }
+
+    @Benchmark
+    public FluentList<?> text(StubDriverState state, WireCalls wireCalls) {
+        FluentList<?> filled = elements.text("value");
+        wireCalls.record(state.driver);
+        return filled;
+    }
+}
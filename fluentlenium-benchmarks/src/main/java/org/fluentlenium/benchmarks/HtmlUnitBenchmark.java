@@ -0,0 +1,78 @@
+package org.fluentlenium.benchmarks;
+
+import org.fluentlenium.adapter.FluentAdapter;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
+
+/**
+ * Benchmarks of core APIs against HtmlUnit, with javascript enabled.
+ */
+@State(Scope.Benchmark)
+public class HtmlUnitBenchmark {
+    @Param({"10", "100", "1000"})
+    public int elementCount;
+
+    private File page;
+
+    private HtmlUnitDriver driver;
+
+    private FluentAdapter fluent;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder html = new StringBuilder("<html><body>");
+        for (int i = 0; i < elementCount; i++) {
+            html.append("<div id=\"element-").append(i).append("\" class=\"item\" name=\"item-").append(i).append("\">")
+                    .append("Item ").append(i).append("</div>");
+        }
+        html.append("</body></html>");
+
+        page = File.createTempFile("fluentlenium-benchmark", ".html");
+        Files.write(page.toPath(), html.toString().getBytes(StandardCharsets.UTF_8));
+
+        driver = new HtmlUnitDriver(true);
+        fluent = new FluentAdapter(driver);
+        fluent.goTo(page.toURI().toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        driver.quit();
+        Files.deleteIfExists(page.toPath());
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> find() {
+        return fluent.find(".item");
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> findWithTextFilter() {
+        return fluent.find("div", withText("Item 5"));
+    }
+
+    @Benchmark
+    public List<String> findAndGetTexts() {
+        return fluent.find(".item").getTexts();
+    }
+
+    @Benchmark
+    public List<String> findAndGetIds() {
+        return fluent.find(".item").getIds();
+    }
+}
@@ -0,0 +1,46 @@
+package org.fluentlenium.benchmarks;
+
+import org.fluentlenium.core.FluentPage;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import javax.inject.Inject;
+
+/**
+ * Benchmarks of {@link org.fluentlenium.core.inject.FluentInjector}.
+ */
+public class InjectorBenchmark {
+    public static class ChildPage extends FluentPage {
+        @FindBy(css = ".item")
+        private FluentWebElement item;
+
+        @FindBy(css = ".item")
+        private FluentList<FluentWebElement> items;
+    }
+
+    public static class ParentPage extends FluentPage {
+        @Inject
+        private ChildPage child;
+
+        @FindBy(css = "#element-0")
+        private FluentWebElement first;
+
+        @FindBy(css = ".item")
+        private FluentList<FluentWebElement> items;
+
+        @FindBy(css = ".item")
+        private WebElement seleniumElement;
+
+        private FluentWebElement defaultLocatedElement;
+    }
+
+    @Benchmark
+    public ParentPage newInstance(StubDriverState state, WireCalls wireCalls) {
+        ParentPage page = state.fluent.newInstance(ParentPage.class);
+        wireCalls.record(state.driver);
+        return page;
+    }
+}
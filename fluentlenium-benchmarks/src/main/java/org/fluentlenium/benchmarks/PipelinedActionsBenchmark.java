@@ -0,0 +1,111 @@
+package org.fluentlenium.benchmarks;
+
+import org.fluentlenium.adapter.FluentAdapter;
+import org.fluentlenium.benchmarks.stub.StubJavascriptWebDriver;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link FluentList} actions performed sequentially and in pipelined mode, against a
+ * {@link StubJavascriptWebDriver}.
+ * <p>
+ * Compare the {@code wireCalls} secondary result of each pair of benchmarks: pipelined mode replaces the state check
+ * performed before the action on each element by a single script call.
+ */
+@State(Scope.Thread)
+public class PipelinedActionsBenchmark {
+    /**
+     * Number of elements returned by each find call.
+     */
+    @Param({"10", "100", "1000"})
+    public int elementCount;
+
+    /**
+     * Simulated latency of each wire call, in microseconds.
+     */
+    @Param({"0", "100"})
+    public long latencyMicros;
+
+    private StubJavascriptWebDriver driver;
+
+    private FluentList<FluentWebElement> elements;
+
+    private FluentList<FluentWebElement> pipelinedElements;
+
+    @Setup
+    public void setUp() {
+        driver = new StubJavascriptWebDriver(elementCount, latencyMicros, TimeUnit.MICROSECONDS);
+        FluentAdapter fluent = new FluentAdapter(driver);
+        elements = fluent.find(".item");
+        pipelinedElements = fluent.find(".item").pipelined();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetWireCalls() {
+        driver.resetWireCalls();
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> click(WireCalls wireCalls) {
+        FluentList<FluentWebElement> clicked = elements.click();
+        wireCalls.record(driver);
+        return clicked;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> clickPipelined(WireCalls wireCalls) {
+        FluentList<FluentWebElement> clicked = pipelinedElements.click();
+        wireCalls.record(driver);
+        return clicked;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> submit(WireCalls wireCalls) {
+        FluentList<FluentWebElement> submitted = elements.submit();
+        wireCalls.record(driver);
+        return submitted;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> submitPipelined(WireCalls wireCalls) {
+        FluentList<FluentWebElement> submitted = pipelinedElements.submit();
+        wireCalls.record(driver);
+        return submitted;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> clearAll(WireCalls wireCalls) {
+        FluentList<FluentWebElement> cleared = elements.clearAll();
+        wireCalls.record(driver);
+        return cleared;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> clearAllPipelined(WireCalls wireCalls) {
+        FluentList<FluentWebElement> cleared = pipelinedElements.clearAll();
+        wireCalls.record(driver);
+        return cleared;
+    }
+
+    @Benchmark
+    public FluentList<?> text(WireCalls wireCalls) {
+        FluentList<?> filled = elements.text("value");
+        wireCalls.record(driver);
+        return filled;
+    }
+
+    @Benchmark
+    public FluentList<?> textPipelined(WireCalls wireCalls) {
+        FluentList<?> filled = pipelinedElements.text("value");
+        wireCalls.record(driver);
+        return filled;
+    }
+}
@@ -0,0 +1,45 @@
+package org.fluentlenium.benchmarks;
+
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.regex.Pattern;
+
+import static org.fluentlenium.core.filter.FilterConstructor.withClass;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
+
+/**
+ * Benchmarks of {@link org.fluentlenium.core.search.Search} and post selector filters.
+ */
+public class SearchBenchmark {
+    private static final Pattern ITEM_PATTERN = Pattern.compile("Item [0-9]*5");
+
+    @Benchmark
+    public FluentList<FluentWebElement> find(StubDriverState state, WireCalls wireCalls) {
+        FluentList<FluentWebElement> elements = state.fluent.find(".item");
+        wireCalls.record(state.driver);
+        return elements;
+    }
+
+    @Benchmark
+    public FluentWebElement findFirst(StubDriverState state, WireCalls wireCalls) {
+        FluentWebElement element = state.fluent.findFirst(".item");
+        wireCalls.record(state.driver);
+        return element;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> findWithStringFilters(StubDriverState state, WireCalls wireCalls) {
+        FluentList<FluentWebElement> elements = state.fluent.find("div", withClass("item"), withText("Item 5"));
+        wireCalls.record(state.driver);
+        return elements;
+    }
+
+    @Benchmark
+    public FluentList<FluentWebElement> findWithPatternFilter(StubDriverState state, WireCalls wireCalls) {
+        FluentList<FluentWebElement> elements = state.fluent.find("div", withText().contains(ITEM_PATTERN));
+        wireCalls.record(state.driver);
+        return elements;
+    }
+}
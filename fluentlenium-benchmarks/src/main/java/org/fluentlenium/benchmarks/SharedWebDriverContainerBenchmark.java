@@ -0,0 +1,66 @@
+package org.fluentlenium.benchmarks;
+
+import com.google.common.base.Supplier;
+import org.fluentlenium.adapter.SharedWebDriver;
+import org.fluentlenium.adapter.SharedWebDriverContainer;
+import org.fluentlenium.adapter.util.SharedDriverStrategy;
+import org.fluentlenium.benchmarks.stub.StubWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmarks of {@link SharedWebDriverContainer} under contention, with many threads creating and quitting
+ * drivers for different tests at the same time.
+ */
+@Threads(8)
+public class SharedWebDriverContainerBenchmark {
+    @State(Scope.Benchmark)
+    public static class ContainerState implements Supplier<WebDriver> {
+        @Param({"0", "1000"})
+        public long startupMicros;
+
+        private final AtomicLong tests = new AtomicLong();
+
+        @Override
+        public WebDriver get() {
+            if (startupMicros > 0) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(startupMicros));
+            }
+            return new StubWebDriver(0, 0, TimeUnit.MICROSECONDS);
+        }
+
+        String nextTestName() {
+            return "test" + tests.incrementAndGet();
+        }
+
+        @Setup
+        @TearDown
+        public void quitAll() {
+            SharedWebDriverContainer.INSTANCE.quitAll();
+        }
+    }
+
+    @Benchmark
+    public SharedWebDriver perMethod(ContainerState state) {
+        SharedWebDriver driver = SharedWebDriverContainer.INSTANCE.getOrCreateDriver(state,
+                SharedWebDriverContainerBenchmark.class, state.nextTestName(), SharedDriverStrategy.PER_METHOD);
+        SharedWebDriverContainer.INSTANCE.quit(driver);
+        return driver;
+    }
+
+    @Benchmark
+    public SharedWebDriver perClass(ContainerState state) {
+        return SharedWebDriverContainer.INSTANCE.getOrCreateDriver(state,
+                SharedWebDriverContainerBenchmark.class, state.nextTestName(), SharedDriverStrategy.PER_CLASS);
+    }
+}
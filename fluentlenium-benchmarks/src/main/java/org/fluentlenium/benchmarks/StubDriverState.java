@@ -0,0 +1,39 @@
+package org.fluentlenium.benchmarks;
+
+import org.fluentlenium.adapter.FluentAdapter;
+import org.fluentlenium.benchmarks.stub.StubWebDriver;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark state providing a FluentLenium adapter bound to a {@link StubWebDriver}.
+ */
+@State(Scope.Benchmark)
+public class StubDriverState {
+    /**
+     * Number of elements returned by each find call.
+     */
+    @Param({"10", "100", "1000"})
+    public int elementCount;
+
+    /**
+     * Simulated latency of each wire call, in microseconds.
+     */
+    @Param({"0", "100"})
+    public long latencyMicros;
+
+    public StubWebDriver driver;
+
+    public FluentAdapter fluent;
+
+    @Setup
+    public void setUp() {
+        driver = new StubWebDriver(elementCount, latencyMicros, TimeUnit.MICROSECONDS);
+        fluent = new FluentAdapter(driver);
+        driver.resetWireCalls();
+    }
+}
@@ -0,0 +1,47 @@
+package org.fluentlenium.benchmarks;
+
+import com.google.common.base.Predicate;
+import org.fluentlenium.core.FluentDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link org.fluentlenium.core.wait.FluentWait} with conditions that are already verified, so
+ * that only the overhead of a single polling is measured.
+ */
+public class WaitBenchmark {
+    private static final Predicate<FluentDriver> ALWAYS_TRUE = new Predicate<FluentDriver>() {
+        @Override
+        public boolean apply(FluentDriver input) {
+            return true;
+        }
+    };
+
+    @Benchmark
+    public boolean untilIsPresent(StubDriverState state, WireCalls wireCalls) {
+        boolean present = state.fluent.await().atMost(1, TimeUnit.SECONDS).until(".item").isPresent();
+        wireCalls.record(state.driver);
+        return present;
+    }
+
+    @Benchmark
+    public boolean untilIsDisplayed(StubDriverState state, WireCalls wireCalls) {
+        boolean displayed = state.fluent.await().atMost(1, TimeUnit.SECONDS).until(".item").isDisplayed();
+        wireCalls.record(state.driver);
+        return displayed;
+    }
+
+    @Benchmark
+    public boolean untilWithTextIsPresent(StubDriverState state, WireCalls wireCalls) {
+        boolean present = state.fluent.await().atMost(1, TimeUnit.SECONDS).until(".item").withText("Item 5").isPresent();
+        wireCalls.record(state.driver);
+        return present;
+    }
+
+    @Benchmark
+    public void untilPredicate(StubDriverState state, WireCalls wireCalls) {
+        state.fluent.await().atMost(1, TimeUnit.SECONDS).untilPredicate(ALWAYS_TRUE);
+        wireCalls.record(state.driver);
+    }
+}
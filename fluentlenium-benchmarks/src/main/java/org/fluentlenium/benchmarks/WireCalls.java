@@ -0,0 +1,34 @@
+package org.fluentlenium.benchmarks;
+
+import org.fluentlenium.benchmarks.stub.StubWebDriver;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Level;
+
+/**
+ * Secondary benchmark result counting wire calls performed on a {@link StubWebDriver}.
+ * <p>
+ * It is reported with the same unit as the primary result, so wire calls per operation is the ratio of
+ * {@code wireCalls} to the primary score.
+ */
+@AuxCounters
+@State(Scope.Thread)
+public class WireCalls {
+    public long wireCalls;
+
+    @Setup(Level.Iteration)
+    public void clean() {
+        wireCalls = 0;
+    }
+
+    /**
+     * Add the wire calls performed by the driver since the last record.
+     *
+     * @param driver stub driver
+     */
+    public void record(StubWebDriver driver) {
+        wireCalls += driver.resetWireCalls();
+    }
+}
@@ -0,0 +1,44 @@
+package org.fluentlenium.benchmarks.stub;
+
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StubWebDriver} executing scripts on lists of elements.
+ * <p>
+ * A script call is a single wire call. As stub elements are always displayed and enabled, it returns {@code 2} for each
+ * element given in the first argument, which is the result of FluentLenium action checks for elements that can be
+ * acted on.
+ */
+public class StubJavascriptWebDriver extends StubWebDriver implements JavascriptExecutor {
+    private static final Long ACTIONABLE = 2L;
+
+    /**
+     * Creates a new stub driver.
+     *
+     * @param elementCount number of elements returned by find methods
+     * @param latency      latency of each wire call
+     * @param unit         time unit of the latency
+     */
+    public StubJavascriptWebDriver(int elementCount, long latency, TimeUnit unit) {
+        super(elementCount, latency, unit);
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        wireCall();
+        if (args.length == 0 || !(args[0] instanceof List)) {
+            return null;
+        }
+        return new ArrayList<>(Collections.nCopies(((List<?>) args[0]).size(), ACTIONABLE));
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+}
@@ -0,0 +1,159 @@
+package org.fluentlenium.benchmarks.stub;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process {@link WebDriver} returning a fixed number of elements for any locator.
+ * <p>
+ * Each method of the driver and of its elements is a simulated wire call: it is counted, and waits for the
+ * configured latency, like a remote driver would.
+ */
+public class StubWebDriver implements WebDriver {
+    private static final String WINDOW_HANDLE = "main";
+
+    private final AtomicLong wireCalls = new AtomicLong();
+
+    private final List<WebElement> elements;
+
+    private final long latencyNanos;
+
+    private String currentUrl = "about:blank";
+
+    /**
+     * Creates a new stub driver.
+     *
+     * @param elementCount number of elements returned by find methods
+     * @param latency      latency of each wire call
+     * @param unit         time unit of the latency
+     */
+    public StubWebDriver(int elementCount, long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+        List<WebElement> stubElements = new ArrayList<>(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            stubElements.add(new StubWebElement(this, i));
+        }
+        this.elements = Collections.unmodifiableList(stubElements);
+    }
+
+    /**
+     * Get the number of wire calls performed since creation or last reset.
+     *
+     * @return number of wire calls
+     */
+    public long getWireCalls() {
+        return wireCalls.get();
+    }
+
+    /**
+     * Reset the wire calls counter.
+     *
+     * @return number of wire calls performed before the reset
+     */
+    public long resetWireCalls() {
+        return wireCalls.getAndSet(0);
+    }
+
+    /**
+     * Get the elements returned by find methods, without performing a wire call.
+     *
+     * @return stub elements
+     */
+    public List<WebElement> getStubElements() {
+        return elements;
+    }
+
+    void wireCall() {
+        wireCalls.incrementAndGet();
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+
+    @Override
+    public void get(String url) {
+        wireCall();
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        wireCall();
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        wireCall();
+        return "Stub";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        wireCall();
+        return new ArrayList<>(elements);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        wireCall();
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("No element found for " + by);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        wireCall();
+        return "<html><body></body></html>";
+    }
+
+    @Override
+    public void close() {
+        wireCall();
+    }
+
+    @Override
+    public void quit() {
+        wireCall();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        wireCall();
+        return new LinkedHashSet<>(Collections.singleton(WINDOW_HANDLE));
+    }
+
+    @Override
+    public String getWindowHandle() {
+        wireCall();
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo is not supported by the stub driver");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate is not supported by the stub driver");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage is not supported by the stub driver");
+    }
+}
@@ -0,0 +1,163 @@
+package org.fluentlenium.benchmarks.stub;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Element of {@link StubWebDriver}, rendered as {@code <div id="element-N" class="item" name="item-N">Item N</div>}.
+ * <p>
+ * Each method is counted as a wire call by the driver.
+ */
+public class StubWebElement implements WebElement, WrapsDriver {
+    private final StubWebDriver driver;
+
+    private final int index;
+
+    private String value = "";
+
+    StubWebElement(StubWebDriver driver, int index) {
+        this.driver = driver;
+        this.index = index;
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public void click() {
+        driver.wireCall();
+    }
+
+    @Override
+    public void submit() {
+        driver.wireCall();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.wireCall();
+        StringBuilder builder = new StringBuilder(value);
+        for (CharSequence keys : keysToSend) {
+            builder.append(keys);
+        }
+        value = builder.toString();
+    }
+
+    @Override
+    public void clear() {
+        driver.wireCall();
+        value = "";
+    }
+
+    @Override
+    public String getTagName() {
+        driver.wireCall();
+        return "div";
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        driver.wireCall();
+        switch (name) {
+            case "id":
+                return "element-" + index;
+            case "class":
+                return "item";
+            case "name":
+                return "item-" + index;
+            case "value":
+                return value;
+            case "textContent":
+                return getTextValue();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.wireCall();
+        return false;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.wireCall();
+        return true;
+    }
+
+    @Override
+    public String getText() {
+        driver.wireCall();
+        return getTextValue();
+    }
+
+    private String getTextValue() {
+        return "Item " + index;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        driver.wireCall();
+        return new ArrayList<>();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        driver.wireCall();
+        throw new NoSuchElementException("No child element found for " + by);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.wireCall();
+        return true;
+    }
+
+    @Override
+    public Point getLocation() {
+        driver.wireCall();
+        return new Point(0, index * 20);
+    }
+
+    @Override
+    public Dimension getSize() {
+        driver.wireCall();
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        driver.wireCall();
+        return new Rectangle(new Point(0, index * 20), new Dimension(100, 20));
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        driver.wireCall();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        throw new UnsupportedOperationException("getScreenshotAs is not supported by the stub driver");
+    }
+
+    @Override
+    public String toString() {
+        return "StubWebElement[" + index + "]";
+    }
+}
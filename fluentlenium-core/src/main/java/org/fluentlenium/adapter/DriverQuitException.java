@@ -0,0 +1,39 @@
+package org.fluentlenium.adapter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Exception thrown when some drivers can't be quit, or don't quit in time.
+ * <p>
+ * The error of each driver is available from {@link #getFailures()}, and as a suppressed exception.
+ */
+public class DriverQuitException extends RuntimeException {
+    private final Map<Object, Throwable> failures;
+
+    public DriverQuitException(Map<Object, Throwable> failures) {
+        super(buildMessage(failures));
+        this.failures = Collections.unmodifiableMap(failures);
+        for (Throwable failure : failures.values()) {
+            addSuppressed(failure);
+        }
+    }
+
+    private static String buildMessage(Map<Object, Throwable> failures) {
+        StringBuilder message = new StringBuilder();
+        message.append(failures.size()).append(" driver(s) failed to quit:");
+        for (Map.Entry<Object, Throwable> failure : failures.entrySet()) {
+            message.append("\n - ").append(failure.getKey()).append(": ").append(failure.getValue());
+        }
+        return message.toString();
+    }
+
+    /**
+     * Get drivers that failed to quit, with their error.
+     *
+     * @return failures, keyed by driver description
+     */
+    public Map<Object, Throwable> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,102 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Quit drivers concurrently, giving up on drivers that don't quit in time.
+ * <p>
+ * Each driver is quit from its own daemon thread, so a hung driver neither delays other drivers nor prevents the JVM
+ * from exiting. Drivers that fail or time out are reported by a {@link DriverQuitException}.
+ */
+class DriverQuitter {
+    private final Map<Object, Runnable> quits = new LinkedHashMap<>();
+
+    /**
+     * Add a driver to quit.
+     *
+     * @param target description of the driver, used in failure reports
+     * @param driver driver to quit
+     */
+    public void add(Object target, final WebDriver driver) {
+        add(target, new Runnable() {
+            @Override
+            public void run() {
+                driver.quit();
+            }
+        });
+    }
+
+    /**
+     * Add a custom quit action.
+     *
+     * @param target description of the driver, used in failure reports
+     * @param quit   action quitting the driver
+     */
+    public void add(Object target, Runnable quit) {
+        quits.put(target, quit);
+    }
+
+    /**
+     * Quit all added drivers.
+     *
+     * @param timeout maximum time to wait for drivers to quit
+     * @param unit    unit of timeout
+     * @throws DriverQuitException if some drivers failed to quit or didn't quit in time
+     */
+    public void quitAll(long timeout, TimeUnit unit) {
+        if (quits.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("fluentlenium-driver-quit-%d").build());
+        Map<Object, Throwable> failures = new LinkedHashMap<>();
+        try {
+            Map<Object, Future<?>> futures = new LinkedHashMap<>();
+            for (Map.Entry<Object, Runnable> quit : quits.entrySet()) {
+                futures.put(quit.getKey(), executor.submit(quit.getValue()));
+            }
+
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            boolean interrupted = false;
+            for (Map.Entry<Object, Future<?>> future : futures.entrySet()) {
+                try {
+                    future.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    failures.put(future.getKey(), e.getCause());
+                } catch (TimeoutException e) {
+                    failures.put(future.getKey(), new TimeoutException(
+                            "Driver did not quit within " + timeout + " " + unit.toString().toLowerCase()));
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    deadline = System.nanoTime();
+                    failures.put(future.getKey(), e);
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            // Hung quits are abandoned on daemon threads.
+            executor.shutdownNow();
+            quits.clear();
+        }
+
+        if (!failures.isEmpty()) {
+            throw new DriverQuitException(failures);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.fluentlenium.adapter;
 import lombok.experimental.Delegate;
 import org.fluentlenium.core.FluentDriver;
 import org.fluentlenium.core.FluentDriverControl;
+import org.fluentlenium.core.wait.PollingSchedule;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 
@@ -18,6 +19,12 @@ public class FluentAdapter implements FluentDriverControl, FluentDriverConfigura
 
     private TriggerMode htmlDumpMode;
 
+    private PollingSchedule pollingSchedule;
+
+    private String waitReportPath;
+
+    private Long waitBudget;
+
     public FluentAdapter() {
         this(new DefaultDriverContainer());
     }
@@ -147,4 +154,34 @@ public class FluentAdapter implements FluentDriverControl, FluentDriverConfigura
     public TriggerMode getHtmlDumpMode() {
         return htmlDumpMode;
     }
+
+    @Override
+    public void setPollingSchedule(PollingSchedule pollingSchedule) {
+        this.pollingSchedule = pollingSchedule;
+    }
+
+    @Override
+    public PollingSchedule getPollingSchedule() {
+        return pollingSchedule;
+    }
+
+    @Override
+    public void setWaitReportPath(String waitReportPath) {
+        this.waitReportPath = waitReportPath;
+    }
+
+    @Override
+    public String getWaitReportPath() {
+        return waitReportPath;
+    }
+
+    @Override
+    public void setWaitBudget(Long waitBudget) {
+        this.waitBudget = waitBudget;
+    }
+
+    @Override
+    public Long getWaitBudget() {
+        return waitBudget;
+    }
 }
@@ -1,6 +1,7 @@
 package org.fluentlenium.adapter;
 
 import org.fluentlenium.core.FluentDriverConfigurationReader;
+import org.fluentlenium.core.wait.PollingSchedule;
 
 public interface FluentDriverConfiguration extends FluentDriverConfigurationReader {
     void setScreenshotPath(String path);
@@ -10,4 +11,29 @@ public interface FluentDriverConfiguration extends FluentDriverConfigurationRead
     void setScreenshotMode(TriggerMode mode);
 
     void setHtmlDumpMode(TriggerMode htmlDumpMode);
+
+    /**
+     * Set the polling schedule used by default by waits.
+     *
+     * @param pollingSchedule polling schedule, or null to poll at the fixed interval of waits
+     */
+    void setPollingSchedule(PollingSchedule pollingSchedule);
+
+    /**
+     * Set the path of the wait report. When defined, waits are recorded and the slowest waits of the test suite are
+     * reported to this file.
+     *
+     * @param waitReportPath path of the JSON wait report, or null to disable wait recording
+     * @see org.fluentlenium.core.wait.WaitTelemetry
+     */
+    void setWaitReportPath(String waitReportPath);
+
+    /**
+     * Set the time available to all waits of a test. When defined, each wait of a test is bounded by the time remaining
+     * before the end of this budget, so a broken test fails fast.
+     *
+     * @param waitBudget wait budget in milliseconds, or null to disable the test deadline
+     * @see org.fluentlenium.core.wait.WaitDeadline
+     */
+    void setWaitBudget(Long waitBudget);
 }
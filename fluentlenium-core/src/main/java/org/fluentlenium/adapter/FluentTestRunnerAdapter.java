@@ -6,14 +6,29 @@ import org.fluentlenium.adapter.util.DefaultCookieStrategyReader;
 import org.fluentlenium.adapter.util.DefaultSharedDriverStrategyReader;
 import org.fluentlenium.adapter.util.SharedDriverStrategy;
 import org.fluentlenium.adapter.util.SharedDriverStrategyReader;
+import org.fluentlenium.core.snapshot.SnapshotWriter;
+import org.fluentlenium.core.wait.WaitDeadline;
+import org.fluentlenium.core.wait.WaitTelemetry;
 import org.openqa.selenium.WebDriver;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Adapter used by any class based Test Runners adapters.
  */
 public class FluentTestRunnerAdapter extends FluentAdapter {
+    private static final ConcurrentMap<Class<?>, Queue<Future<File>>> FAILURE_SNAPSHOTS = new ConcurrentHashMap<>();
+
     private final SharedDriverStrategyReader sdsr;
 
     private final CookieStrategyReader csr;
@@ -87,6 +102,14 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
             }
         }, sharedParameters.getTestClass(), sharedParameters.getTestName(), sharedParameters.getStrategy());
 
+        if (getWaitReportPath() != null) {
+            WaitTelemetry.INSTANCE.enable(new File(getWaitReportPath()));
+        }
+
+        if (getWaitBudget() != null) {
+            WaitDeadline.INSTANCE.start(getWaitBudget(), TimeUnit.MILLISECONDS);
+        }
+
         initFluent(sharedWebDriver.getDriver());
         if (isFluentDriverAvailable()) {
             withDefaultUrl(getDefaultBaseUrl());
@@ -125,9 +148,11 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
      * @param testName  Test name
      */
     protected void finished(Class<?> testClass, String testName) {
+        WaitDeadline.INSTANCE.clear();
+
         SharedDriverStrategy strategy = sdsr.getSharedDriverStrategy(testClass, testName);
 
-        if (strategy == SharedDriverStrategy.PER_METHOD) {
+        if (strategy == SharedDriverStrategy.PER_METHOD || strategy == SharedDriverStrategy.POOLED) {
             SharedMutator.EffectiveParameters<?> sharedParameters = this.sharedMutator.getEffectiveParameters(testClass, testName, strategy);
 
             SharedWebDriver sharedWebDriver = SharedWebDriverContainer.INSTANCE.getDriver(sharedParameters.getTestClass(), sharedParameters.getTestName(), sharedParameters.getStrategy());
@@ -149,14 +174,87 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
 
     /**
      * Invoked when a test class has finished (whatever the success of failing status)
+     * <p>
+     * Drivers of the test class are quit concurrently, and the wait report is updated if new waits are recorded.
+     * Screenshots and HTML dumps taken when tests of the class have failed are written before this method returns.
      *
      * @param testClass
+     * @throws DriverQuitException if some drivers failed to quit or didn't quit in time
+     * @throws RuntimeException    if the wait report, or some screenshots or HTML dumps of failed tests can't be written
      */
     public static void afterClass(Class<?> testClass) {
-        List<SharedWebDriver> sharedWebDrivers = SharedWebDriverContainer.INSTANCE.getTestClassDrivers(testClass);
-        for (SharedWebDriver sharedWebDriver : sharedWebDrivers) {
-            SharedWebDriverContainer.INSTANCE.quit(sharedWebDriver);
+        RuntimeException error = null;
+        if (WaitTelemetry.INSTANCE.isEnabled()) {
+            try {
+                WaitTelemetry.INSTANCE.writeReportIfChanged();
+            } catch (IOException e) {
+                error = new RuntimeException("error when writing the wait report", e);
+            }
+        }
+        error = addError(error, waitFailureSnapshots(testClass));
+        try {
+            List<SharedWebDriver> sharedWebDrivers = SharedWebDriverContainer.INSTANCE.getTestClassDrivers(testClass);
+            SharedWebDriverContainer.INSTANCE.quit(sharedWebDrivers);
+        } catch (DriverQuitException e) {
+            if (error != null) {
+                e.addSuppressed(error);
+            }
+            throw e;
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private static RuntimeException addError(RuntimeException error, RuntimeException other) {
+        if (error == null) {
+            return other;
+        }
+        if (other != null) {
+            error.addSuppressed(other);
+        }
+        return error;
+    }
+
+    private static RuntimeException waitFailureSnapshots(Class<?> testClass) {
+        Queue<Future<File>> snapshots = FAILURE_SNAPSHOTS.remove(testClass);
+        if (snapshots == null) {
+            return null;
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SnapshotWriter.DEFAULT_FLUSH_TIMEOUT_SECONDS);
+        RuntimeException error = null;
+        for (Future<File> snapshot : snapshots) {
+            Throwable cause;
+            try {
+                snapshot.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                continue;
+            } catch (ExecutionException e) {
+                cause = e.getCause();
+            } catch (TimeoutException e) {
+                cause = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cause = e;
+            }
+            if (error == null) {
+                error = new RuntimeException("error when writing snapshots of failed tests", cause);
+            } else {
+                error.addSuppressed(cause);
+            }
+        }
+        return error;
+    }
+
+    private static void addFailureSnapshot(Class<?> testClass, Future<File> snapshot) {
+        Queue<Future<File>> snapshots = FAILURE_SNAPSHOTS.get(testClass);
+        if (snapshots == null) {
+            Queue<Future<File>> newSnapshots = new ConcurrentLinkedQueue<>();
+            snapshots = FAILURE_SNAPSHOTS.putIfAbsent(testClass, newSnapshots);
+            if (snapshots == null) {
+                snapshots = newSnapshots;
+            }
         }
+        snapshots.add(snapshot);
     }
 
     /**
@@ -196,6 +294,8 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
 
     /**
      * Invoked when a test method has failed (before finished)
+     * <p>
+     * Screenshot and HTML dump are written in background, and errors are reported by {@link #afterClass(Class)}.
      *
      * @param e         Throwable thrown by the failing test.
      * @param testClass Test class
@@ -204,10 +304,10 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
     protected void failed(Throwable e, Class<?> testClass, String testName) {
         if (isFluentDriverAvailable()) {
             if (getScreenshotMode() == TriggerMode.ON_FAIL && canTakeScreenShot()) {
-                takeScreenShot(testClass.getSimpleName() + "_" + testName + ".png");
+                addFailureSnapshot(testClass, takeScreenShotAsync(testClass.getSimpleName() + "_" + testName + ".png"));
             }
             if (getHtmlDumpMode() == TriggerMode.ON_FAIL && getDriver() != null) {
-                takeHtmlDump(testClass.getSimpleName() + "_" + testName + ".html");
+                addFailureSnapshot(testClass, takeHtmlDumpAsync(testClass.getSimpleName() + "_" + testName + ".html"));
             }
         }
     }
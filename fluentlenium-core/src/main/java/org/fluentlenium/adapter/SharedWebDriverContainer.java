@@ -1,18 +1,31 @@
 package org.fluentlenium.adapter;
 
+import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.experimental.Delegate;
+import org.fluentlenium.adapter.util.DriverPool;
 import org.fluentlenium.adapter.util.SharedDriverStrategy;
 import org.fluentlenium.adapter.util.SharedWebDriverContainerShutdownHook;
 import org.openqa.selenium.WebDriver;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
 
 /**
  * A singleton container for all running {@link SharedWebDriver} in the JVM.
@@ -20,6 +33,11 @@ import java.util.Objects;
 public enum SharedWebDriverContainer {
     INSTANCE;
 
+    /**
+     * Default time to wait for drivers to quit, in seconds.
+     */
+    public static final long DEFAULT_QUIT_TIMEOUT_SECONDS = 30;
+
     private static class ClassAndTestName {
 
         private Class<?> testClass;
@@ -57,13 +75,29 @@ public enum SharedWebDriverContainer {
     @Delegate
     private final Impl impl = new Impl();
 
+    @DriverPool
+    private static class DefaultDriverPool {
+    }
+
+    private static final DriverPool DEFAULT_POOL_CONFIGURATION = DefaultDriverPool.class.getAnnotation(DriverPool.class);
+
+    /**
+     * Container implementation.
+     * <p>
+     * Drivers are stored as futures in concurrent maps, so that drivers for different keys are created and quit in
+     * parallel, while a single driver is created for each key. Drivers that are still being created are ignored when
+     * listing drivers, and quit as soon as they are created when quitting all drivers.
+     */
     static class Impl {
-        private SharedWebDriver onceDriver;
+        private static final ClassAndTestName ONCE_KEY = new ClassAndTestName(null, null);
+
+        private final ConcurrentMap<ClassAndTestName, ListenableFuture<SharedWebDriver>> onceDrivers = new ConcurrentHashMap<>();
 
-        private final Map<Class<?>, SharedWebDriver> classDrivers = new HashMap<>();
+        private final ConcurrentMap<ClassAndTestName, ListenableFuture<SharedWebDriver>> classDrivers = new ConcurrentHashMap<>();
 
-        private final Map<ClassAndTestName, SharedWebDriver> testDrivers = new HashMap<>();
+        private final ConcurrentMap<ClassAndTestName, ListenableFuture<SharedWebDriver>> testDrivers = new ConcurrentHashMap<>();
 
+        private final ConcurrentMap<String, WebDriverPool> pools = new ConcurrentHashMap<>();
 
         /**
          * Get an existing or create a new driver for the given test, with the given shared driver
@@ -75,73 +109,147 @@ public enum SharedWebDriverContainer {
          * @param strategy         stratégie
          * @return
          */
-        public synchronized <T> SharedWebDriver getOrCreateDriver(Supplier<WebDriver> webDriverFactory, Class<T> testClass, String testName, SharedDriverStrategy strategy) {
-            SharedWebDriver driver = getDriver(testClass, testName, strategy);
-            if (driver == null) {
-                driver = createDriver(webDriverFactory, testClass, testName, strategy);
-                registerDriver(driver);
+        public <T> SharedWebDriver getOrCreateDriver(final Supplier<WebDriver> webDriverFactory, final Class<T> testClass, final String testName, final SharedDriverStrategy strategy) {
+            ConcurrentMap<ClassAndTestName, ListenableFuture<SharedWebDriver>> drivers = getDrivers(strategy);
+            ClassAndTestName key = getKey(testClass, testName, strategy);
+
+            ListenableFuture<SharedWebDriver> future = drivers.get(key);
+            if (future == null) {
+                ListenableFutureTask<SharedWebDriver> task = ListenableFutureTask.create(new Callable<SharedWebDriver>() {
+                    @Override
+                    public SharedWebDriver call() {
+                        return createDriver(webDriverFactory, testClass, testName, strategy);
+                    }
+                });
+                future = drivers.putIfAbsent(key, task);
+                if (future == null) {
+                    future = task;
+                    // Driver is created by the calling thread, without blocking creation of other keys.
+                    task.run();
+                }
+            }
+
+            try {
+                return getUninterruptibly(future);
+            } catch (ExecutionException e) {
+                drivers.remove(key, future);
+                throw Throwables.propagate(e.getCause());
             }
-            return driver;
         }
 
         private <T> SharedWebDriver createDriver(Supplier<WebDriver> webDriverFactory, Class<T> testClass, String testName, SharedDriverStrategy strategy) {
-            WebDriver webDriver = webDriverFactory.get();
-            SharedWebDriver sharedWebDriver = new SharedWebDriver(webDriver, testClass, testName, strategy);
-            return sharedWebDriver;
+            WebDriver webDriver;
+            if (strategy == SharedDriverStrategy.POOLED) {
+                webDriver = getOrCreatePool(webDriverFactory, testClass).acquire();
+            } else {
+                webDriver = webDriverFactory.get();
+            }
+            return new SharedWebDriver(webDriver, testClass, testName, strategy);
         }
 
-        private void registerDriver(SharedWebDriver driver) {
-            switch (driver.getSharedDriverStrategy()) {
-                case ONCE:
-                    onceDriver = driver;
-                    break;
-                case PER_CLASS:
-                    classDrivers.put(driver.getTestClass(), driver);
-                    break;
-                case PER_METHOD:
-                default:
-                    testDrivers.put(new ClassAndTestName(driver.getTestClass(), driver.getTestName()), driver);
-                    break;
+        private WebDriverPool getOrCreatePool(Supplier<WebDriver> webDriverFactory, Class<?> testClass) {
+            String poolName = getPoolName(testClass);
+            WebDriverPool pool = pools.get(poolName);
+            if (pool == null) {
+                DriverPool configuration = getPoolConfiguration(testClass);
+                WebDriverPool newPool = new WebDriverPool(webDriverFactory, configuration.minSize(),
+                        configuration.maxSize(), configuration.maxReuse(), newHealthCheck(configuration));
+                pool = pools.putIfAbsent(poolName, newPool);
+                if (pool == null) {
+                    pool = newPool;
+                    pool.prewarm();
+                }
             }
+            return pool;
+        }
+
+        private static Predicate<WebDriver> newHealthCheck(DriverPool configuration) {
+            try {
+                return configuration.healthCheck().newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalArgumentException("Can't create driver pool health check "
+                        + configuration.healthCheck().getName(), e);
+            }
+        }
+
+        private static DriverPool getPoolConfiguration(Class<?> testClass) {
+            DriverPool configuration = testClass == null ? null : testClass.getAnnotation(DriverPool.class);
+            return configuration == null ? DEFAULT_POOL_CONFIGURATION : configuration;
         }
 
-        public synchronized <T> SharedWebDriver getDriver(Class<T> testClass, String testName, SharedDriverStrategy strategy) {
+        private static String getPoolName(Class<?> testClass) {
+            String name = getPoolConfiguration(testClass).name();
+            if (name.isEmpty() && testClass != null) {
+                return testClass.getName();
+            }
+            return name;
+        }
+
+        private ConcurrentMap<ClassAndTestName, ListenableFuture<SharedWebDriver>> getDrivers(SharedDriverStrategy strategy) {
             switch (strategy) {
                 case ONCE:
-                    return onceDriver;
+                    return onceDrivers;
                 case PER_CLASS:
-                    return classDrivers.get(testClass);
+                    return classDrivers;
                 case PER_METHOD:
                 default:
-                    return testDrivers.get(new ClassAndTestName(testClass, testName));
+                    return testDrivers;
             }
         }
 
-        public synchronized void quit(SharedWebDriver driver) {
-            switch (driver.getSharedDriverStrategy()) {
+        private static ClassAndTestName getKey(Class<?> testClass, String testName, SharedDriverStrategy strategy) {
+            switch (strategy) {
                 case ONCE:
-                    if (onceDriver == driver) {
-                        if (onceDriver.getDriver() != null) {
-                            onceDriver.getDriver().quit();
-                        }
-                        onceDriver = null;
-                    }
-                    break;
+                    return ONCE_KEY;
                 case PER_CLASS:
-                    SharedWebDriver classDriver = classDrivers.remove(driver.getTestClass());
-                    if (classDriver == driver && classDriver.getDriver() != null) {
-                        classDriver.getDriver().quit();
-                    }
-                    break;
+                    return new ClassAndTestName(testClass, null);
                 case PER_METHOD:
                 default:
-                    SharedWebDriver testDriver = testDrivers
-                            .remove(new ClassAndTestName(driver.getTestClass(), driver.getTestName()));
-                    if (testDriver == driver && testDriver.getDriver() != null) {
-                        testDriver.getDriver().quit();
-                    }
-                    break;
+                    return new ClassAndTestName(testClass, testName);
+            }
+        }
+
+        private static SharedWebDriver getDriver(ListenableFuture<SharedWebDriver> future) {
+            if (future == null) {
+                return null;
+            }
+            try {
+                return getUninterruptibly(future);
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+
+        public <T> SharedWebDriver getDriver(Class<T> testClass, String testName, SharedDriverStrategy strategy) {
+            return getDriver(getDrivers(strategy).get(getKey(testClass, testName, strategy)));
+        }
+
+        public void quit(SharedWebDriver driver) {
+            if (remove(driver)) {
+                quitDriver(driver);
+            }
+        }
+
+        private boolean remove(SharedWebDriver driver) {
+            ConcurrentMap<ClassAndTestName, ListenableFuture<SharedWebDriver>> drivers = getDrivers(driver.getSharedDriverStrategy());
+            ClassAndTestName key = getKey(driver.getTestClass(), driver.getTestName(), driver.getSharedDriverStrategy());
+
+            ListenableFuture<SharedWebDriver> future = drivers.get(key);
+            return future != null && future.isDone() && getDriver(future) == driver && drivers.remove(key, future);
+        }
+
+        private void quitDriver(SharedWebDriver driver) {
+            if (driver.getDriver() == null) {
+                return;
             }
+            if (driver.getSharedDriverStrategy() == SharedDriverStrategy.POOLED) {
+                WebDriverPool pool = pools.get(getPoolName(driver.getTestClass()));
+                if (pool != null) {
+                    pool.release(driver.getDriver());
+                    return;
+                }
+            }
+            driver.getDriver().quit();
         }
 
         /**
@@ -149,60 +257,134 @@ public enum SharedWebDriverContainer {
          *
          * @return List of {@link SharedWebDriver}
          */
-        public synchronized List<SharedWebDriver> getAllDrivers() {
+        public List<SharedWebDriver> getAllDrivers() {
             List<SharedWebDriver> drivers = new ArrayList<>();
-
-            if (onceDriver != null) {
-                drivers.add(onceDriver);
-            }
-            for (SharedWebDriver classDriver : classDrivers.values()) {
-                drivers.add(classDriver);
-            }
-
-            for (SharedWebDriver testDriver : testDrivers.values()) {
-                drivers.add(testDriver);
-            }
-
+            addDrivers(drivers, onceDrivers, null);
+            addDrivers(drivers, classDrivers, null);
+            addDrivers(drivers, testDrivers, null);
             return Collections.unmodifiableList(drivers);
         }
 
         /**
          * Get all WebDriver of this container for given class.
          */
-        public synchronized List<SharedWebDriver> getTestClassDrivers(Class<?> testClass) {
+        public List<SharedWebDriver> getTestClassDrivers(Class<?> testClass) {
             List<SharedWebDriver> drivers = new ArrayList<>();
+            addDrivers(drivers, classDrivers, testClass);
+            addDrivers(drivers, testDrivers, testClass);
+            return Collections.unmodifiableList(drivers);
+        }
 
-            SharedWebDriver classDriver = classDrivers.get(testClass);
-            if (classDriver != null) {
-                drivers.add(classDriver);
+        private static void addDrivers(List<SharedWebDriver> drivers,
+                Map<ClassAndTestName, ListenableFuture<SharedWebDriver>> futures, Class<?> testClass) {
+            for (Map.Entry<ClassAndTestName, ListenableFuture<SharedWebDriver>> entry : futures.entrySet()) {
+                if (testClass != null && entry.getKey().testClass != testClass || !entry.getValue().isDone()) {
+                    continue;
+                }
+                SharedWebDriver driver = getDriver(entry.getValue());
+                if (driver != null) {
+                    drivers.add(driver);
+                }
             }
+        }
+
+        /**
+         * Quit all drivers of this container concurrently, waiting at most {@link SharedWebDriverContainer#DEFAULT_QUIT_TIMEOUT_SECONDS}.
+         *
+         * @throws DriverQuitException if some drivers failed to quit or didn't quit in time
+         */
+        public void quitAll() {
+            quitAll(DEFAULT_QUIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
 
-            for (SharedWebDriver testDriver : testDrivers.values()) {
-                if (testDriver.getTestClass() == testClass) {
-                    drivers.add(testDriver);
+        /**
+         * Quit all drivers of this container concurrently. Drivers that don't quit in time are abandoned.
+         *
+         * @param timeout maximum time to wait for drivers to quit
+         * @param unit    unit of timeout
+         * @throws DriverQuitException if some drivers failed to quit or didn't quit in time
+         */
+        public void quitAll(long timeout, TimeUnit unit) {
+            DriverQuitter quitter = new DriverQuitter();
+            removeAll(onceDrivers, quitter);
+            removeAll(classDrivers, quitter);
+            removeAll(testDrivers, quitter);
+
+            Iterator<WebDriverPool> poolsIterator = pools.values().iterator();
+            while (poolsIterator.hasNext()) {
+                WebDriverPool pool = poolsIterator.next();
+                poolsIterator.remove();
+                // Pooled drivers, active or idle, are quit with their pool.
+                for (WebDriver driver : pool.close()) {
+                    quitter.add(driver, driver);
                 }
             }
 
-            return Collections.unmodifiableList(drivers);
+            quitter.quitAll(timeout, unit);
         }
 
-        public synchronized void quitAll() {
-            if (onceDriver != null) {
-                onceDriver.getDriver().quit();
-                onceDriver = null;
+        private static void removeAll(ConcurrentMap<ClassAndTestName, ListenableFuture<SharedWebDriver>> drivers, DriverQuitter quitter) {
+            Iterator<ListenableFuture<SharedWebDriver>> iterator = drivers.values().iterator();
+            while (iterator.hasNext()) {
+                final ListenableFuture<SharedWebDriver> future = iterator.next();
+                iterator.remove();
+                if (future.isDone()) {
+                    SharedWebDriver driver = getDriver(future);
+                    if (isQuitWithContainer(driver)) {
+                        quitter.add(driver, driver.getDriver());
+                    }
+                } else {
+                    // Don't wait for a driver being created, it's quit by the creating thread once created.
+                    future.addListener(new Runnable() {
+                        @Override
+                        public void run() {
+                            SharedWebDriver driver = getDriver(future);
+                            if (isQuitWithContainer(driver)) {
+                                driver.getDriver().quit();
+                            }
+                        }
+                    }, MoreExecutors.directExecutor());
+                }
             }
+        }
 
-            Iterator<SharedWebDriver> classDriversIterator = classDrivers.values().iterator();
-            while (classDriversIterator.hasNext()) {
-                classDriversIterator.next().getDriver().quit();
-                classDriversIterator.remove();
-            }
+        private static boolean isQuitWithContainer(SharedWebDriver driver) {
+            // Pooled drivers are quit with their pool.
+            return driver != null && driver.getSharedDriverStrategy() != SharedDriverStrategy.POOLED
+                    && driver.getDriver() != null;
+        }
 
-            Iterator<SharedWebDriver> testDriversIterator = testDrivers.values().iterator();
-            while (testDriversIterator.hasNext()) {
-                testDriversIterator.next().getDriver().quit();
-                testDriversIterator.remove();
+        /**
+         * Quit given drivers concurrently, waiting at most {@link SharedWebDriverContainer#DEFAULT_QUIT_TIMEOUT_SECONDS}.
+         *
+         * @param drivers drivers to quit
+         * @throws DriverQuitException if some drivers failed to quit or didn't quit in time
+         */
+        public void quit(Collection<SharedWebDriver> drivers) {
+            quit(drivers, DEFAULT_QUIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        /**
+         * Quit given drivers concurrently. Drivers that don't quit in time are abandoned.
+         *
+         * @param drivers drivers to quit
+         * @param timeout maximum time to wait for drivers to quit
+         * @param unit    unit of timeout
+         * @throws DriverQuitException if some drivers failed to quit or didn't quit in time
+         */
+        public void quit(Collection<SharedWebDriver> drivers, long timeout, TimeUnit unit) {
+            DriverQuitter quitter = new DriverQuitter();
+            for (final SharedWebDriver driver : drivers) {
+                if (remove(driver)) {
+                    quitter.add(driver, new Runnable() {
+                        @Override
+                        public void run() {
+                            quitDriver(driver);
+                        }
+                    });
+                }
             }
+            quitter.quitAll(timeout, unit);
         }
     }
 
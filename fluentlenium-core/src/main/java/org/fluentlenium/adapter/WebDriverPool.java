@@ -0,0 +1,371 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A bounded pool of {@link WebDriver}, recycling drivers between tests instead of quitting them.
+ * <p>
+ * Released drivers are reset (windows, cookies, local and session storage, {@code about:blank}) before being reused,
+ * and quit when reset fails or when they have been used too many times. Idle drivers are started in background so
+ * that a test rarely waits for a browser to start.
+ */
+public class WebDriverPool {
+    /**
+     * Default health check, verifying that the driver still responds.
+     */
+    public static final Predicate<WebDriver> DEFAULT_HEALTH_CHECK = new DefaultHealthCheck();
+
+    /**
+     * Health check verifying that the driver still responds, by reading its current window handle.
+     */
+    public static class DefaultHealthCheck implements Predicate<WebDriver> {
+        @Override
+        public boolean apply(WebDriver driver) {
+            return driver.getWindowHandle() != null;
+        }
+    }
+
+    private static final String CLEAR_STORAGE_SCRIPT = "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private static class PooledDriver {
+        private final WebDriver driver;
+
+        private int uses;
+
+        PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    private final Supplier<WebDriver> webDriverFactory;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final int maxReuse;
+
+    private final Predicate<WebDriver> healthCheck;
+
+    private final ExecutorService refillExecutor;
+
+    private final Deque<PooledDriver> idle = new ArrayDeque<>();
+
+    private final Map<WebDriver, PooledDriver> active = new IdentityHashMap<>();
+
+    private int creating;
+
+    private int refilling;
+
+    private int recycling;
+
+    private boolean closed;
+
+    /**
+     * Creates a new pool with the default health check.
+     *
+     * @param webDriverFactory supplier of new drivers
+     * @param minSize          number of idle drivers to keep started in background
+     * @param maxSize          maximum number of drivers started at the same time
+     * @param maxReuse         number of uses before a driver is replaced, 0 for unlimited
+     */
+    public WebDriverPool(Supplier<WebDriver> webDriverFactory, int minSize, int maxSize, int maxReuse) {
+        this(webDriverFactory, minSize, maxSize, maxReuse, DEFAULT_HEALTH_CHECK);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param webDriverFactory supplier of new drivers
+     * @param minSize          number of idle drivers to keep started in background
+     * @param maxSize          maximum number of drivers started at the same time
+     * @param maxReuse         number of uses before a driver is replaced, 0 for unlimited
+     * @param healthCheck      predicate checking that an idle driver can still be used
+     */
+    public WebDriverPool(Supplier<WebDriver> webDriverFactory, int minSize, int maxSize, int maxReuse,
+                         Predicate<WebDriver> healthCheck) {
+        if (maxSize < 1 || minSize < 0 || minSize > maxSize || maxReuse < 0) {
+            throw new IllegalArgumentException("Invalid pool size (min=" + minSize + ", max=" + maxSize
+                    + ", maxReuse=" + maxReuse + ")");
+        }
+        this.webDriverFactory = webDriverFactory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.maxReuse = maxReuse;
+        this.healthCheck = healthCheck;
+        this.refillExecutor = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("fluentlenium-driver-pool-%d").build());
+    }
+
+    /**
+     * Start idle drivers in background, up to the minimum size of the pool.
+     */
+    public void prewarm() {
+        refill();
+    }
+
+    /**
+     * Get a driver from the pool, creating a new one if no idle driver is available. Blocks while the pool is full.
+     *
+     * @return driver
+     */
+    public WebDriver acquire() {
+        while (true) {
+            PooledDriver pooled;
+            synchronized (this) {
+                while (!closed && idle.isEmpty() && (refilling > 0 || size() >= maxSize)) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a driver", e);
+                    }
+                }
+                checkOpen();
+                pooled = idle.pollFirst();
+                if (pooled == null) {
+                    creating++;
+                } else {
+                    recycling++;
+                }
+            }
+
+            boolean created = pooled == null;
+            if (created) {
+                pooled = create();
+            } else if (!isHealthy(pooled.driver)) {
+                discard(pooled.driver);
+                continue;
+            }
+
+            boolean open;
+            synchronized (this) {
+                if (created) {
+                    creating--;
+                } else {
+                    recycling--;
+                }
+                open = !closed;
+                if (open) {
+                    pooled.uses++;
+                    active.put(pooled.driver, pooled);
+                }
+            }
+            if (!open) {
+                quitQuietly(pooled.driver);
+                throw new IllegalStateException("Driver pool is closed");
+            }
+            refill();
+            return pooled.driver;
+        }
+    }
+
+    /**
+     * Give back a driver acquired from this pool. It is reset and kept for another test, or quit if it can't be
+     * reused.
+     *
+     * @param driver driver to release
+     */
+    public void release(WebDriver driver) {
+        PooledDriver pooled;
+        synchronized (this) {
+            pooled = active.remove(driver);
+            if (pooled != null) {
+                recycling++;
+            }
+        }
+        if (pooled == null) {
+            quitQuietly(driver);
+            return;
+        }
+
+        if ((maxReuse == 0 || pooled.uses < maxReuse) && reset(driver)) {
+            synchronized (this) {
+                if (!closed) {
+                    recycling--;
+                    idle.addFirst(pooled);
+                    notifyAll();
+                    return;
+                }
+            }
+        }
+        discard(driver);
+    }
+
+    /**
+     * Quit all drivers of this pool, including drivers that are still in use, and stop background refill.
+     */
+    public void quitAll() {
+        for (WebDriver driver : close()) {
+            quitQuietly(driver);
+        }
+    }
+
+    /**
+     * Close this pool and stop background refill, without quitting its drivers.
+     *
+     * @return idle and active drivers of this pool, that should be quit by the caller
+     */
+    List<WebDriver> close() {
+        List<WebDriver> drivers = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (PooledDriver pooled : idle) {
+                drivers.add(pooled.driver);
+            }
+            drivers.addAll(active.keySet());
+            idle.clear();
+            active.clear();
+            notifyAll();
+        }
+        refillExecutor.shutdownNow();
+        return drivers;
+    }
+
+    /**
+     * Get the number of idle drivers.
+     *
+     * @return number of idle drivers
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Get the number of drivers currently acquired.
+     *
+     * @return number of active drivers
+     */
+    public synchronized int getActiveCount() {
+        return active.size();
+    }
+
+    private int size() {
+        return idle.size() + active.size() + creating + refilling + recycling;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is closed");
+        }
+    }
+
+    private PooledDriver create() {
+        try {
+            return new PooledDriver(webDriverFactory.get());
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                creating--;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return healthCheck.apply(driver);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            Iterator<String> handles = driver.getWindowHandles().iterator();
+            if (handles.hasNext()) {
+                String mainHandle = handles.next();
+                while (handles.hasNext()) {
+                    driver.switchTo().window(handles.next());
+                    driver.close();
+                }
+                driver.switchTo().window(mainHandle);
+            }
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void discard(WebDriver driver) {
+        quitQuietly(driver);
+        synchronized (this) {
+            recycling--;
+            notifyAll();
+        }
+        refill();
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            // Driver is already unusable.
+        }
+    }
+
+    private void refill() {
+        synchronized (this) {
+            if (closed || idle.size() + refilling >= minSize || size() >= maxSize) {
+                return;
+            }
+            refilling++;
+        }
+        try {
+            refillExecutor.execute(new RefillTask());
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                refilling--;
+                notifyAll();
+            }
+        }
+    }
+
+    private class RefillTask implements Runnable {
+        @Override
+        public void run() {
+            WebDriver driver = null;
+            try {
+                driver = webDriverFactory.get();
+            } catch (RuntimeException e) {
+                // Driver will be created on demand by acquire, which reports the error.
+                return;
+            } finally {
+                boolean quit;
+                synchronized (WebDriverPool.this) {
+                    refilling--;
+                    quit = closed;
+                    if (driver != null && !closed) {
+                        idle.addLast(new PooledDriver(driver));
+                    }
+                    WebDriverPool.this.notifyAll();
+                }
+                if (quit && driver != null) {
+                    quitQuietly(driver);
+                }
+            }
+            refill();
+        }
+    }
+}
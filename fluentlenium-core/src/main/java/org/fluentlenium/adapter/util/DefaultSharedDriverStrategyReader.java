@@ -17,6 +17,10 @@ public class DefaultSharedDriverStrategyReader implements SharedDriverStrategyRe
             return SharedDriverStrategy.PER_CLASS;
         }
 
+        if (sharedDriver.value() == SharedDriver.SharedType.POOLED) {
+            return SharedDriverStrategy.POOLED;
+        }
+
         return SharedDriverStrategy.PER_METHOD;
     }
 }
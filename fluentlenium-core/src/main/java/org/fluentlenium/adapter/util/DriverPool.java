@@ -0,0 +1,59 @@
+package org.fluentlenium.adapter.util;
+
+import com.google.common.base.Predicate;
+import org.fluentlenium.adapter.WebDriverPool;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configure the pool of Selenium WebDriver used by test classes having
+ * {@code @SharedDriver(SharedDriver.SharedType.POOLED)}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface DriverPool {
+    /**
+     * Name of the pool. Test classes using the same pool name share the same drivers, so they should create the
+     * same kind of driver. When empty, each test class has its own pool.
+     *
+     * @return name of the pool
+     */
+    String name() default "";
+
+    /**
+     * Number of idle drivers the pool keeps started in background.
+     *
+     * @return minimum number of idle drivers
+     */
+    int minSize() default 1;
+
+    /**
+     * Maximum number of drivers started at the same time by the pool.
+     *
+     * @return maximum number of drivers
+     */
+    int maxSize() default 4;
+
+    /**
+     * Number of tests a driver can be used for before being quit and replaced. 0 means unlimited.
+     *
+     * @return maximum number of uses of a driver
+     */
+    int maxReuse() default 50;
+
+    /**
+     * Check run on an idle driver before giving it to a test. A driver failing the check is quit and replaced.
+     * <p>
+     * The class must be public and have a public no-arg constructor. The default check reads the current window
+     * handle; a remote grid may need a cheaper or stricter check, like a ping of the session.
+     *
+     * @return class of the health check
+     */
+    Class<? extends Predicate<WebDriver>> healthCheck() default WebDriverPool.DefaultHealthCheck.class;
+}
@@ -17,7 +17,7 @@ public @interface SharedDriver {
      * SharedType possible values.
      */
     enum SharedType {
-        ONCE, PER_CLASS, PER_METHOD
+        ONCE, PER_CLASS, PER_METHOD, POOLED
     }
 
     /**
@@ -4,5 +4,6 @@ package org.fluentlenium.adapter.util;
 public enum SharedDriverStrategy {
     ONCE,
     PER_CLASS,
-    PER_METHOD
+    PER_METHOD,
+    POOLED
 }
@@ -1,5 +1,6 @@
 package org.fluentlenium.adapter.util;
 
+import org.fluentlenium.adapter.DriverQuitException;
 import org.fluentlenium.adapter.SharedWebDriverContainer;
 
 public class SharedWebDriverContainerShutdownHook extends Thread {
@@ -10,6 +11,12 @@ public class SharedWebDriverContainerShutdownHook extends Thread {
 
     @Override
     public synchronized void start() {
-        SharedWebDriverContainer.INSTANCE.quitAll();
+        try {
+            SharedWebDriverContainer.INSTANCE.quitAll();
+        } catch (DriverQuitException e) {
+            // Exceptions can't be propagated from a shutdown hook. The stack trace includes the error of each driver, as
+            // suppressed exceptions.
+            e.printStackTrace();
+        }
     }
 }
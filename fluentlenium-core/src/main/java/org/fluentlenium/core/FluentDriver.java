@@ -1,8 +1,6 @@
 package org.fluentlenium.core;
 
 import lombok.experimental.Delegate;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.fluentlenium.core.action.KeyboardActions;
 import org.fluentlenium.core.action.MouseActions;
 import org.fluentlenium.core.alert.Alert;
@@ -12,7 +10,10 @@ import org.fluentlenium.core.events.EventsRegistry;
 import org.fluentlenium.core.filter.Filter;
 import org.fluentlenium.core.inject.FluentInjector;
 import org.fluentlenium.core.script.FluentJavascript;
+import org.fluentlenium.core.script.ScriptTimeouts;
+import org.fluentlenium.core.search.ImplicitWaits;
 import org.fluentlenium.core.search.Search;
+import org.fluentlenium.core.snapshot.SnapshotWriter;
 import org.fluentlenium.core.wait.FluentWait;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Cookie;
@@ -24,14 +25,16 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.events.EventFiringWebDriver;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.PrintWriter;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+
 /**
  * Util Class which offers some shortcut to webdriver methods
  */
@@ -112,6 +115,21 @@ public class FluentDriver implements FluentDriverControl {
     @Override
     public FluentDriver withDefaultSearchWait(long l, TimeUnit timeUnit) {
         this.getDriver().manage().timeouts().implicitlyWait(l, timeUnit);
+        ImplicitWaits.INSTANCE.register(getDriver(), timeUnit.toMillis(l));
+        return this;
+    }
+
+    /**
+     * Define the time to wait for an asynchronous script to finish
+     *
+     * @param l        timeout value
+     * @param timeUnit time unit for wait
+     * @return Fluent element
+     */
+    @Override
+    public FluentDriver withDefaultScriptTimeout(long l, TimeUnit timeUnit) {
+        this.getDriver().manage().timeouts().setScriptTimeout(l, timeUnit);
+        ScriptTimeouts.INSTANCE.register(getDriver(), timeUnit.toMillis(l));
         return this;
     }
 
@@ -122,32 +140,19 @@ public class FluentDriver implements FluentDriverControl {
 
     @Override
     public void takeHtmlDump(String fileName) {
-        File destFile = null;
+        waitSnapshot(takeHtmlDumpAsync(fileName), "error when dumping HTML");
+    }
+
+    @Override
+    public Future<File> takeHtmlDumpAsync(String fileName) {
+        File destFile = getSnapshotFile(configuration.getHtmlDumpPath(), fileName);
+        String html;
         try {
-            if (configuration.getHtmlDumpPath() != null) {
-                destFile = Paths.get(configuration.getHtmlDumpPath(), fileName).toFile();
-            } else {
-                destFile = new File(fileName);
-            }
-            String html;
-            synchronized (FluentDriver.class) {
-                html = this.findFirst("html").html();
-            }
-            FileUtils.write(destFile, html, "UTF-8");
+            html = this.findFirst("html").html();
         } catch (Exception e) {
-            if (destFile == null) {
-                destFile = new File(fileName);
-            }
-            try {
-                PrintWriter printWriter = new PrintWriter(destFile, "UTF-8");
-                printWriter.write("Can't dump HTML");
-                printWriter.println();
-                e.printStackTrace(printWriter);
-                IOUtils.closeQuietly(printWriter);
-            } catch (IOException e1) {
-                throw new RuntimeException("error when dumping HTML", e);
-            }
+            return SnapshotWriter.INSTANCE.write(destFile, "Can't dump HTML", e);
         }
+        return SnapshotWriter.INSTANCE.writeOrReport(destFile, html, "Can't dump HTML");
     }
 
     @Override
@@ -162,23 +167,31 @@ public class FluentDriver implements FluentDriverControl {
 
     @Override
     public void takeScreenShot(String fileName) {
+        waitSnapshot(takeScreenShotAsync(fileName), "error when taking the snapshot");
+    }
+
+    @Override
+    public Future<File> takeScreenShotAsync(String fileName) {
         if (!canTakeScreenShot()) {
             throw new WebDriverException("Current browser doesn't allow taking screenshot.");
         }
-        File scrFile = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.FILE);
+        byte[] screenshot = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.BYTES);
+        return SnapshotWriter.INSTANCE.write(getSnapshotFile(configuration.getScreenshotPath(), fileName), screenshot);
+    }
+
+    private static File getSnapshotFile(String path, String fileName) {
+        if (path != null) {
+            return Paths.get(path, fileName).toFile();
+        }
+        return new File(fileName);
+    }
+
+    private static void waitSnapshot(Future<File> snapshot, String errorMessage) {
         try {
-            File destFile;
-            if (configuration.getScreenshotPath() != null) {
-                destFile = Paths.get(configuration.getScreenshotPath(), fileName).toFile();
-            } else {
-                destFile = new File(fileName);
-            }
-            FileUtils.copyFile(scrFile, destFile);
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException("error when taking the snapshot", e);
+            getUninterruptibly(snapshot);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(errorMessage, e.getCause());
         }
-        FileUtils.deleteQuietly(scrFile);
     }
 
     @Override
@@ -226,7 +239,11 @@ public class FluentDriver implements FluentDriverControl {
 
     @Override
     public FluentWait await() {
-        return new FluentWait(this, getSearch());
+        FluentWait wait = new FluentWait(this, getSearch());
+        if (configuration != null && configuration.getPollingSchedule() != null) {
+            wait.pollingWith(configuration.getPollingSchedule());
+        }
+        return wait;
     }
 
     @Override
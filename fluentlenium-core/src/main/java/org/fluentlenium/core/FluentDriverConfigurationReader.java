@@ -1,5 +1,7 @@
 package org.fluentlenium.core;
 
+import org.fluentlenium.core.wait.PollingSchedule;
+
 public interface FluentDriverConfigurationReader {
     enum TriggerMode {ON_FAIL, NEVER}
 
@@ -10,4 +12,10 @@ public interface FluentDriverConfigurationReader {
     TriggerMode getScreenshotMode();
 
     TriggerMode getHtmlDumpMode();
+
+    PollingSchedule getPollingSchedule();
+
+    String getWaitReportPath();
+
+    Long getWaitBudget();
 }
@@ -33,4 +33,13 @@ public interface FluentDriverControl extends FluentControl, WrapsDriver {
      * @return Fluent element
      */
     FluentDriverControl withDefaultSearchWait(long l, TimeUnit timeUnit);
+
+    /**
+     * Define the time to wait for an asynchronous script to finish
+     *
+     * @param l        timeout value
+     * @param timeUnit time unit for wait
+     * @return Fluent element
+     */
+    FluentDriverControl withDefaultScriptTimeout(long l, TimeUnit timeUnit);
 }
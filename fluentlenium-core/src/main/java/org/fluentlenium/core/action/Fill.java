@@ -8,6 +8,10 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
 public class Fill<E extends FluentWebElement> extends AbstractFill<E> {
+    private boolean fast;
+
+    private String keystrokes;
+
     public Fill(FluentList<E> list) {
         super(list);
     }
@@ -23,7 +27,39 @@ public class Fill<E extends FluentWebElement> extends AbstractFill<E> {
      * @return fill constructor
      */
     public Fill with(String... textValues) {
-        findElements().text(textValues);
+        if (!fast || !FillScript.fill(findElements(), keystrokes, textValues)) {
+            findElements().text(textValues);
+        }
+        return this;
+    }
+
+    /**
+     * Fill text inputs and textareas with a single script call, setting their value and dispatching {@code input} and
+     * {@code change} events instead of sending keystrokes.
+     * <p>
+     * Other fields, like file inputs or checkboxes, are still filled with keystrokes. When the driver can't execute
+     * javascript, all fields are filled with keystrokes.
+     * <p>
+     * When several values are given, displayed fields are found with WebDriver, so that each value goes to the same
+     * field as without fast mode. With a single value, the browser decides which fields are displayed, which may differ
+     * from WebDriver in edge cases, like fields of zero size.
+     *
+     * @return fill constructor
+     */
+    public Fill fast() {
+        fast = true;
+        return this;
+    }
+
+    /**
+     * Fill fields matching the css selector with real keystrokes in fast mode, for fields relying on keyboard events.
+     *
+     * @param cssSelector css selector of fields to fill with keystrokes
+     * @return fill constructor
+     * @see #fast()
+     */
+    public Fill keystrokes(String cssSelector) {
+        keystrokes = cssSelector;
         return this;
     }
 
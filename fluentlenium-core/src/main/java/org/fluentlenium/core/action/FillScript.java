@@ -0,0 +1,111 @@
+package org.fluentlenium.core.action;
+
+import org.fluentlenium.core.conditions.ConditionScript;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.script.BatchJavascript;
+import org.openqa.selenium.NoSuchElementException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fill text fields of a list with a single script call.
+ * <p>
+ * Values are assigned to displayed elements like {@link FluentList#text(String...)} does. Text inputs and textareas
+ * that are enabled and not read-only get their value set by the script, which then dispatches {@code input} and
+ * {@code change} events. Other elements, and elements matching the keystrokes selector, are filled with real keystrokes
+ * afterwards.
+ * <p>
+ * When several values are given, the value of an element depends on the elements displayed before it, so visibility
+ * is checked with WebDriver before the script is executed. With a single value, visibility is decided by the browser,
+ * which only approximates WebDriver semantics.
+ */
+class FillScript {
+    private static final String FILL_SCRIPT = ConditionScript.VERIFY_FUNCTIONS
+            + "function fire(e, type) {"
+            + "var event = document.createEvent('HTMLEvents');"
+            + "event.initEvent(type, true, false);"
+            + "e.dispatchEvent(event);"
+            + "}"
+            + "function settable(e, keystrokes) {"
+            + "if (e.readOnly) { return false; }"
+            + "if (keystrokes) {"
+            + "var matches = e.matches || e.msMatchesSelector || e.webkitMatchesSelector;"
+            + "if (matches.call(e, keystrokes)) { return false; }"
+            + "}"
+            + "var tag = e.tagName.toLowerCase();"
+            + "if (tag === 'textarea') { return true; }"
+            + "var type = (e.getAttribute('type') || 'text').toLowerCase();"
+            + "return tag === 'input' && ['text', 'search', 'email', 'url', 'tel', 'password', 'number'].indexOf(type) >= 0;"
+            + "}"
+            + "function setValue(e, v) {"
+            + "if (e.maxLength >= 0 && v.length > e.maxLength) { v = v.substring(0, e.maxLength); }"
+            + "var d = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(e), 'value');"
+            + "if (d && d.set) { d.set.call(e, v); } else { e.value = v; }"
+            + "fire(e, 'input');"
+            + "fire(e, 'change');"
+            + "}"
+            + "var elements = arguments[0], values = arguments[1], keystrokes = arguments[2], shown = arguments[3],"
+            + " r = [], id = 0;"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "var e = elements[i];"
+            + "if (!(shown ? shown[i] : displayed(e))) { r.push(null); continue; }"
+            + "var v = id < values.length ? values[id++] : values[values.length - 1];"
+            + "if (!enabled(e)) { r.push(null); continue; }"
+            + "if (settable(e, keystrokes)) { setValue(e, v); r.push(true); } else { r.push(v); }"
+            + "}"
+            + "return r;";
+
+    private FillScript() {
+        // Utility class
+    }
+
+    /**
+     * Fill the elements with the given values.
+     *
+     * @param elements   elements to fill
+     * @param keystrokes css selector of elements to fill with real keystrokes, or null
+     * @param values     values to set
+     * @return true if elements have been filled, false if the script can't be used and elements must be filled with
+     * {@link FluentList#text(String...)}
+     * @throws NoSuchElementException if no element is displayed and enabled
+     */
+    static boolean fill(List<? extends FluentWebElement> elements, String keystrokes, String... values) {
+        if (values.length == 0 || Arrays.asList(values).contains(null)) {
+            return false;
+        }
+        BatchJavascript batch = BatchJavascript.of(elements);
+        if (batch == null) {
+            return false;
+        }
+        List<Boolean> displayed = null;
+        if (values.length > 1) {
+            displayed = new ArrayList<>(elements.size());
+            for (FluentWebElement element : elements) {
+                displayed.add(element.isDisplayed());
+            }
+        }
+        List<?> results = batch.execute(FILL_SCRIPT, Arrays.asList(values), keystrokes == null ? "" : keystrokes,
+                displayed);
+        if (results == null) {
+            return false;
+        }
+
+        boolean atMostOne = false;
+        for (int i = 0; i < results.size(); i++) {
+            Object result = results.get(i);
+            if (result instanceof String) {
+                elements.get(i).text((String) result);
+                atMostOne = true;
+            } else if (Boolean.TRUE.equals(result)) {
+                atMostOne = true;
+            }
+        }
+        if (!atMostOne) {
+            throw new NoSuchElementException("No element is displayed and enabled. Can't set a new value.");
+        }
+        return true;
+    }
+}
@@ -10,8 +10,11 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.Iterator;
+import java.util.List;
 
 public class FillSelect<E extends FluentWebElement> extends AbstractFill<E> {
+    private boolean fast;
+
     public FillSelect(FluentList<E> list) {
         super(list);
     }
@@ -33,6 +36,48 @@ public class FillSelect<E extends FluentWebElement> extends AbstractFill<E> {
         return elements;
     }
 
+    /**
+     * Select options of all select elements with a single script call, instead of several driver calls for each
+     * select element and option.
+     * <p>
+     * Options are selected by setting their {@code selected} property, and {@code input} and {@code change} events are
+     * dispatched instead of mouse events. When the driver can't execute javascript, options are selected with
+     * {@link Select}.
+     *
+     * @return fill select constructor
+     */
+    public FillSelect fast() {
+        fast = true;
+        return this;
+    }
+
+    /**
+     * Select options with a single script call if fast mode is enabled, and remove elements that are not select from
+     * the list like {@link #findElements()} does.
+     *
+     * @param by            option property to match
+     * @param argument      value of option property
+     * @param stopOnMissing true to skip next select elements once a select has no matching option
+     * @return result of each remaining element, or null if options must be selected with {@link Select}
+     */
+    private List<Integer> selectWithScript(String by, String argument, boolean stopOnMissing) {
+        if (!fast) {
+            return null;
+        }
+        FluentList<E> elements = super.findElements();
+        List<Integer> results = FillSelectScript.select(elements, by, argument, stopOnMissing);
+        if (results == null) {
+            return null;
+        }
+        for (int i = results.size() - 1; i >= 0; i--) {
+            if (results.get(i) == FillSelectScript.NOT_SELECT) {
+                elements.remove(i);
+                results.remove(i);
+            }
+        }
+        return results;
+    }
+
     /**
      * Select all options that have a value matching the argument for the Select element.
      *
@@ -40,6 +85,17 @@ public class FillSelect<E extends FluentWebElement> extends AbstractFill<E> {
      * @return fill select constructor
      */
     public FillSelect withValue(String value) {
+        List<Integer> results = selectWithScript(FillSelectScript.BY_VALUE, value, true);
+        if (results != null) {
+            if (results.isEmpty()) {
+                throw new NoSuchElementException("No select element found");
+            }
+            if (results.contains(FillSelectScript.NO_OPTION)) {
+                throw new NoSuchElementException("Cannot locate option with value: " + value);
+            }
+            return this;
+        }
+
         FluentList<E> elements = findElements();
 
         if (elements.size() == 0) {
@@ -60,6 +116,14 @@ public class FillSelect<E extends FluentWebElement> extends AbstractFill<E> {
      * @return fill select constructor
      */
     public FillSelect withIndex(int index) {
+        List<Integer> results = selectWithScript(FillSelectScript.BY_INDEX, String.valueOf(index), false);
+        if (results != null) {
+            if (!results.contains(FillSelectScript.SELECTED)) {
+                throw new NoSuchElementException("No select element found with option index=" + index);
+            }
+            return this;
+        }
+
         boolean noSuchElement = true;
         for (E element : findElements()) {
             Select select = new Select(element.getElement());
@@ -84,6 +148,17 @@ public class FillSelect<E extends FluentWebElement> extends AbstractFill<E> {
      * @return fill select constructor
      */
     public FillSelect withText(String text) {
+        List<Integer> results = selectWithScript(FillSelectScript.BY_TEXT, text, true);
+        if (results != null) {
+            if (results.isEmpty()) {
+                throw new NoSuchElementException("No select element found");
+            }
+            if (results.contains(FillSelectScript.NO_OPTION)) {
+                throw new NoSuchElementException("Cannot locate element with text: " + text);
+            }
+            return this;
+        }
+
         FluentList<E> elements = findElements();
 
         if (elements.size() == 0) {
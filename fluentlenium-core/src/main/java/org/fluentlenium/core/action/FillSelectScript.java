@@ -0,0 +1,111 @@
+package org.fluentlenium.core.action;
+
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.script.BatchJavascript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Select options of a list of select elements with a single script call.
+ * <p>
+ * Options are matched like {@link org.openqa.selenium.support.ui.Select} does: all matching options are selected in a
+ * multiple select, and only the first one otherwise. The select element then dispatches {@code input} and
+ * {@code change} events if its selection has changed.
+ */
+class FillSelectScript {
+    static final String BY_VALUE = "value";
+
+    static final String BY_INDEX = "index";
+
+    static final String BY_TEXT = "text";
+
+    /**
+     * Element is not a select.
+     */
+    static final int NOT_SELECT = -1;
+
+    /**
+     * No option of the select is matching.
+     */
+    static final int NO_OPTION = 0;
+
+    /**
+     * Matching options have been selected.
+     */
+    static final int SELECTED = 1;
+
+    /**
+     * Select has been skipped, as a previous select has no matching option.
+     */
+    static final int SKIPPED = 2;
+
+    private static final String SELECT_SCRIPT = "function fire(e, type) {"
+            + "var event = document.createEvent('HTMLEvents');"
+            + "event.initEvent(type, true, false);"
+            + "e.dispatchEvent(event);"
+            + "}"
+            + "function normalize(s) { return s.replace(/[ \\t\\r\\n]+/g, ' ').replace(/^ | $/g, ''); }"
+            + "function matches(o, by, arg) {"
+            + "if (by === 'value') { return o.value === arg; }"
+            + "if (by === 'index') { return String(o.index) === arg; }"
+            + "var t = o.textContent || '';"
+            + "return normalize(t) === arg || normalize(t.replace(/\\u00a0/g, ' ')) === arg;"
+            + "}"
+            + "var elements = arguments[0], by = arguments[1], arg = arguments[2], stop = arguments[3], r = [],"
+            + " stopped = false;"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "var e = elements[i];"
+            + "if (e.tagName.toLowerCase() !== 'select') { r.push(-1); continue; }"
+            + "if (stopped) { r.push(2); continue; }"
+            + "var found = false, changed = false;"
+            + "for (var j = 0; j < e.options.length; j++) {"
+            + "var o = e.options[j];"
+            + "if (!matches(o, by, arg)) { continue; }"
+            + "found = true;"
+            + "if (!o.selected && !o.disabled) { o.selected = true; changed = true; }"
+            + "if (!e.multiple) { break; }"
+            + "}"
+            + "if (changed) { fire(e, 'input'); fire(e, 'change'); }"
+            + "r.push(found ? 1 : 0);"
+            + "stopped = stop && !found;"
+            + "}"
+            + "return r;";
+
+    private FillSelectScript() {
+        // Utility class
+    }
+
+    /**
+     * Select matching options of each select element.
+     *
+     * @param elements      elements, that may contain other elements than select
+     * @param by            {@link #BY_VALUE}, {@link #BY_INDEX} or {@link #BY_TEXT}
+     * @param argument      value, index or text of options to select
+     * @param stopOnMissing true to skip next select elements once a select has no matching option
+     * @return {@link #NOT_SELECT}, {@link #NO_OPTION}, {@link #SELECTED} or {@link #SKIPPED} for each element, or null if
+     * the driver can't execute this script.
+     */
+    static List<Integer> select(List<? extends FluentWebElement> elements, String by, String argument,
+            boolean stopOnMissing) {
+        if (argument == null) {
+            return null;
+        }
+        BatchJavascript batch = BatchJavascript.of(elements);
+        if (batch == null) {
+            return null;
+        }
+        List<?> values = batch.execute(SELECT_SCRIPT, by, argument, stopOnMissing);
+        if (values == null) {
+            return null;
+        }
+        List<Integer> results = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (!(value instanceof Number)) {
+                return null;
+            }
+            results.add(((Number) value).intValue());
+        }
+        return results;
+    }
+}
@@ -47,14 +47,47 @@ public abstract class AbstractFluentListConditions implements FluentListConditio
         return isVerified(predicate, false);
     }
 
+    /**
+     * Get the result of an element deciding the result of the whole list, so that other elements don't need to be
+     * evaluated.
+     *
+     * @return false if each element must verify the condition, true if one element is enough
+     */
+    protected abstract boolean getDecisiveValue();
+
+    /**
+     * Check a built-in condition.
+     * <p>
+     * When the browser evaluates this condition like WebDriver, it is evaluated for all elements by a single script
+     * call, stopping at the first decisive element. Otherwise, like for displayed, enabled, selected, clickable and text
+     * conditions, the browser result would have to be confirmed by a WebDriver call per element, costing more than the
+     * script saves, so the predicate is evaluated on each element until the decisive one.
+     *
+     * @param condition condition name, as defined in {@link ConditionScript}
+     * @param predicate predicate giving the condition result of an element with WebDriver
+     * @param arguments condition arguments
+     * @return true if the condition is verified
+     */
+    protected boolean isVerified(String condition, Predicate<FluentWebElement> predicate, String... arguments) {
+        if (ConditionScript.isApproximated(condition)) {
+            return isVerified(predicate, false);
+        }
+        boolean decisive = getDecisiveValue();
+        List<Boolean> results = ConditionScript.evaluate(elements, condition, negation, decisive, arguments);
+        if (results == null) {
+            return isVerified(predicate, false);
+        }
+        return results.contains(decisive) ? decisive : !decisive;
+    }
+
     @Override
     public boolean isClickable() {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.CLICKABLE, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.isClickable();
             }
-        }, false);
+        });
     }
 
     @Override
@@ -69,83 +102,83 @@ public abstract class AbstractFluentListConditions implements FluentListConditio
 
     @Override
     public boolean isDisplayed() {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.DISPLAYED, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().isDisplayed();
             }
-        }, false);
+        });
     }
 
     @Override
     public boolean isEnabled() {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.ENABLED, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().isEnabled();
             }
-        }, false);
+        });
     }
 
     @Override
     public boolean isSelected() {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.SELECTED, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().isSelected();
             }
-        }, false);
+        });
     }
 
     @Override
     public boolean hasText(final String text) {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.TEXT, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().hasText(text);
             }
-        }, false);
+        }, text);
     }
 
     @Override
     public boolean containsText(final String text) {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.CONTAINS_TEXT, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().containsText(text);
             }
-        }, false);
+        }, text);
     }
 
     @Override
     public boolean hasAttribute(final String attribute, final String value) {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.ATTRIBUTE, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().hasAttribute(attribute, value);
             }
-        }, false);
+        }, attribute, value);
     }
 
 
     @Override
     public boolean hasId(final String id) {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.ATTRIBUTE, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().hasId(id);
             }
-        }, false);
+        }, "id", id);
     }
 
     @Override
     public boolean hasName(final String name) {
-        return isVerified(new Predicate<FluentWebElement>() {
+        return isVerified(ConditionScript.ATTRIBUTE, new Predicate<FluentWebElement>() {
             @Override
             public boolean apply(FluentWebElement input) {
                 return input.conditions().hasName(name);
             }
-        }, false);
+        }, "name", name);
     }
 
     @Override
@@ -23,6 +23,11 @@ public class AtLeastOneElementConditions extends AbstractFluentListConditions {
         return negatedConditions;
     }
 
+    @Override
+    protected boolean getDecisiveValue() {
+        return true;
+    }
+
     @Override
     public boolean isVerified(Predicate<FluentWebElement> predicate, boolean defaultValue) {
         if (negation) {
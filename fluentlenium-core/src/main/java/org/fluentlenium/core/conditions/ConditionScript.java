@@ -0,0 +1,124 @@
+package org.fluentlenium.core.conditions;
+
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.script.BatchJavascript;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Evaluate built-in conditions on elements inside the browser.
+ * <p>
+ * Conditions on presence and attributes give the same result as WebDriver. Other conditions, like displayed, enabled
+ * or text, which relies on {@code innerText}, only approximate WebDriver semantics, so their result must be confirmed
+ * with WebDriver.
+ */
+public final class ConditionScript {
+    public static final String PRESENT = "present";
+
+    public static final String DISPLAYED = "displayed";
+
+    public static final String ENABLED = "enabled";
+
+    public static final String SELECTED = "selected";
+
+    public static final String CLICKABLE = "clickable";
+
+    public static final String TEXT = "text";
+
+    public static final String CONTAINS_TEXT = "containsText";
+
+    public static final String ATTRIBUTE = "attribute";
+
+    /**
+     * Javascript functions checking conditions on elements.
+     * <p>
+     * {@code verify(element, condition, args)} returns true if the element verifies the condition. {@code displayed(element)}
+     * and {@code enabled(element)} are also used by other scripts checking the state of elements, so that they all agree.
+     */
+    public static final String VERIFY_FUNCTIONS = BatchJavascript.ATTRIBUTE_FUNCTION + BatchJavascript.TEXT_FUNCTION
+            + "function displayed(e) {"
+            + "if (e.getClientRects().length === 0) { return false; }"
+            + "for (var n = e; n && n.nodeType === 1; n = n.parentNode) {"
+            + "var s = window.getComputedStyle(n, null);"
+            + "if (s && (s.display === 'none' || s.opacity === '0')) { return false; }"
+            + "}"
+            + "var style = window.getComputedStyle(e, null);"
+            + "return !style || style.visibility !== 'hidden';"
+            + "}"
+            + "function enabled(e) {"
+            + "try { return !e.matches(':disabled'); } catch (x) { return !e.disabled; }"
+            + "}"
+            + "function verify(e, condition, args) {"
+            + "if (condition === 'present') { return true; }"
+            + "if (condition === 'displayed') { return displayed(e); }"
+            + "if (condition === 'enabled') { return enabled(e); }"
+            + "if (condition === 'selected') { return !!(e.selected || e.checked); }"
+            + "if (condition === 'clickable') { return displayed(e) && enabled(e); }"
+            + "if (condition === 'text') { return text(e) === args[0]; }"
+            + "if (condition === 'containsText') { return text(e).indexOf(args[0]) >= 0; }"
+            + "if (condition === 'attribute') { return attr(e, args[0]) === args[1]; }"
+            + "throw new Error('Unsupported condition ' + condition);"
+            + "}";
+
+    private static final String EVALUATE_SCRIPT = VERIFY_FUNCTIONS
+            + "var elements = arguments[0], condition = arguments[1], args = arguments[2], negate = arguments[3],"
+            + " decisive = arguments[4], r = [], done = false;"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "if (done) { r.push(null); continue; }"
+            + "var v = verify(elements[i], condition, args) !== negate;"
+            + "r.push(v);"
+            + "done = v === decisive;"
+            + "}"
+            + "return r;";
+
+    private ConditionScript() {
+        // Utility class
+    }
+
+    /**
+     * Check if the browser only approximates WebDriver semantics for this condition.
+     *
+     * @param condition condition name
+     * @return true if browser result must be confirmed with WebDriver
+     */
+    public static boolean isApproximated(String condition) {
+        return !(PRESENT.equals(condition) || ATTRIBUTE.equals(condition));
+    }
+
+    /**
+     * Evaluate a condition on all elements with a single script call.
+     * <p>
+     * Evaluation stops at the first element giving the decisive value, and next elements get a null result.
+     *
+     * @param elements  elements
+     * @param condition condition name
+     * @param negation  true to negate the condition
+     * @param decisive  element result deciding the result of the whole list
+     * @param arguments condition arguments
+     * @return result of each element, or null if the condition can't be evaluated by the browser
+     */
+    static List<Boolean> evaluate(List<? extends FluentWebElement> elements, String condition, boolean negation,
+            boolean decisive, String... arguments) {
+        if (Arrays.asList(arguments).contains(null)) {
+            return null;
+        }
+        BatchJavascript batch = BatchJavascript.of(elements);
+        if (batch == null) {
+            return null;
+        }
+        List<?> values = batch.execute(EVALUATE_SCRIPT, condition, Arrays.asList(arguments), negation, decisive);
+        if (values == null) {
+            return null;
+        }
+        List<Boolean> results = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null && !(value instanceof Boolean)) {
+                return null;
+            }
+            results.add((Boolean) value);
+        }
+        return results;
+    }
+}
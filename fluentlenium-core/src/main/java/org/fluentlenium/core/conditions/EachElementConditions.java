@@ -23,6 +23,11 @@ public class EachElementConditions extends AbstractFluentListConditions {
         return negatedConditions;
     }
 
+    @Override
+    protected boolean getDecisiveValue() {
+        return false;
+    }
+
     public boolean isVerified(Predicate<FluentWebElement> predicate, boolean defaultValue) {
         if (negation) {
             predicate = Predicates.not(predicate);
@@ -0,0 +1,100 @@
+package org.fluentlenium.core.conditions;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Predicate;
+import org.fluentlenium.core.domain.ElementState;
+import org.fluentlenium.core.domain.FluentWebElement;
+
+/**
+ * Conditions on an {@link ElementState} snapshot, checked without calling the driver.
+ * <p>
+ * Only {@link #isVerified(Predicate)} runs on the element itself, as its predicate works on {@link FluentWebElement}.
+ */
+public class ElementStateConditions implements FluentConditions {
+    private final ElementState state;
+    private boolean negation;
+
+    public ElementStateConditions(ElementState state) {
+        this.state = state;
+    }
+
+    @Override
+    public ElementStateConditions not() {
+        ElementStateConditions negatedConditions = new ElementStateConditions(state);
+        negatedConditions.negation = !negation;
+        return negatedConditions;
+    }
+
+    @Override
+    public boolean isVerified(Predicate<FluentWebElement> predicate) {
+        return verify(predicate.apply(state.getElement()));
+    }
+
+    private boolean verify(boolean result) {
+        return negation != result;
+    }
+
+    @Override
+    public boolean isClickable() {
+        return verify(state.isClickable());
+    }
+
+    /**
+     * Element of a snapshot was attached to the DOM when the snapshot was taken.
+     *
+     * @return false, or true if negated
+     */
+    @Override
+    public boolean isStale() {
+        return verify(false);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return verify(state.isDisplayed());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return verify(state.isEnabled());
+    }
+
+    @Override
+    public boolean isSelected() {
+        return verify(state.isSelected());
+    }
+
+    @Override
+    public boolean hasText(String text) {
+        return verify(Objects.equal(state.getText(), text));
+    }
+
+    @Override
+    public boolean containsText(String text) {
+        return verify(state.getText() != null && text != null && state.getText().contains(text));
+    }
+
+    @Override
+    public boolean hasAttribute(String attribute, String value) {
+        return verify(Objects.equal(state.getAttribute(attribute), value));
+    }
+
+    @Override
+    public boolean hasId(String id) {
+        return verify(Objects.equal(state.getId(), id));
+    }
+
+    @Override
+    public boolean hasName(String name) {
+        return verify(Objects.equal(state.getName(), name));
+    }
+
+    @Override
+    public RectangleConditions hasRectangle() {
+        RectangleConditionsImpl conditions = new RectangleConditionsImpl(state.getRect());
+        if (negation) {
+            conditions = conditions.not();
+        }
+        return conditions;
+    }
+}
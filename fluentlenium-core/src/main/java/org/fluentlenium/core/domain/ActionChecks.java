@@ -0,0 +1,95 @@
+package org.fluentlenium.core.domain;
+
+import org.fluentlenium.core.conditions.ConditionScript;
+import org.fluentlenium.core.script.BatchJavascript;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks performed on elements of a list before an action, with a single script call for the elements of each driver.
+ * <p>
+ * Elements bound to a driver that can't execute javascript are checked with WebDriver, one element after the other.
+ * Displayed and enabled states computed by the browser may differ from WebDriver in edge cases.
+ */
+final class ActionChecks {
+    /**
+     * Element is not displayed.
+     */
+    static final int HIDDEN = 0;
+
+    /**
+     * Element is displayed, but not enabled.
+     */
+    static final int DISABLED = 1;
+
+    /**
+     * Element is displayed and enabled.
+     */
+    static final int ACTIONABLE = 2;
+
+    private static final String CHECK_SCRIPT = ConditionScript.VERIFY_FUNCTIONS
+            + "var elements = arguments[0], checkDisplayed = arguments[1], r = [];"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "var e = elements[i];"
+            + "r.push(checkDisplayed && !displayed(e) ? 0 : enabled(e) ? 2 : 1);"
+            + "}"
+            + "return r;";
+
+    private ActionChecks() {
+        // Utility class
+    }
+
+    /**
+     * Check the state of each element.
+     *
+     * @param elements       elements
+     * @param checkDisplayed true to check that elements are displayed, false to check only that they are enabled
+     * @return {@link #HIDDEN}, {@link #DISABLED} or {@link #ACTIONABLE} for each element
+     */
+    static int[] check(List<? extends FluentWebElement> elements, boolean checkDisplayed) {
+        Map<WebDriver, List<Integer>> indexesByDriver = new IdentityHashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            WebDriver driver = elements.get(i).getDriver();
+            List<Integer> indexes = indexesByDriver.get(driver);
+            if (indexes == null) {
+                indexes = new ArrayList<>();
+                indexesByDriver.put(driver, indexes);
+            }
+            indexes.add(i);
+        }
+
+        int[] states = new int[elements.size()];
+        for (List<Integer> indexes : indexesByDriver.values()) {
+            List<FluentWebElement> driverElements = new ArrayList<>(indexes.size());
+            for (Integer index : indexes) {
+                driverElements.add(elements.get(index));
+            }
+            List<?> values = checkWithJavascript(driverElements, checkDisplayed);
+            for (int i = 0; i < indexes.size(); i++) {
+                Object value = values == null ? null : values.get(i);
+                if (value instanceof Number) {
+                    states[indexes.get(i)] = ((Number) value).intValue();
+                } else {
+                    states[indexes.get(i)] = checkWithWebDriver(driverElements.get(i), checkDisplayed);
+                }
+            }
+        }
+        return states;
+    }
+
+    private static List<?> checkWithJavascript(List<FluentWebElement> elements, boolean checkDisplayed) {
+        BatchJavascript batch = BatchJavascript.of(elements);
+        return batch == null ? null : batch.execute(CHECK_SCRIPT, checkDisplayed);
+    }
+
+    private static int checkWithWebDriver(FluentWebElement element, boolean checkDisplayed) {
+        if (checkDisplayed && !element.isDisplayed()) {
+            return HIDDEN;
+        }
+        return element.isEnabled() ? ACTIONABLE : DISABLED;
+    }
+}
@@ -0,0 +1,331 @@
+package org.fluentlenium.core.domain;
+
+import org.fluentlenium.core.conditions.ConditionScript;
+import org.fluentlenium.core.conditions.ElementStateConditions;
+import org.fluentlenium.core.script.BatchJavascript;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the state of an element: text, tag name, common attributes, displayed/enabled/selected state
+ * and geometry.
+ * <p>
+ * A snapshot is read with a single script call for a whole list of elements, so repeated checks on the same state
+ * don't perform a driver call each. It doesn't reflect changes made to the element after it has been taken.
+ * <p>
+ * When the driver can execute javascript, displayed, enabled and selected states and geometry are computed by the
+ * browser, and may differ from WebDriver in edge cases. Otherwise, each value is read with WebDriver, and so is the text
+ * when the browser doesn't support {@code innerText}.
+ *
+ * @see FluentWebElement#snapshot(String...)
+ * @see FluentList#snapshot(String...)
+ */
+public final class ElementState {
+    /**
+     * Attributes always captured by a snapshot.
+     */
+    public static final List<String> DEFAULT_ATTRIBUTES = Collections.unmodifiableList(
+            Arrays.asList("id", "name", "class", "value", "type", "href", "title"));
+
+    private static final String SNAPSHOT_SCRIPT = ConditionScript.VERIFY_FUNCTIONS
+            + "var elements = arguments[0], names = arguments[1], r = [];"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "var e = elements[i], a = {}, b = e.getBoundingClientRect(), t = null;"
+            + "for (var j = 0; j < names.length; j++) { a[names[j]] = attr(e, names[j]); }"
+            + "try { t = text(e); } catch (x) { t = null; }"
+            + "r.push({tagName: e.tagName.toLowerCase(), text: t, displayed: displayed(e), enabled: enabled(e),"
+            + " selected: !!(e.selected || e.checked),"
+            + " x: Math.round(b.left + (window.pageXOffset || 0)), y: Math.round(b.top + (window.pageYOffset || 0)),"
+            + " width: Math.round(b.width), height: Math.round(b.height), attributes: a});"
+            + "}"
+            + "return r;";
+
+    private final FluentWebElement element;
+
+    private final String tagName;
+
+    private final String text;
+
+    private final Map<String, String> attributes;
+
+    private final boolean displayed;
+
+    private final boolean enabled;
+
+    private final boolean selected;
+
+    private final int x;
+
+    private final int y;
+
+    private final int width;
+
+    private final int height;
+
+    private volatile ElementStateConditions conditions;
+
+    /**
+     * Creates a new element state.
+     *
+     * @param element    element this state has been read from
+     * @param tagName    tag name
+     * @param text       visible text
+     * @param attributes captured attribute values
+     * @param displayed  displayed state
+     * @param enabled    enabled state
+     * @param selected   selected state
+     * @param rectangle  element geometry
+     */
+    public ElementState(FluentWebElement element, String tagName, String text, Map<String, String> attributes,
+            boolean displayed, boolean enabled, boolean selected, Rectangle rectangle) {
+        this.element = element;
+        this.tagName = tagName;
+        this.text = text;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.x = rectangle.getX();
+        this.y = rectangle.getY();
+        this.width = rectangle.getWidth();
+        this.height = rectangle.getHeight();
+    }
+
+    /**
+     * Read the state of each element.
+     *
+     * @param elements   elements
+     * @param attributes attributes to capture in addition to {@link #DEFAULT_ATTRIBUTES}
+     * @return immutable list of states, in the order of elements
+     */
+    static List<ElementState> read(List<? extends FluentWebElement> elements, String... attributes) {
+        Set<String> names = new LinkedHashSet<>(DEFAULT_ATTRIBUTES);
+        names.addAll(Arrays.asList(attributes));
+
+        List<ElementState> states = readWithJavascript(elements, names);
+        if (states == null) {
+            states = new ArrayList<>(elements.size());
+            for (FluentWebElement element : elements) {
+                states.add(readWithWebDriver(element, names));
+            }
+        }
+        return Collections.unmodifiableList(states);
+    }
+
+    private static List<ElementState> readWithJavascript(List<? extends FluentWebElement> elements, Set<String> names) {
+        if (names.contains(null)) {
+            return null;
+        }
+        BatchJavascript batch = BatchJavascript.of(elements);
+        if (batch == null) {
+            return null;
+        }
+        List<?> values = batch.execute(SNAPSHOT_SCRIPT, new ArrayList<>(names));
+        if (values == null) {
+            return null;
+        }
+        List<ElementState> states = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (!(values.get(i) instanceof Map)) {
+                return null;
+            }
+            Map<?, ?> value = (Map<?, ?>) values.get(i);
+            if (!(value.get("attributes") instanceof Map)) {
+                return null;
+            }
+            Map<?, ?> attributeValues = (Map<?, ?>) value.get("attributes");
+            Map<String, String> captured = new LinkedHashMap<>();
+            for (String name : names) {
+                Object attributeValue = attributeValues.get(name);
+                captured.put(name, attributeValue == null ? null : String.valueOf(attributeValue));
+            }
+            Rectangle rectangle = new Rectangle(toInt(value.get("x")), toInt(value.get("y")), toInt(value.get("height")),
+                    toInt(value.get("width")));
+            Object text = value.get("text");
+            if (text == null) {
+                // Browser doesn't support innerText
+                text = elements.get(i).getElement().getText();
+            }
+            states.add(new ElementState(elements.get(i), String.valueOf(value.get("tagName")), String.valueOf(text),
+                    captured, Boolean.TRUE.equals(value.get("displayed")), Boolean.TRUE.equals(value.get("enabled")),
+                    Boolean.TRUE.equals(value.get("selected")), rectangle));
+        }
+        return states;
+    }
+
+    private static ElementState readWithWebDriver(FluentWebElement element, Set<String> names) {
+        WebElement webElement = element.getElement();
+        Map<String, String> captured = new LinkedHashMap<>();
+        for (String name : names) {
+            captured.put(name, webElement.getAttribute(name));
+        }
+        return new ElementState(element, webElement.getTagName(), webElement.getText(), captured, webElement.isDisplayed(),
+                webElement.isEnabled(), isSelected(webElement), webElement.getRect());
+    }
+
+    private static boolean isSelected(WebElement webElement) {
+        try {
+            return webElement.isSelected();
+        } catch (UnsupportedOperationException e) {
+            // Some drivers throw for elements that can't be selected.
+            return false;
+        }
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * Get the element this state has been read from.
+     *
+     * @return element
+     */
+    public FluentWebElement getElement() {
+        return element;
+    }
+
+    /**
+     * Get a condition object running on this state, without calling the driver.
+     *
+     * @return conditions on this state
+     */
+    public ElementStateConditions conditions() {
+        ElementStateConditions result = conditions;
+        if (result == null) {
+            result = new ElementStateConditions(this);
+            conditions = result;
+        }
+        return result;
+    }
+
+    /**
+     * return the tag name
+     *
+     * @return string value of tag name
+     */
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * return the visible text of the element
+     *
+     * @return text of element
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * return the value of a captured attribute
+     *
+     * @param attribute attribute name
+     * @return attribute value
+     * @throws IllegalArgumentException if the attribute has not been captured by this snapshot
+     */
+    public String getAttribute(String attribute) {
+        if (!attributes.containsKey(attribute)) {
+            throw new IllegalArgumentException("Attribute " + attribute + " has not been captured. Use snapshot(\""
+                    + attribute + "\") to capture it.");
+        }
+        return attributes.get(attribute);
+    }
+
+    /**
+     * return all captured attributes
+     *
+     * @return immutable map of attribute values by name
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * return the id of the element
+     *
+     * @return id of element
+     */
+    public String getId() {
+        return attributes.get("id");
+    }
+
+    /**
+     * return the name of the element
+     *
+     * @return name of the element
+     */
+    public String getName() {
+        return attributes.get("name");
+    }
+
+    /**
+     * return the value of the element
+     *
+     * @return value of attribute
+     */
+    public String getValue() {
+        return attributes.get("value");
+    }
+
+    /**
+     * return true if the element was displayed
+     *
+     * @return boolean value of displayed check
+     */
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * return true if the element was enabled
+     *
+     * @return boolean value of enabled check
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * return true if the element was selected
+     *
+     * @return boolean value of selected check
+     */
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * return true if the element was displayed and enabled
+     *
+     * @return boolean value of clickable check
+     */
+    public boolean isClickable() {
+        return displayed && enabled;
+    }
+
+    /**
+     * return the geometry of the element
+     *
+     * @return a new rectangle
+     */
+    public Rectangle getRect() {
+        return new Rectangle(x, y, height, width);
+    }
+
+    @Override
+    public String toString() {
+        return "ElementState{" + tagName + ", text='" + text + "', attributes=" + attributes + ", displayed=" + displayed
+                + ", enabled=" + enabled + ", selected=" + selected + ", rect=(" + x + ", " + y + ", " + width + "x"
+                + height + ")}";
+    }
+}
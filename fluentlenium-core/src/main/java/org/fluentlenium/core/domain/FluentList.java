@@ -38,6 +38,19 @@ public interface FluentList<E extends FluentWebElement> extends List<E>, FluentA
      */
     List<WebElement> toElements();
 
+    /**
+     * Check the state of all elements before actions with a single script call for each driver, instead of one call
+     * per element.
+     * <p>
+     * It applies to {@link #click()}, {@link #text(String...)}, {@link #submit()} and {@link #clearAll()}. Actions are
+     * still performed on each element, in the list order. Displayed and enabled states computed by the browser may
+     * differ from WebDriver in edge cases. When {@link #text(String...)} is given several values, displayed state is
+     * still checked with WebDriver, as it decides which element gets which value.
+     *
+     * @return this list
+     */
+    FluentList<E> pipelined();
+
     /**
      * Click on all elements on the list
      * Only the visible elements are filled
@@ -255,6 +268,15 @@ public interface FluentList<E extends FluentWebElement> extends List<E>, FluentA
      */
     <T extends FluentWebElement> FluentList<T> as(Class<T> componentClass);
 
+    /**
+     * Take a snapshot of the state of each element with a single script call.
+     *
+     * @param attributes attributes to capture in addition to {@link ElementState#DEFAULT_ATTRIBUTES}
+     * @return immutable list of element states
+     * @see FluentWebElement#snapshot(String...)
+     */
+    List<ElementState> snapshot(String... attributes);
+
     /**
      * Get a condition object on this element list that will match if each underlying element match.
      *
@@ -1,13 +1,13 @@
 package org.fluentlenium.core.domain;
 
 import com.google.common.base.Function;
-import com.google.common.collect.Lists;
 import org.fluentlenium.core.action.Fill;
 import org.fluentlenium.core.action.FillSelect;
 import org.fluentlenium.core.conditions.AtLeastOneElementConditions;
 import org.fluentlenium.core.conditions.EachElementConditions;
 import org.fluentlenium.core.conditions.FluentListConditions;
 import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.script.BatchJavascript;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
@@ -15,12 +15,14 @@ import org.openqa.selenium.WebElement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Map the list to a FluentList in order to offers some events like click(), submit(), value() ...
  */
 public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> implements FluentList<E> {
+    private boolean pipelined;
 
     public FluentListImpl() {
         super();
@@ -84,14 +86,39 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
         return this.get(this.size() - 1);
     }
 
+    @Override
+    public FluentList<E> pipelined() {
+        pipelined = true;
+        return this;
+    }
+
+    /**
+     * Check if each element is enabled, with a single script call for each driver in pipelined mode.
+     *
+     * @return true for each enabled element, or null if elements must be checked one after the other
+     */
+    private boolean[] areEnabled() {
+        if (!pipelined) {
+            return null;
+        }
+        int[] states = ActionChecks.check(this, false);
+        boolean[] enabled = new boolean[states.length];
+        for (int i = 0; i < states.length; i++) {
+            enabled[i] = states[i] == ActionChecks.ACTIONABLE;
+        }
+        return enabled;
+    }
+
     @Override
     public FluentList click() {
         if (this.size() == 0) {
             throw new NoSuchElementException("No Element found");
         }
 
-        for (E fluentWebElement : this) {
-            if (fluentWebElement.isEnabled()) {
+        boolean[] enabled = areEnabled();
+        for (int i = 0; i < size(); i++) {
+            E fluentWebElement = get(i);
+            if (enabled == null ? fluentWebElement.isEnabled() : enabled[i]) {
                 fluentWebElement.click();
             }
         }
@@ -109,14 +136,19 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
             int id = 0;
             String value;
 
-            for (E fluentWebElement : this) {
-                if (fluentWebElement.isDisplayed()) {
+            // Values are assigned in order to displayed elements, so with several values, an element the browser
+            // considers hidden would shift all following values. Displayed state is then checked with WebDriver.
+            boolean checkDisplayed = with.length == 1;
+            int[] states = pipelined ? ActionChecks.check(this, checkDisplayed) : null;
+            for (int i = 0; i < size(); i++) {
+                E fluentWebElement = get(i);
+                if (states == null || !checkDisplayed ? fluentWebElement.isDisplayed() : states[i] != ActionChecks.HIDDEN) {
                     if (with.length > id) {
                         value = with[id++];
                     } else {
                         value = with[with.length - 1];
                     }
-                    if (fluentWebElement.isEnabled()) {
+                    if (states == null ? fluentWebElement.isEnabled() : states[i] == ActionChecks.ACTIONABLE) {
                         atMostOne = true;
                         fluentWebElement.text(value);
                     }
@@ -136,8 +168,10 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
             throw new NoSuchElementException("No Element found");
         }
 
-        for (E fluentWebElement : this) {
-            if (fluentWebElement.isEnabled()) {
+        boolean[] enabled = areEnabled();
+        for (int i = 0; i < size(); i++) {
+            E fluentWebElement = get(i);
+            if (enabled == null ? fluentWebElement.isEnabled() : enabled[i]) {
                 fluentWebElement.clear();
             }
         }
@@ -165,14 +199,21 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
         return new AtLeastOneElementConditions(this);
     }
 
+    @Override
+    public List<ElementState> snapshot(String... attributes) {
+        return ElementState.read(this, attributes);
+    }
+
     @Override
     public FluentList<E> submit() {
         if (this.size() == 0) {
             throw new NoSuchElementException("No Element found");
         }
 
-        for (E fluentWebElement : this) {
-            if (fluentWebElement.isEnabled()) {
+        boolean[] enabled = areEnabled();
+        for (int i = 0; i < size(); i++) {
+            E fluentWebElement = get(i);
+            if (enabled == null ? fluentWebElement.isEnabled() : enabled[i]) {
                 fluentWebElement.submit();
             }
         }
@@ -181,7 +222,7 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
 
     @Override
     public List<String> getValues() {
-        return Lists.transform(this, new Function<E, String>() {
+        return getAttributeValues("value", new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getValue();
             }
@@ -190,7 +231,7 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
 
     @Override
     public List<String> getIds() {
-        return Lists.transform(this, new Function<E, String>() {
+        return getAttributeValues("id", new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getId();
             }
@@ -199,7 +240,7 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
 
     @Override
     public List<String> getAttributes(final String attribute) {
-        return Lists.transform(this, new Function<E, String>() {
+        return getAttributeValues(attribute, new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getAttribute(attribute);
             }
@@ -208,7 +249,7 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
 
     @Override
     public List<String> getNames() {
-        return Lists.transform(this, new Function<E, String>() {
+        return getAttributeValues("name", new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getName();
             }
@@ -217,7 +258,8 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
 
     @Override
     public List<String> getTagNames() {
-        return Lists.transform(this, new Function<E, String>() {
+        BatchJavascript batch = BatchJavascript.of(this);
+        return materialize(batch == null ? null : batch.getTagNames(), new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getTagName();
             }
@@ -226,7 +268,7 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
 
     @Override
     public List<String> getTextContents() {
-        return Lists.transform(this, new Function<E, String>() {
+        return getAttributeValues("textContent", new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getTextContent();
             }
@@ -235,13 +277,38 @@ public class FluentListImpl<E extends FluentWebElement> extends ArrayList<E> imp
 
     @Override
     public List<String> getTexts() {
-        return Lists.transform(this, new Function<E, String>() {
+        BatchJavascript batch = BatchJavascript.of(this);
+        return materialize(batch == null ? null : batch.getTexts(), new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getText();
             }
         });
     }
 
+    /**
+     * Retrieve an attribute of all elements with a single script call if the driver supports javascript, or with
+     * one call per element otherwise.
+     *
+     * @param attribute attribute name
+     * @param function  function retrieving the attribute on a single element
+     * @return immutable list of attribute values
+     */
+    private List<String> getAttributeValues(String attribute, Function<E, String> function) {
+        BatchJavascript batch = BatchJavascript.of(this);
+        return materialize(batch == null ? null : batch.getAttributes(attribute), function);
+    }
+
+    private List<String> materialize(List<String> batchValues, Function<E, String> function) {
+        List<String> values = batchValues;
+        if (values == null) {
+            values = new ArrayList<>(size());
+            for (E element : this) {
+                values.add(function.apply(element));
+            }
+        }
+        return Collections.unmodifiableList(values);
+    }
+
     @Override
     public String getValue() {
         if (this.size() > 0) {
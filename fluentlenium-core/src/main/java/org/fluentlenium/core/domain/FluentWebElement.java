@@ -1,5 +1,6 @@
 package org.fluentlenium.core.domain;
 
+import com.google.common.base.Function;
 import org.fluentlenium.core.action.FluentActions;
 import org.fluentlenium.core.action.Fill;
 import org.fluentlenium.core.action.FillSelect;
@@ -20,6 +21,8 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * WebElementCustom include a Selenium WebElement. It provides a lot of shortcuts to make selenium more fluent
@@ -27,11 +30,62 @@ import java.util.Arrays;
 public class FluentWebElement implements WrapsElement, FluentActions<FluentWebElement, FluentWebElement>, SearchControl<FluentWebElement> {
     private final WebElement webElement;
     private final WebDriver driver;
-    private final Search search;
-    private final Axes axes;
-    private final MouseElementActions mouseActions;
-    private final KeyboardElementActions keyboardActions;
-    private final WebElementConditions conditions;
+
+    // Helpers are created on first access, as most elements are only clicked or read once.
+    private volatile Search search;
+    private volatile Axes axes;
+    private volatile MouseElementActions mouseActions;
+    private volatile KeyboardElementActions keyboardActions;
+    private volatile WebElementConditions conditions;
+
+    private static final AtomicReferenceFieldUpdater<FluentWebElement, Search> SEARCH = AtomicReferenceFieldUpdater
+            .newUpdater(FluentWebElement.class, Search.class, "search");
+    private static final AtomicReferenceFieldUpdater<FluentWebElement, Axes> AXES = AtomicReferenceFieldUpdater
+            .newUpdater(FluentWebElement.class, Axes.class, "axes");
+    private static final AtomicReferenceFieldUpdater<FluentWebElement, MouseElementActions> MOUSE_ACTIONS
+            = AtomicReferenceFieldUpdater.newUpdater(FluentWebElement.class, MouseElementActions.class, "mouseActions");
+    private static final AtomicReferenceFieldUpdater<FluentWebElement, KeyboardElementActions> KEYBOARD_ACTIONS
+            = AtomicReferenceFieldUpdater.newUpdater(FluentWebElement.class, KeyboardElementActions.class, "keyboardActions");
+    private static final AtomicReferenceFieldUpdater<FluentWebElement, WebElementConditions> CONDITIONS
+            = AtomicReferenceFieldUpdater.newUpdater(FluentWebElement.class, WebElementConditions.class, "conditions");
+
+    private static final Function<FluentWebElement, Search> NEW_SEARCH = new Function<FluentWebElement, Search>() {
+        @Override
+        public Search apply(FluentWebElement element) {
+            return new Search(element.driver, element.webElement);
+        }
+    };
+
+    private static final Function<FluentWebElement, Axes> NEW_AXES = new Function<FluentWebElement, Axes>() {
+        @Override
+        public Axes apply(FluentWebElement element) {
+            return new Axes(element.driver, element.webElement);
+        }
+    };
+
+    private static final Function<FluentWebElement, MouseElementActions> NEW_MOUSE_ACTIONS
+            = new Function<FluentWebElement, MouseElementActions>() {
+        @Override
+        public MouseElementActions apply(FluentWebElement element) {
+            return new MouseElementActions(element.driver, element.webElement);
+        }
+    };
+
+    private static final Function<FluentWebElement, KeyboardElementActions> NEW_KEYBOARD_ACTIONS
+            = new Function<FluentWebElement, KeyboardElementActions>() {
+        @Override
+        public KeyboardElementActions apply(FluentWebElement element) {
+            return new KeyboardElementActions(element.driver, element.webElement);
+        }
+    };
+
+    private static final Function<FluentWebElement, WebElementConditions> NEW_CONDITIONS
+            = new Function<FluentWebElement, WebElementConditions>() {
+        @Override
+        public WebElementConditions apply(FluentWebElement element) {
+            return new WebElementConditions(element);
+        }
+    };
 
     public FluentWebElement(WebElement webElement) {
         this(webElement, webElement instanceof WrapsDriver ? ((WrapsDriver)webElement).getWrappedDriver() : null);
@@ -40,11 +94,24 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
     public FluentWebElement(WebElement webElement, WebDriver driver) {
         this.webElement = webElement;
         this.driver = driver;
-        this.search = new Search(this.driver, webElement);
-        this.axes = new Axes(this.driver, webElement);
-        this.mouseActions = new MouseElementActions(this.driver, webElement);
-        this.keyboardActions = new KeyboardElementActions(this.driver, webElement);
-        this.conditions = new WebElementConditions(this);
+    }
+
+    /**
+     * Get a helper of this element, creating it on first access.
+     * <p>
+     * Concurrent first accesses may create several instances, but they all get the one that has been stored.
+     */
+    private <T> T lazy(AtomicReferenceFieldUpdater<FluentWebElement, T> field, Function<FluentWebElement, T> factory) {
+        T helper = field.get(this);
+        if (helper == null) {
+            field.compareAndSet(this, null, factory.apply(this));
+            helper = field.get(this);
+        }
+        return helper;
+    }
+
+    private Search search() {
+        return lazy(SEARCH, NEW_SEARCH);
     }
 
     /**
@@ -63,11 +130,11 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return object to perform XPath Axes transformations.
      */
     public Axes axes() {
-        return axes;
+        return lazy(AXES, NEW_AXES);
     }
 
     public WebElementConditions conditions() {
-        return conditions;
+        return lazy(CONDITIONS, NEW_CONDITIONS);
     }
 
     /**
@@ -76,7 +143,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return mouse actions object
      */
     public MouseElementActions mouse() {
-        return mouseActions;
+        return lazy(MOUSE_ACTIONS, NEW_MOUSE_ACTIONS);
     }
 
     /**
@@ -85,7 +152,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return keyboard actions object
      */
     public KeyboardElementActions keyboard() {
-        return keyboardActions;
+        return lazy(KEYBOARD_ACTIONS, NEW_KEYBOARD_ACTIONS);
     }
 
     /**
@@ -251,6 +318,17 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
         return webElement.getTagName();
     }
 
+    /**
+     * Take a snapshot of the element state, reading text, tag name, common attributes, displayed/enabled/selected state
+     * and geometry with a single script call.
+     *
+     * @param attributes attributes to capture in addition to {@link ElementState#DEFAULT_ATTRIBUTES}
+     * @return immutable element state
+     */
+    public ElementState snapshot(String... attributes) {
+        return ElementState.read(Collections.singletonList(this), attributes).get(0);
+    }
+
     /**
      * return the webElement
      *
@@ -260,6 +338,15 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
         return webElement;
     }
 
+    /**
+     * return the driver this element is bound to
+     *
+     * @return web driver, or null if unknown
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
     @Override
     public WebElement getWrappedElement() {
         return getElement();
@@ -301,7 +388,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return list of Fluent web elements
      */
     public FluentList<FluentWebElement> find(By locator, Filter... filters) {
-        return search.find(locator, filters);
+        return search().find(locator, filters);
     }
 
     /**
@@ -312,7 +399,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return list of Fluent web elements
      */
     public FluentList<FluentWebElement> find(String selector, Filter... filters) {
-        return search.find(selector, filters);
+        return search().find(selector, filters);
     }
 
     /**
@@ -322,7 +409,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return list of Fluent web elements
      */
     public FluentList<FluentWebElement> find(Filter... filters) {
-        return search.find(filters);
+        return search().find(filters);
     }
 
     /**
@@ -333,7 +420,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return fluent web element
      */
     public FluentWebElement find(String selector, Integer number, Filter... filters) {
-        return search.find(selector, number, filters);
+        return search().find(selector, number, filters);
     }
 
     /**
@@ -344,7 +431,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return fluent web element
      */
     public FluentWebElement find(By locator, Integer index, Filter... filters) {
-        return search.find(locator, index, filters);
+        return search().find(locator, index, filters);
     }
 
     @Override
@@ -366,7 +453,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      */
     @Override
     public FluentWebElement find(Integer index, Filter... filters) {
-        return search.find(index, filters);
+        return search().find(index, filters);
     }
 
     @Override
@@ -383,7 +470,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      */
     @Override
     public FluentWebElement findFirst(String selector, Filter... filters) {
-        return search.findFirst(selector, filters);
+        return search().findFirst(selector, filters);
     }
 
     /**
@@ -394,7 +481,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      * @return fluent web element
      */
     public FluentWebElement findFirst(By locator, Filter... filters) {
-        return search.findFirst(locator, filters);
+        return search().findFirst(locator, filters);
     }
 
     /**
@@ -405,7 +492,7 @@ public class FluentWebElement implements WrapsElement, FluentActions<FluentWebEl
      */
     @Override
     public FluentWebElement findFirst(Filter... filters) {
-        return search.findFirst(filters);
+        return search().findFirst(filters);
     }
 
     /**
@@ -0,0 +1,103 @@
+package org.fluentlenium.core.filter;
+
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.matcher.MatcherScript;
+import org.fluentlenium.core.script.BatchJavascript;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evaluate post filters in the browser with a single script call, instead of reading text or attribute of each
+ * element through the driver.
+ * <p>
+ * Filters that can't be translated to javascript are kept aside, and should still be applied with
+ * {@link FilterPredicate}.
+ */
+public class FilterScript {
+    private static final String FILTER_SCRIPT = BatchJavascript.ATTRIBUTE_FUNCTION + BatchJavascript.TEXT_FUNCTION
+            + MatcherScript.MATCH_FUNCTION
+            + "var elements = arguments[0], filters = arguments[1], r = [];"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "var ok = true;"
+            + "for (var j = 0; j < filters.length && ok; j++) {"
+            + "var f = filters[j], v = f[0] === 'text' ? text(elements[i]) : attr(elements[i], f[0]);"
+            + "ok = match(v, f[1]);"
+            + "}"
+            + "r.push(ok);"
+            + "}"
+            + "return r;";
+
+    private final List<List<Object>> scriptFilters = new ArrayList<>();
+
+    private final List<Filter> remainingFilters = new ArrayList<>();
+
+    /**
+     * Creates a filter script for the given post filters.
+     *
+     * @param filters post filters
+     */
+    public FilterScript(Collection<Filter> filters) {
+        for (Filter filter : filters) {
+            List<String> matcherArguments = MatcherScript.toArguments(filter.getMatcher());
+            if (matcherArguments == null) {
+                remainingFilters.add(filter);
+            } else {
+                List<Object> scriptFilter = new ArrayList<>();
+                scriptFilter.add(filter.getAttribut());
+                scriptFilter.add(matcherArguments);
+                scriptFilters.add(scriptFilter);
+            }
+        }
+    }
+
+    /**
+     * Get the filters that can be evaluated by the browser, as {@code [attribute, matcher arguments]} entries.
+     *
+     * @return filters translated to javascript arguments
+     */
+    public List<List<Object>> getScriptFilters() {
+        return scriptFilters;
+    }
+
+    /**
+     * Get the filters that can't be evaluated by the browser.
+     *
+     * @return filters to evaluate with {@link FilterPredicate}
+     */
+    public List<Filter> getRemainingFilters() {
+        return remainingFilters;
+    }
+
+    /**
+     * Keep only elements that match the filters supported by this script.
+     *
+     * @param elements elements to filter
+     * @param <E>      type of elements
+     * @return filtered elements, or null if the browser can't evaluate the filters. In that case, all filters
+     * should be applied with {@link FilterPredicate}.
+     */
+    public <E extends FluentWebElement> List<E> filter(List<E> elements) {
+        if (scriptFilters.isEmpty()) {
+            return null;
+        }
+        if (elements.isEmpty()) {
+            return elements;
+        }
+
+        BatchJavascript batch = BatchJavascript.of(elements);
+        List<?> results = batch == null ? null : batch.execute(FILTER_SCRIPT, scriptFilters);
+        if (results == null) {
+            return null;
+        }
+
+        List<E> filtered = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                filtered.add(elements.get(i));
+            }
+        }
+        return filtered;
+    }
+}
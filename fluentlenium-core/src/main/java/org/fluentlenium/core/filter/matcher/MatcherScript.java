@@ -0,0 +1,288 @@
+package org.fluentlenium.core.filter.matcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Static class in charge of translating matchers to javascript, so they can be evaluated by the browser.
+ * <p>
+ * Only the matchers provided by FluentLenium are supported. Patterns are translated token by token, and only tokens
+ * known to have the same meaning in java and javascript are accepted: literal characters, {@code .}, {@code ^},
+ * alternations, non capturing groups and lookaheads, greedy and lazy quantifiers, simple character classes with
+ * ranges, {@code \d}, {@code \w}, {@code \s} and their negations, and escapes of control characters, hexadecimal and
+ * unicode characters and syntax characters. {@code .} and {@code \s} are translated to the java sets of line
+ * terminators and white spaces. Patterns using anything else, or flags other than {@link Pattern#CASE_INSENSITIVE}
+ * on ASCII patterns, are left to java. Values containing surrogate pairs make the script fail, so that the caller falls
+ * back to java, as java matches code points and javascript matches UTF-16 units.
+ */
+public final class MatcherScript {
+    /**
+     * Javascript function {@code match(value, matcher)} evaluating a matcher translated by {@link #toArguments(Matcher)}
+     * against a value, with the same rules as {@link CalculateService}.
+     */
+    public static final String MATCH_FUNCTION = "function match(v, m) {"
+            + "var type = m[0], negate = type.indexOf('NOT_') === 0, result = false;"
+            + "if (negate) { type = type.substring(4); }"
+            + "if (v !== null && v !== undefined) {"
+            + "if (m.length === 2) {"
+            + "var ref = m[1];"
+            + "if (type === 'EQUAL') { result = v === ref; }"
+            + "else if (type === 'START_WITH') { result = v.indexOf(ref) === 0; }"
+            + "else if (type === 'END_WITH') {"
+            + "result = v.length >= ref.length && v.substring(v.length - ref.length) === ref; }"
+            + "else { result = v.indexOf(ref) >= 0; }"
+            + "} else if (/[\\uD800-\\uDFFF]/.test(v)) {"
+            + "throw new Error('Patterns are matched against surrogate pairs in java');"
+            + "} else if (type === 'EQUAL') {"
+            + "result = new RegExp('^(?:' + m[1] + ')$', m[2]).test(v);"
+            + "} else if (type === 'START_WITH') {"
+            + "var s = new RegExp(m[1], m[2]).exec(v); result = s !== null && s.index === 0;"
+            + "} else if (type === 'END_WITH') {"
+            + "var re = new RegExp(m[1], m[2] + 'g'), end = 0, e;"
+            + "while ((e = re.exec(v)) !== null) {"
+            + "end = e.index + e[0].length; if (e[0].length === 0) { re.lastIndex++; } }"
+            + "result = v.length === end;"
+            + "} else { result = new RegExp(m[1], m[2]).test(v); }"
+            + "}"
+            + "return negate ? !result : result;"
+            + "}";
+
+    private static final List<Class<? extends Matcher>> SUPPORTED_MATCHERS = Arrays.asList(EqualMatcher.class,
+            ContainsMatcher.class, ContainsWordMatcher.class, StartsWithMatcher.class, EndsWithMatcher.class,
+            NotContainsMatcher.class, NotStartsWithMatcher.class, NotEndsWithMatcher.class);
+
+    private static final String ESCAPED_CHARACTERS = "\\^$.|?*+()[]{}-/";
+
+    private static final String JAVA_LINE_TERMINATORS = "\\n\\r\\u0085\\u2028\\u2029";
+
+    private static final String JAVA_WHITE_SPACES = " \\t\\n\\x0B\\f\\r";
+
+    private MatcherScript() {
+    }
+
+    /**
+     * Translate the matcher to arguments of {@link #MATCH_FUNCTION}.
+     * <p>
+     * Arguments are {@code [type, value]} for string matchers, and {@code [type, regex, flags]} for pattern matchers,
+     * where regex is the javascript translation of the pattern.
+     *
+     * @param matcher matcher
+     * @return list of arguments, or null if the matcher can't be evaluated by the browser
+     */
+    public static List<String> toArguments(Matcher matcher) {
+        if (matcher == null || !SUPPORTED_MATCHERS.contains(matcher.getClass())) {
+            return null;
+        }
+        Pattern pattern = matcher.getPattern();
+        if (pattern == null) {
+            if (matcher.getValue() == null) {
+                return null;
+            }
+            return Arrays.asList(matcher.getMatcherType().name(), matcher.getValue());
+        }
+        String flags = toFlags(pattern);
+        if (flags == null) {
+            return null;
+        }
+        String regex = new Translator(pattern.pattern(), !flags.isEmpty()).translate();
+        if (regex == null) {
+            return null;
+        }
+        return Arrays.asList(matcher.getMatcherType().name(), regex, flags);
+    }
+
+    private static String toFlags(Pattern pattern) {
+        int flags = pattern.flags();
+        StringBuilder jsFlags = new StringBuilder();
+        if ((flags & Pattern.CASE_INSENSITIVE) != 0) {
+            jsFlags.append('i');
+            flags &= ~Pattern.CASE_INSENSITIVE;
+        }
+        return flags == 0 ? jsFlags.toString() : null;
+    }
+
+    /**
+     * Translation of a java pattern to a javascript regular expression, accepting only whitelisted tokens.
+     */
+    private static final class Translator {
+        private final String regex;
+
+        private final boolean caseInsensitive;
+
+        private final StringBuilder js = new StringBuilder();
+
+        private int index;
+
+        Translator(String regex, boolean caseInsensitive) {
+            this.regex = regex;
+            this.caseInsensitive = caseInsensitive;
+        }
+
+        /**
+         * Translate the pattern.
+         *
+         * @return javascript regular expression, or null if the pattern contains a token that is not whitelisted
+         */
+        String translate() {
+            for (int i = 0; i < regex.length(); i++) {
+                if (!isSupported(regex.charAt(i))) {
+                    return null;
+                }
+            }
+            boolean quantifiable = false;
+            while (index < regex.length()) {
+                char c = regex.charAt(index);
+                boolean supported;
+                if (c == '\\') {
+                    supported = escape(false);
+                    quantifiable = true;
+                } else if (c == '[') {
+                    supported = characterClass();
+                    quantifiable = true;
+                } else if (c == '(') {
+                    supported = group();
+                    quantifiable = false;
+                } else if (c == ')' || c == '|' || c == '^') {
+                    js.append(c);
+                    index++;
+                    supported = true;
+                    quantifiable = c == ')';
+                } else if (c == '.') {
+                    js.append("[^").append(JAVA_LINE_TERMINATORS).append(']');
+                    index++;
+                    supported = true;
+                    quantifiable = true;
+                } else if (c == '*' || c == '+' || c == '?' || c == '{') {
+                    supported = quantifiable && quantifier();
+                    quantifiable = false;
+                } else if (c == '$' || c == ']' || c == '}') {
+                    supported = false;
+                } else {
+                    js.append(c);
+                    index++;
+                    supported = true;
+                    quantifiable = true;
+                }
+                if (!supported) {
+                    return null;
+                }
+            }
+            return js.toString();
+        }
+
+        private boolean isSupported(char c) {
+            // Java ignores case of ASCII characters only, javascript of all characters.
+            return !Character.isSurrogate(c) && !(caseInsensitive && c > 127);
+        }
+
+        private boolean group() {
+            if (regex.startsWith("(?", index)) {
+                if (index + 2 >= regex.length() || "=!:".indexOf(regex.charAt(index + 2)) < 0) {
+                    return false;
+                }
+                js.append(regex, index, index + 3);
+                index += 3;
+            } else {
+                js.append('(');
+                index++;
+            }
+            return true;
+        }
+
+        private boolean quantifier() {
+            int start = index;
+            if (regex.charAt(index) == '{') {
+                int end = regex.indexOf('}', index);
+                if (end < 0 || !regex.substring(index + 1, end).matches("\\d+(,\\d*)?")) {
+                    return false;
+                }
+                index = end + 1;
+            } else {
+                index++;
+            }
+            if (index < regex.length() && regex.charAt(index) == '+') {
+                return false;
+            }
+            if (index < regex.length() && regex.charAt(index) == '?') {
+                index++;
+            }
+            js.append(regex, start, index);
+            return true;
+        }
+
+        private boolean characterClass() {
+            js.append('[');
+            index++;
+            if (index < regex.length() && regex.charAt(index) == '^') {
+                js.append('^');
+                index++;
+            }
+            int first = index;
+            boolean rangeStart = false;
+            while (index < regex.length()) {
+                char c = regex.charAt(index);
+                if (c == ']') {
+                    if (index == first) {
+                        // A leading ] is a literal in java, and closes an empty class in javascript.
+                        return false;
+                    }
+                    js.append(']');
+                    index++;
+                    return true;
+                }
+                if (c == '[' || regex.startsWith("&&", index)) {
+                    // Nested classes, unions and intersections
+                    return false;
+                }
+                if (c == '-' && index != first && !regex.startsWith("-]", index)) {
+                    if (!rangeStart || index + 1 >= regex.length() || "\\[]-&".indexOf(regex.charAt(index + 1)) >= 0) {
+                        return false;
+                    }
+                    js.append(regex, index, index + 2);
+                    index += 2;
+                    rangeStart = false;
+                } else if (c == '\\') {
+                    if (!escape(true)) {
+                        return false;
+                    }
+                    rangeStart = false;
+                } else {
+                    js.append(c);
+                    index++;
+                    rangeStart = c != '-';
+                }
+            }
+            return false;
+        }
+
+        private boolean escape(boolean inClass) {
+            if (index + 1 >= regex.length()) {
+                return false;
+            }
+            char c = regex.charAt(index + 1);
+            if ("dDwWtnrf".indexOf(c) >= 0 || ESCAPED_CHARACTERS.indexOf(c) >= 0) {
+                js.append(regex, index, index + 2);
+                index += 2;
+            } else if (c == 's') {
+                js.append(inClass ? JAVA_WHITE_SPACES : "[" + JAVA_WHITE_SPACES + "]");
+                index += 2;
+            } else if (c == 'S' && !inClass) {
+                js.append("[^").append(JAVA_WHITE_SPACES).append(']');
+                index += 2;
+            } else if (c == 'x' || c == 'u') {
+                int length = c == 'x' ? 2 : 4;
+                int end = index + 2 + length;
+                if (end > regex.length() || !regex.substring(index + 2, end).matches("[0-9a-fA-F]+")
+                        || !isSupported((char) Integer.parseInt(regex.substring(index + 2, end), 16))) {
+                    return false;
+                }
+                js.append(regex, index, end);
+                index = end;
+            } else {
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -1,36 +1,28 @@
 package org.fluentlenium.core.inject;
 
 import com.google.common.base.Function;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.FluentIterable;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.fluentlenium.core.FluentContainer;
 import org.fluentlenium.core.FluentControl;
-import org.fluentlenium.core.annotation.AjaxElement;
-import org.fluentlenium.core.annotation.Page;
-import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentListImpl;
-import org.fluentlenium.core.domain.FluentWebElement;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.internal.Locatable;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.pagefactory.AjaxElementLocatorFactory;
-import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
-import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
 import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
 
-import javax.inject.Inject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Proxy;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -40,6 +32,16 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class FluentInjector implements FluentInjectControl {
 
+    // Plans reference fields and constructors of their container class, so soft values are required for classes
+    // of discarded class loaders to be unloaded.
+    private static final LoadingCache<Class<?>, InjectionPlan> INJECTION_PLANS = CacheBuilder.newBuilder()
+            .weakKeys().softValues().recordStats().build(new CacheLoader<Class<?>, InjectionPlan>() {
+                @Override
+                public InjectionPlan load(Class<?> containerClass) {
+                    return InjectionPlan.of(containerClass);
+                }
+            });
+
     private final ConcurrentMap<Class, Object> pageInstances = new ConcurrentHashMap<>();
 
     private final FluentControl fluentControl;
@@ -76,58 +78,58 @@ public class FluentInjector implements FluentInjectControl {
     @Override
     public void inject(Object container) {
         initContainer(container);
-        initChildrenContainers(container);
-        initFluentElements(container);
 
-        // Default Selenium WebElement injection.
-        PageFactory.initElements(fluentControl.getDriver(), container);
+        InjectionPlan plan = getInjectionPlan(container.getClass());
+        initChildrenContainers(plan, container);
+        initElements(plan, container);
     }
 
-    private void initContainer(Object container) {
-        if (container instanceof FluentContainer) {
-            ((FluentContainer) container).initFluent(fluentControl);
-        }
+    /**
+     * Get statistics of the injection plan cache.
+     * <p>
+     * Reflective metadata of container classes is computed once and shared by all injectors, so that injecting a
+     * known container class only replays its injection plan.
+     *
+     * @return injection plan cache statistics
+     */
+    public static CacheStats getInjectionPlanStats() {
+        return INJECTION_PLANS.stats();
     }
 
-    private static boolean isContainer(Field field) {
-        return field.isAnnotationPresent(Page.class) ||
-                field.isAnnotationPresent(Inject.class);
+    private static InjectionPlan getInjectionPlan(Class<?> containerClass) {
+        try {
+            return INJECTION_PLANS.getUnchecked(containerClass);
+        } catch (UncheckedExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause());
+            throw e;
+        }
     }
 
-    private static boolean isClassSupported(Class<?> cls) {
-        return cls != Object.class && cls != null;
+    private void initContainer(Object container) {
+        if (container instanceof FluentContainer) {
+            ((FluentContainer) container).initFluent(fluentControl);
+        }
     }
 
-    private void initChildrenContainers(Object container) {
-        for (Class cls = container.getClass(); isClassSupported(cls); cls = cls.getSuperclass()) {
-            for (Field field : cls.getDeclaredFields()) {
-                if (isContainer(field)) {
-                    boolean accessible = field.isAccessible();
-                    field.setAccessible(true);
-                    try {
-                        Class fieldClass = field.getType();
-                        Object existingChildContainer = pageInstances.get(fieldClass);
-                        if (existingChildContainer != null) {
-                            try {
-                                field.set(container, existingChildContainer);
-                            } catch (IllegalAccessException e) {
-                                throw new FluentInjectException("Can't set field " + field + " with value " + existingChildContainer, e);
-                            }
-                        } else {
-                            Object childContainer = newPage(fieldClass);
-                            try {
-                                field.set(container, childContainer);
-                            } catch (IllegalAccessException e) {
-                                throw new FluentInjectException("Can't set field " + field + " with value " + childContainer, e);
-                            }
-                            pageInstances.putIfAbsent(fieldClass, childContainer);
-                            inject(childContainer);
-                        }
-                    } finally {
-                        field.setAccessible(accessible);
-                    }
-
+    private void initChildrenContainers(InjectionPlan plan, Object container) {
+        for (Field field : plan.getContainerFields()) {
+            Class fieldClass = field.getType();
+            Object existingChildContainer = pageInstances.get(fieldClass);
+            if (existingChildContainer != null) {
+                try {
+                    field.set(container, existingChildContainer);
+                } catch (IllegalAccessException e) {
+                    throw new FluentInjectException("Can't set field " + field + " with value " + existingChildContainer, e);
+                }
+            } else {
+                Object childContainer = newPage(fieldClass);
+                try {
+                    field.set(container, childContainer);
+                } catch (IllegalAccessException e) {
+                    throw new FluentInjectException("Can't set field " + field + " with value " + childContainer, e);
                 }
+                pageInstances.putIfAbsent(fieldClass, childContainer);
+                inject(childContainer);
             }
         }
     }
@@ -148,76 +150,6 @@ public class FluentInjector implements FluentInjectControl {
         }
     }
 
-    private <T extends FluentControl> void initFluentElements(Object container) {
-        for (Class cls = container.getClass(); isClassSupported(cls); cls = cls.getSuperclass()) {
-            for (Field fieldFromPage : cls.getDeclaredFields()) {
-                if (isSupported(fieldFromPage)) {
-                    boolean accessible = fieldFromPage.isAccessible();
-                    fieldFromPage.setAccessible(true);
-                    try {
-                        AjaxElement elem = fieldFromPage.getAnnotation(AjaxElement.class);
-                        if (elem == null) {
-                            initFieldElements(
-                                    new DefaultElementLocatorFactory(this.fluentControl.getDriver()),
-                                    container,
-                                    fieldFromPage);
-                        } else {
-                            initFieldElements(
-                                    new AjaxElementLocatorFactory(this.fluentControl.getDriver(), elem.timeOutInSeconds()),
-                                    container,
-                                    fieldFromPage);
-                        }
-                    } finally {
-                        fieldFromPage.setAccessible(accessible);
-                    }
-                }
-            }
-        }
-    }
-
-    private static boolean isSupported(Field field) {
-        return !Modifier.isFinal(field.getModifiers()) && (isListOfFluentWebElement(field) || isList(field) || isElement(field));
-    }
-
-    private static boolean isElement(Field field) {
-        try {
-            field.getType().getConstructor(WebElement.class);
-            return true;
-        } catch (NoSuchMethodException e) {
-            try {
-                field.getType().getConstructor(WebElement.class, WebDriver.class);
-            } catch (NoSuchMethodException e1) {
-                return false;
-            }
-            return true;
-        }
-    }
-
-    private static boolean isListOfFluentWebElement(Field field) {
-        if (isList(field)) {
-            Class<?> genericType = getFirstGenericType(field);
-            if (FluentWebElement.class.isAssignableFrom(genericType)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static Class<?> getFirstGenericType(Field field) {
-        Type[] actualTypeArguments = ((ParameterizedType) field.getGenericType())
-                .getActualTypeArguments();
-
-        if (actualTypeArguments.length > 0) {
-            return (Class<?>) actualTypeArguments[0];
-        }
-
-        return null;
-    }
-
-    private static boolean isList(Field field) {
-        return List.class.isAssignableFrom(field.getType());
-    }
-
     private <T> T constructContainerWithParams(Class<T> cls, Object[] params)
             throws NoSuchMethodException, InstantiationException, IllegalAccessException,
             InvocationTargetException {
@@ -255,84 +187,49 @@ public class FluentInjector implements FluentInjectControl {
         return page;
     }
 
-    private void initFieldElements(ElementLocatorFactory factory, Object container, Field field) {
-        ElementLocator locator = factory.createLocator(field);
-        if (locator == null) {
-            return;
-        }
-
-        boolean accessible = field.isAccessible();
-        try {
-            field.setAccessible(true);
-            if (isListOfFluentWebElement(field)) {
-                initFieldAsListOfFluentWebElement(locator, container, field);
-            } else if (isList(field)) {
-                initFieldAsList(locator, container, field);
-            } else if (isElement(field)) {
-                initFieldAsElement(locator, container, field);
+    private void initElements(InjectionPlan plan, Object container) {
+        WebDriver driver = fluentControl.getDriver();
+        for (InjectionPlan.ElementField elementField : plan.getElementFields()) {
+            ElementLocator locator = elementField.createLocator(driver);
+
+            InvocationHandler handler;
+            switch (elementField.getKind()) {
+                case FLUENT_LIST:
+                    handler = new FluentListInvocationHandler(locator, elementField);
+                    break;
+                case LIST:
+                    handler = new ArrayListInvocationHandler(locator, elementField);
+                    break;
+                case SELENIUM_LIST:
+                    handler = new LocatingElementListHandler(locator);
+                    break;
+                default:
+                    handler = new LocatingElementHandler(locator);
+                    break;
             }
-        } catch (IllegalAccessException e) {
-            throw new FluentInjectException("Unable to find an accessible constructor with an argument of type WebElement in " + field.getType(), e);
-        } finally {
-            field.setAccessible(accessible);
-        }
-    }
-
-    private void initFieldAsElement(ElementLocator locator, Object container, Field field) throws IllegalAccessException {
-        final InvocationHandler handler = new LocatingElementHandler(locator);
-        WebElement proxy = (WebElement) Proxy.newProxyInstance(container.getClass().getClassLoader(), new Class[]{WebElement.class, Locatable.class}, handler);
-        Object proxyWrapper = wrapElement(proxy, field.getType());
-        field.set(container, proxyWrapper);
-    }
-
-    private void initFieldAsList(ElementLocator locator, Object container, Field field) throws IllegalAccessException {
-        final InvocationHandler handler = new ArrayListInvocationHandler(locator, getFirstGenericType(field));
-        List<? extends FluentWebElement> proxy = (List<? extends FluentWebElement>) Proxy.newProxyInstance(
-                container.getClass().getClassLoader(), new Class[]{List.class}, handler);
-        field.set(container, proxy);
-    }
 
-    private void initFieldAsListOfFluentWebElement(ElementLocator locator, Object container, Field field) throws IllegalAccessException {
-        final InvocationHandler handler = new FluentListInvocationHandler(locator, getFirstGenericType(field));
-        FluentList<? extends FluentWebElement> proxy = (FluentList<? extends FluentWebElement>) Proxy.newProxyInstance(
-                container.getClass().getClassLoader(), new Class[]{FluentList.class}, handler);
-        field.set(container, proxy);
-    }
+            Object value = elementField.newProxy(handler);
+            if (elementField.getKind() == InjectionPlan.ElementKind.ELEMENT) {
+                value = elementField.wrapElement((WebElement) value, driver);
+            }
 
-    private <T> T wrapElement(WebElement element, Class<T> fluentElementClass) {
-        T proxyWrapper;
-        Constructor<T> constructor;
-        Object[] parameters;
-        try {
-            constructor = fluentElementClass.getConstructor(WebElement.class, WebDriver.class);
-            parameters = new Object[]{element, fluentControl.getDriver()};
-        } catch (NoSuchMethodException e) {
             try {
-                constructor = fluentElementClass.getConstructor(WebElement.class);
-                parameters = new Object[]{element};
-            } catch (NoSuchMethodException e2) {
-                throw new WebElementInjectException("Can't wrap element " + element + " into " + fluentElementClass + "."
-                        + " No valid constructor found (WebElement) or (WebElement, WebDriver)", e2);
+                elementField.getField().set(container, value);
+            } catch (IllegalAccessException e) {
+                throw new FluentInjectException("Can't set field " + elementField.getField() + " with value " + value, e);
             }
         }
-
-        try {
-            proxyWrapper = constructor.newInstance(parameters);
-            return proxyWrapper;
-        } catch (Exception e) {
-            throw new WebElementInjectException("Can't wrap element " + element + " into " + fluentElementClass + ".", e);
-        }
     }
 
     private class FluentListInvocationHandler<T> implements InvocationHandler {
 
         private final ElementLocator elementLocator;
 
-        private final Class<T> fluentElementClass;
+        private final InjectionPlan.ElementField elementField;
 
-        public FluentListInvocationHandler(ElementLocator elementLocator, Class<T> fluentElementClass) {
+        public FluentListInvocationHandler(ElementLocator elementLocator, InjectionPlan.ElementField elementField) {
             this.elementLocator = elementLocator;
-            this.fluentElementClass = fluentElementClass;
+            this.elementField = elementField;
         }
 
         @Override
@@ -342,7 +239,7 @@ public class FluentInjector implements FluentInjectControl {
 
                 @Override
                 public T apply(WebElement input) {
-                    return wrapElement(input, fluentElementClass);
+                    return (T) elementField.wrapElement(input, fluentControl.getDriver());
                 }
             }).toList());
             try {
@@ -358,12 +255,12 @@ public class FluentInjector implements FluentInjectControl {
 
         private final ElementLocator elementLocator;
 
-        private final Class<T> fluentElementClass;
+        private final InjectionPlan.ElementField elementField;
 
         public ArrayListInvocationHandler(ElementLocator elementLocator,
-                                          Class<T> fluentElementClass) {
+                                          InjectionPlan.ElementField elementField) {
             this.elementLocator = elementLocator;
-            this.fluentElementClass = fluentElementClass;
+            this.elementField = elementField;
         }
 
         @Override
@@ -372,7 +269,7 @@ public class FluentInjector implements FluentInjectControl {
             List<T> list = new ArrayList<T>(FluentIterable.from(elements).transform(new Function<WebElement, T>() {
                 @Override
                 public T apply(WebElement input) {
-                    return wrapElement(input, fluentElementClass);
+                    return (T) elementField.wrapElement(input, fluentControl.getDriver());
                 }
             }).toList());
             try {
@@ -0,0 +1,384 @@
+package org.fluentlenium.core.inject;
+
+import org.fluentlenium.core.annotation.AjaxElement;
+import org.fluentlenium.core.annotation.Page;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.wait.DeadlineClock;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.Locatable;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.AjaxElementLocator;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import javax.inject.Inject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reflective metadata required to inject a container class, computed once per class.
+ * <p>
+ * It holds accessible fields, locators built from annotations, element constructors and proxy constructors, so
+ * that injecting a known container class only replays the plan.
+ */
+final class InjectionPlan {
+    /**
+     * Kind of element field.
+     */
+    enum ElementKind {
+        /**
+         * List of FluentWebElement, injected by FluentLenium as a {@link FluentList}.
+         */
+        FLUENT_LIST,
+
+        /**
+         * List of components, injected by FluentLenium.
+         */
+        LIST,
+
+        /**
+         * Component having a WebElement constructor, injected by FluentLenium.
+         */
+        ELEMENT,
+
+        /**
+         * Selenium WebElement, injected like {@link org.openqa.selenium.support.PageFactory} does.
+         */
+        SELENIUM_ELEMENT,
+
+        /**
+         * Selenium list of WebElement, injected like {@link org.openqa.selenium.support.PageFactory} does.
+         */
+        SELENIUM_LIST
+    }
+
+    private final List<Field> containerFields;
+
+    private final List<ElementField> elementFields;
+
+    private InjectionPlan(List<Field> containerFields, List<ElementField> elementFields) {
+        this.containerFields = Collections.unmodifiableList(containerFields);
+        this.elementFields = Collections.unmodifiableList(elementFields);
+    }
+
+    /**
+     * Build the injection plan of a container class.
+     *
+     * @param containerClass container class
+     * @return injection plan
+     */
+    static InjectionPlan of(Class<?> containerClass) {
+        List<Field> containerFields = new ArrayList<>();
+        List<ElementField> fluentFields = new ArrayList<>();
+        List<ElementField> seleniumFields = new ArrayList<>();
+
+        ClassLoader classLoader = containerClass.getClassLoader();
+        for (Class<?> cls = containerClass; cls != Object.class && cls != null; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (isContainer(field)) {
+                    field.setAccessible(true);
+                    containerFields.add(field);
+                }
+
+                ElementKind fluentKind = getFluentKind(field);
+                if (fluentKind != null) {
+                    fluentFields.add(new ElementField(field, fluentKind, classLoader));
+                }
+
+                ElementKind seleniumKind = getSeleniumKind(field);
+                if (seleniumKind != null) {
+                    seleniumFields.add(new ElementField(field, seleniumKind, classLoader));
+                }
+            }
+        }
+
+        // Selenium injection is performed last, as it used to be performed by PageFactory after FluentLenium one.
+        List<ElementField> elementFields = new ArrayList<>(fluentFields);
+        elementFields.addAll(seleniumFields);
+        return new InjectionPlan(containerFields, elementFields);
+    }
+
+    /**
+     * Get fields that should be injected with child containers.
+     *
+     * @return accessible container fields
+     */
+    List<Field> getContainerFields() {
+        return containerFields;
+    }
+
+    /**
+     * Get fields that should be injected with elements, in injection order.
+     *
+     * @return element fields
+     */
+    List<ElementField> getElementFields() {
+        return elementFields;
+    }
+
+    private static boolean isContainer(Field field) {
+        return field.isAnnotationPresent(Page.class) || field.isAnnotationPresent(Inject.class);
+    }
+
+    private static ElementKind getFluentKind(Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        if (isList(field)) {
+            return FluentWebElement.class.isAssignableFrom(getFirstGenericType(field)) ? ElementKind.FLUENT_LIST
+                    : ElementKind.LIST;
+        }
+        if (ElementConstructor.of(field.getType()) != null) {
+            return ElementKind.ELEMENT;
+        }
+        return null;
+    }
+
+    private static ElementKind getSeleniumKind(Field field) {
+        if (WebElement.class.isAssignableFrom(field.getType())) {
+            return ElementKind.SELENIUM_ELEMENT;
+        }
+        if (isDecoratableList(field)) {
+            return ElementKind.SELENIUM_LIST;
+        }
+        return null;
+    }
+
+    private static boolean isList(Field field) {
+        return List.class.isAssignableFrom(field.getType());
+    }
+
+    private static boolean isDecoratableList(Field field) {
+        if (!isList(field)) {
+            return false;
+        }
+        Type genericType = field.getGenericType();
+        if (!(genericType instanceof ParameterizedType)) {
+            return false;
+        }
+        Type listType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        if (!WebElement.class.equals(listType)) {
+            return false;
+        }
+        return field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class);
+    }
+
+    private static Class<?> getFirstGenericType(Field field) {
+        Type[] actualTypeArguments = ((ParameterizedType) field.getGenericType()).getActualTypeArguments();
+
+        if (actualTypeArguments.length > 0) {
+            return (Class<?>) actualTypeArguments[0];
+        }
+
+        return null;
+    }
+
+    /**
+     * Field to inject with an element proxy.
+     */
+    static final class ElementField {
+        private final Field field;
+
+        private final ElementKind kind;
+
+        private final Class<?> elementClass;
+
+        private final ElementConstructor elementConstructor;
+
+        private final AbstractAnnotations annotations;
+
+        private final int ajaxTimeout;
+
+        private final Constructor<?> proxyConstructor;
+
+        private ElementField(Field field, ElementKind kind, ClassLoader classLoader) {
+            field.setAccessible(true);
+            this.field = field;
+            this.kind = kind;
+            this.annotations = new CachedAnnotations(new Annotations(field));
+
+            AjaxElement ajaxElement = field.getAnnotation(AjaxElement.class);
+            this.ajaxTimeout = ajaxElement == null || isSelenium() ? -1 : ajaxElement.timeOutInSeconds();
+
+            switch (kind) {
+                case FLUENT_LIST:
+                    elementClass = getFirstGenericType(field);
+                    proxyConstructor = getProxyConstructor(classLoader, FluentList.class);
+                    break;
+                case LIST:
+                    elementClass = getFirstGenericType(field);
+                    proxyConstructor = getProxyConstructor(classLoader, List.class);
+                    break;
+                case ELEMENT:
+                    elementClass = field.getType();
+                    proxyConstructor = getProxyConstructor(classLoader, WebElement.class, Locatable.class);
+                    break;
+                case SELENIUM_ELEMENT:
+                    elementClass = WebElement.class;
+                    proxyConstructor = getProxyConstructor(classLoader, WebElement.class, WrapsElement.class,
+                            Locatable.class);
+                    break;
+                default:
+                    elementClass = WebElement.class;
+                    proxyConstructor = getProxyConstructor(classLoader, List.class);
+                    break;
+            }
+            this.elementConstructor = isSelenium() ? null : ElementConstructor.of(elementClass);
+        }
+
+        private boolean isSelenium() {
+            return kind == ElementKind.SELENIUM_ELEMENT || kind == ElementKind.SELENIUM_LIST;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        ElementKind getKind() {
+            return kind;
+        }
+
+        /**
+         * Creates a new locator for this field.
+         *
+         * @param searchContext search context
+         * @return element locator
+         */
+        ElementLocator createLocator(SearchContext searchContext) {
+            if (ajaxTimeout < 0) {
+                return new DefaultElementLocator(searchContext, annotations);
+            }
+            return new AjaxElementLocator(new DeadlineClock(), searchContext, ajaxTimeout, annotations);
+        }
+
+        /**
+         * Creates a new proxy for this field.
+         *
+         * @param handler invocation handler of the proxy
+         * @return proxy instance
+         */
+        Object newProxy(InvocationHandler handler) {
+            try {
+                return proxyConstructor.newInstance(handler);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new FluentInjectException("Can't create proxy for field " + field, e);
+            }
+        }
+
+        /**
+         * Wrap an element into the component type of this field.
+         *
+         * @param element element to wrap
+         * @param driver  driver
+         * @return component
+         */
+        Object wrapElement(WebElement element, WebDriver driver) {
+            if (elementConstructor == null) {
+                throw new WebElementInjectException("Can't wrap element " + element + " into " + elementClass + "."
+                        + " No valid constructor found (WebElement) or (WebElement, WebDriver)");
+            }
+            return elementConstructor.newInstance(element, driver);
+        }
+
+        private static Constructor<?> getProxyConstructor(ClassLoader classLoader, Class<?>... interfaces) {
+            try {
+                return Proxy.getProxyClass(classLoader, interfaces).getConstructor(InvocationHandler.class);
+            } catch (NoSuchMethodException e) {
+                throw new FluentInjectException("Can't find proxy constructor", e);
+            }
+        }
+    }
+
+    /**
+     * Constructor of a component, taking a WebElement and optionally a WebDriver.
+     */
+    static final class ElementConstructor {
+        private final Constructor<?> constructor;
+
+        private final boolean withDriver;
+
+        private ElementConstructor(Constructor<?> constructor, boolean withDriver) {
+            this.constructor = constructor;
+            this.withDriver = withDriver;
+        }
+
+        /**
+         * Resolve the component constructor of the given class.
+         *
+         * @param componentClass component class
+         * @return component constructor, or null if the class is not a component
+         */
+        static ElementConstructor of(Class<?> componentClass) {
+            for (Constructor<?> constructor : componentClass.getConstructors()) {
+                Class<?>[] parameterTypes = constructor.getParameterTypes();
+                if (parameterTypes.length == 2 && parameterTypes[0] == WebElement.class
+                        && parameterTypes[1] == WebDriver.class) {
+                    return new ElementConstructor(constructor, true);
+                }
+            }
+            for (Constructor<?> constructor : componentClass.getConstructors()) {
+                Class<?>[] parameterTypes = constructor.getParameterTypes();
+                if (parameterTypes.length == 1 && parameterTypes[0] == WebElement.class) {
+                    return new ElementConstructor(constructor, false);
+                }
+            }
+            return null;
+        }
+
+        Object newInstance(WebElement element, WebDriver driver) {
+            try {
+                return withDriver ? constructor.newInstance(element, driver) : constructor.newInstance(element);
+            } catch (Exception e) {
+                throw new WebElementInjectException("Can't wrap element " + element + " into "
+                        + constructor.getDeclaringClass() + ".", e);
+            }
+        }
+    }
+
+    /**
+     * Annotations computed once, as they only depend on the field.
+     */
+    private static final class CachedAnnotations extends AbstractAnnotations {
+        private final AbstractAnnotations annotations;
+
+        private volatile By by;
+
+        private CachedAnnotations(AbstractAnnotations annotations) {
+            this.annotations = annotations;
+        }
+
+        @Override
+        public By buildBy() {
+            By result = by;
+            if (result == null) {
+                result = annotations.buildBy();
+                by = result;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isLookupCached() {
+            return annotations.isLookupCached();
+        }
+    }
+}
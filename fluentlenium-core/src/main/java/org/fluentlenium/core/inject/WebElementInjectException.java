@@ -5,6 +5,10 @@ package org.fluentlenium.core.inject;
  */
 public class WebElementInjectException extends FluentInjectException {
 
+    public WebElementInjectException(String s) {
+        super(s);
+    }
+
     public WebElementInjectException(String s, Throwable t) {
         super(s, t);
     }
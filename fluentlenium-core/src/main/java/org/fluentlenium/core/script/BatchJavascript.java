@@ -0,0 +1,196 @@
+package org.fluentlenium.core.script;
+
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execute javascript on a whole list of elements in a single script call, instead of one call per element.
+ * <p>
+ * Elements are given to the script as an array in {@code arguments[0]}, and additional arguments follow.
+ * Script is expected to return an array having one entry per element.
+ */
+public class BatchJavascript {
+    /**
+     * Attributes that {@link WebElement#getAttribute(String)} gives as "true" or null, as listed by Selenium.
+     */
+    private static final String BOOLEAN_ATTRIBUTES = "async autofocus autoplay checked compact complete controls declare "
+            + "defaultchecked defaultselected defer disabled draggable ended formnovalidate hidden indeterminate "
+            + "iscontenteditable ismap itemscope loop multiple muted nohref noresize noshade novalidate nowrap open "
+            + "paused pubdate readonly required reversed scoped seamless seeking selected spellcheck truespeed "
+            + "willvalidate";
+
+    /**
+     * Javascript function {@code attr(element, name)} returning an attribute value like
+     * {@link WebElement#getAttribute(String)} does.
+     * <p>
+     * It follows the getAttribute atom of Selenium: style gives its css text, selected and checked states,
+     * {@code href} of links and {@code src} of images give their property, boolean attributes give "true" or null,
+     * {@code class} and {@code readonly} read the {@code className} and {@code readOnly} properties, and other names
+     * give the property value, or the attribute value when there is no such property. Global attributes that are
+     * absent from the element give null instead of an empty string.
+     */
+    public static final String ATTRIBUTE_FUNCTION = "function attr(e, n) {"
+            + "var l = n.toLowerCase(), t = e.tagName.toLowerCase(), v;"
+            + "function raw(a) { return e.hasAttribute(a) ? e.getAttribute(a) : null; }"
+            + "if (l === 'style') { v = e.style; return v && typeof v !== 'string' ? v.cssText : v === undefined ? null : v; }"
+            + "if ((l === 'selected' || l === 'checked')"
+            + " && (t === 'option' || (t === 'input' && /^(checkbox|radio)$/i.test(e.type)))) {"
+            + "return (t === 'option' ? e.selected : e.checked) ? 'true' : null;"
+            + "}"
+            + "if ((t === 'img' && l === 'src') || (t === 'a' && l === 'href')) { v = raw(l); return v ? String(e[l]) : v; }"
+            + "if (l === 'spellcheck') {"
+            + "v = raw(l);"
+            + "return v !== null && /^(true|false)$/i.test(v) ? v.toLowerCase() : String(e.spellcheck);"
+            + "}"
+            + "var p = n === 'class' ? 'className' : n === 'readonly' ? 'readOnly' : n;"
+            + "if (' " + BOOLEAN_ATTRIBUTES + " '.indexOf(' ' + l + ' ') >= 0) { return raw(l) !== null || e[p] ? 'true' : null; }"
+            + "if (['id', 'class', 'title', 'lang', 'dir'].indexOf(l) >= 0 && !e.hasAttribute(l)) { return null; }"
+            + "try { v = e[p]; } catch (x) { v = undefined; }"
+            + "if (v === undefined || v === null || typeof v === 'object' || typeof v === 'function') { v = raw(l); }"
+            + "return v === undefined || v === null ? null : String(v);"
+            + "}";
+
+    /**
+     * Javascript function {@code text(element)} returning the visible text like {@link WebElement#getText()} does.
+     * <p>
+     * It relies on {@code innerText} and throws an error when the browser doesn't support it, so that the caller can
+     * fall back to {@link WebElement#getText()}.
+     */
+    public static final String TEXT_FUNCTION = "function text(e) {"
+            + "if (typeof e.innerText !== 'string') { throw new Error('innerText is not supported'); }"
+            + "for (var n = e; n && n.nodeType === 1; n = n.parentNode) {"
+            + "var s = window.getComputedStyle(n, null);"
+            + "if (s && (s.display === 'none' || (n === e && s.visibility === 'hidden'))) { return ''; }"
+            + "}"
+            + "return e.innerText.replace(/\\u00a0/g, ' ').trim();"
+            + "}";
+
+    private static final String ATTRIBUTES_SCRIPT = ATTRIBUTE_FUNCTION
+            + "var r = []; for (var i = 0; i < arguments[0].length; i++) { r.push(attr(arguments[0][i], arguments[1])); }"
+            + "return r;";
+
+    private static final String TEXTS_SCRIPT = TEXT_FUNCTION
+            + "var r = []; for (var i = 0; i < arguments[0].length; i++) { r.push(text(arguments[0][i])); }"
+            + "return r;";
+
+    private static final String TAG_NAMES_SCRIPT =
+            "var r = []; for (var i = 0; i < arguments[0].length; i++) { r.push(arguments[0][i].tagName.toLowerCase()); }"
+                    + "return r;";
+
+    private final JavascriptExecutor executor;
+
+    private final List<WebElement> elements;
+
+    protected BatchJavascript(JavascriptExecutor executor, List<WebElement> elements) {
+        this.executor = executor;
+        this.elements = elements;
+    }
+
+    /**
+     * Creates a batch javascript object for the given elements.
+     *
+     * @param elements elements to use in the script
+     * @return batch javascript object, or null if elements are empty or not bound to a single javascript
+     * enabled driver.
+     */
+    public static BatchJavascript of(List<? extends FluentWebElement> elements) {
+        if (elements.isEmpty()) {
+            return null;
+        }
+        WebDriver driver = null;
+        List<WebElement> webElements = new ArrayList<>(elements.size());
+        for (FluentWebElement element : elements) {
+            WebDriver elementDriver = element.getDriver();
+            WebElement webElement = element.getElement();
+            if (!(elementDriver instanceof JavascriptExecutor) || webElement == null) {
+                return null;
+            }
+            if (driver == null) {
+                driver = elementDriver;
+            } else if (driver != elementDriver) {
+                return null;
+            }
+            webElements.add(webElement);
+        }
+        return new BatchJavascript((JavascriptExecutor) driver, webElements);
+    }
+
+    /**
+     * Get the elements used by this object.
+     *
+     * @return list of selenium elements
+     */
+    public List<WebElement> getElements() {
+        return elements;
+    }
+
+    /**
+     * Execute the script.
+     *
+     * @param script javascript code, elements being available as {@code arguments[0]}
+     * @param args   additional arguments, available from {@code arguments[1]}
+     * @return list of results with one entry per element, or null if the driver can't execute this script.
+     */
+    public List<?> execute(String script, Object... args) {
+        Object[] scriptArgs = new Object[args.length + 1];
+        scriptArgs[0] = elements;
+        System.arraycopy(args, 0, scriptArgs, 1, args.length);
+
+        Object result;
+        try {
+            result = executor.executeScript(script, scriptArgs);
+        } catch (WebDriverException | UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+
+        if (!(result instanceof List) || ((List<?>) result).size() != elements.size()) {
+            return null;
+        }
+        return (List<?>) result;
+    }
+
+    /**
+     * Get an attribute value of each element.
+     *
+     * @param attribute attribute name
+     * @return attribute values, or null if the driver can't execute the script.
+     */
+    public List<String> getAttributes(String attribute) {
+        return toStrings(execute(ATTRIBUTES_SCRIPT, attribute));
+    }
+
+    /**
+     * Get the visible text of each element.
+     *
+     * @return texts, or null if the driver can't execute the script.
+     */
+    public List<String> getTexts() {
+        return toStrings(execute(TEXTS_SCRIPT));
+    }
+
+    /**
+     * Get the tag name of each element.
+     *
+     * @return tag names, or null if the driver can't execute the script.
+     */
+    public List<String> getTagNames() {
+        return toStrings(execute(TAG_NAMES_SCRIPT));
+    }
+
+    private static List<String> toStrings(List<?> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            strings.add(value == null ? null : String.valueOf(value));
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,110 @@
+package org.fluentlenium.core.script;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Script timeouts of drivers, as defined by {@code withDefaultScriptTimeout}.
+ * <p>
+ * Asynchronous scripts waiting in the browser raise the script timeout of the driver while they run, and restore the
+ * defined one afterwards. The script timeout of a driver that was never registered is unknown, as it may come from
+ * capabilities or from {@code driver.manage().timeouts()}: it is raised when needed and left as is afterwards.
+ */
+public enum ScriptTimeouts {
+    INSTANCE;
+
+    /**
+     * Time given to an asynchronous script to return its result after its own timeout, in milliseconds.
+     */
+    static final long MARGIN_MILLIS = 1000;
+
+    private final Map<WebDriver, DriverState> drivers = Collections.synchronizedMap(new WeakHashMap<WebDriver, DriverState>());
+
+    private static class DriverState {
+        private boolean registered;
+
+        private long configured;
+
+        private long applied;
+
+        private int running;
+    }
+
+    /**
+     * Register the script timeout defined for a driver.
+     *
+     * @param driver        driver
+     * @param timeoutMillis script timeout in milliseconds
+     */
+    public void register(WebDriver driver, long timeoutMillis) {
+        DriverState state = getState(driver);
+        synchronized (state) {
+            state.registered = true;
+            state.configured = timeoutMillis;
+            state.applied = timeoutMillis;
+        }
+    }
+
+    /**
+     * Get the script timeout defined for a driver.
+     *
+     * @param driver driver
+     * @return script timeout in milliseconds, or 0 if not defined
+     */
+    public long get(WebDriver driver) {
+        DriverState state = getState(driver);
+        synchronized (state) {
+            return state.configured;
+        }
+    }
+
+    /**
+     * Execute an asynchronous script returning within the given time.
+     * <p>
+     * Script timeout of the driver is raised if needed while the script runs, and the registered one is restored
+     * when the last running script of the driver is over.
+     *
+     * @param driver        driver, that must be a {@link JavascriptExecutor}
+     * @param timeoutMillis time after which the script returns by itself, in milliseconds
+     * @param script        script to execute
+     * @param args          script arguments
+     * @return script result
+     */
+    public Object executeAsyncScript(WebDriver driver, long timeoutMillis, String script, Object... args) {
+        DriverState state = getState(driver);
+        long scriptTimeout = timeoutMillis + MARGIN_MILLIS;
+        synchronized (state) {
+            if (scriptTimeout > state.applied) {
+                driver.manage().timeouts().setScriptTimeout(scriptTimeout, TimeUnit.MILLISECONDS);
+                state.applied = scriptTimeout;
+            }
+            state.running++;
+        }
+        try {
+            return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+        } finally {
+            synchronized (state) {
+                if (--state.running == 0 && state.registered && state.applied != state.configured) {
+                    state.applied = state.configured;
+                    driver.manage().timeouts().setScriptTimeout(state.configured, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    private DriverState getState(WebDriver driver) {
+        synchronized (drivers) {
+            DriverState state = drivers.get(driver);
+            if (state == null) {
+                state = new DriverState();
+                drivers.put(driver, state);
+            }
+            return state;
+        }
+    }
+}
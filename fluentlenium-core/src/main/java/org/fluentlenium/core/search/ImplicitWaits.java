@@ -0,0 +1,144 @@
+package org.fluentlenium.core.search;
+
+import com.google.common.base.Supplier;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implicit waits of drivers, as defined by {@code withDefaultSearchWait}.
+ * <p>
+ * Keeps track of the implicit wait defined for each driver and of the value currently applied, so it can be lowered or
+ * disabled temporarily and restored afterwards.
+ */
+public enum ImplicitWaits {
+    INSTANCE;
+
+    private final Map<WebDriver, DriverState> drivers = Collections.synchronizedMap(new WeakHashMap<WebDriver, DriverState>());
+
+    private static class DriverState {
+        private long configured;
+
+        private long applied;
+
+        private int disabled;
+    }
+
+    /**
+     * Register the implicit wait defined for a driver.
+     *
+     * @param driver        driver
+     * @param timeoutMillis implicit wait in milliseconds
+     */
+    public void register(WebDriver driver, long timeoutMillis) {
+        DriverState state = getState(driver, true);
+        synchronized (state) {
+            state.configured = timeoutMillis;
+            state.applied = timeoutMillis;
+        }
+    }
+
+    /**
+     * Get the implicit wait defined for a driver.
+     *
+     * @param driver driver
+     * @return implicit wait in milliseconds, or 0 if not defined
+     */
+    public long get(WebDriver driver) {
+        DriverState state = getState(driver, false);
+        if (state == null) {
+            return 0;
+        }
+        synchronized (state) {
+            return state.configured;
+        }
+    }
+
+    /**
+     * Get the implicit wait currently applied to a driver, which may be lower than the one defined.
+     *
+     * @param driver driver
+     * @return implicit wait in milliseconds, or 0 if not defined
+     */
+    public long getApplied(WebDriver driver) {
+        DriverState state = getState(driver, false);
+        if (state == null) {
+            return 0;
+        }
+        synchronized (state) {
+            return state.applied;
+        }
+    }
+
+    /**
+     * Apply an implicit wait to a driver without changing the one defined for it.
+     *
+     * @param driver        driver
+     * @param timeoutMillis implicit wait in milliseconds
+     */
+    public void apply(WebDriver driver, long timeoutMillis) {
+        DriverState state = getState(driver, false);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.applied = timeoutMillis;
+            if (state.disabled == 0) {
+                driver.manage().timeouts().implicitlyWait(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Perform a lookup with implicit wait disabled, so a lookup expecting no element returns immediately.
+     * <p>
+     * Implicit wait is restored when the last concurrent lookup of the driver is over.
+     *
+     * @param driver driver
+     * @param lookup lookup to perform
+     * @param <T>    type of lookup result
+     * @return lookup result
+     */
+    public <T> T withoutImplicitWait(WebDriver driver, Supplier<T> lookup) {
+        DriverState state = getState(driver, false);
+        if (state == null) {
+            return lookup.get();
+        }
+        boolean enabled;
+        synchronized (state) {
+            enabled = state.applied != 0 || state.disabled != 0;
+            if (enabled && state.disabled++ == 0) {
+                driver.manage().timeouts().implicitlyWait(0, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (!enabled) {
+            return lookup.get();
+        }
+        try {
+            return lookup.get();
+        } finally {
+            synchronized (state) {
+                if (--state.disabled == 0) {
+                    driver.manage().timeouts().implicitlyWait(state.applied, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    private DriverState getState(WebDriver driver, boolean create) {
+        if (driver == null) {
+            return null;
+        }
+        synchronized (drivers) {
+            DriverState state = drivers.get(driver);
+            if (state == null && create) {
+                state = new DriverState();
+                drivers.put(driver, state);
+            }
+            return state;
+        }
+    }
+}
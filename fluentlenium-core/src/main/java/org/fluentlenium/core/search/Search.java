@@ -1,13 +1,12 @@
 package org.fluentlenium.core.search;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Collections2;
-import com.google.common.collect.Lists;
 import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentListImpl;
 import org.fluentlenium.core.domain.FluentWebElement;
 import org.fluentlenium.core.filter.Filter;
 import org.fluentlenium.core.filter.FilterPredicate;
+import org.fluentlenium.core.filter.FilterScript;
+import org.fluentlenium.core.wait.WaitDeadline;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
@@ -15,7 +14,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.List;
 
 public class Search implements SearchControl<FluentWebElement> {
@@ -32,6 +31,15 @@ public class Search implements SearchControl<FluentWebElement> {
         this.driver = driver;
     }
 
+    /**
+     * Get the context elements are searched from.
+     *
+     * @return search context, the driver or an element
+     */
+    public SearchContext getSearchContext() {
+        return searchContext;
+    }
+
     /**
      * Central methods to find elements on the page. Can provide some filters. Able to use css1, css2, css3, see WebDriver  restrictions
      *
@@ -52,29 +60,73 @@ public class Search implements SearchControl<FluentWebElement> {
                 }
             }
         }
-        Collection<FluentWebElement> postFiltered = select(sb.toString());
-        for (Filter selector : postFilterSelector) {
-            postFiltered = Collections2.filter(postFiltered, new FilterPredicate(selector));
-        }
+        List<FluentWebElement> postFiltered = postFilter(select(sb.toString()), postFilterSelector);
 
         return new FluentListImpl<FluentWebElement>(postFiltered);
     }
 
+    /**
+     * Apply post filters. Filters are evaluated by the browser in a single script call when possible, and
+     * remaining ones are evaluated in a single pass, exactly once per element.
+     *
+     * @param elements elements to filter
+     * @param filters  post filters
+     * @return filtered elements
+     */
+    private List<FluentWebElement> postFilter(List<FluentWebElement> elements, List<Filter> filters) {
+        if (filters.isEmpty()) {
+            return elements;
+        }
+
+        List<FluentWebElement> postFiltered = elements;
+        List<Filter> predicateFilters = filters;
+
+        FilterScript filterScript = new FilterScript(filters);
+        List<FluentWebElement> scriptFiltered = filterScript.filter(elements);
+        if (scriptFiltered != null) {
+            postFiltered = scriptFiltered;
+            predicateFilters = filterScript.getRemainingFilters();
+        }
+
+        if (predicateFilters.isEmpty()) {
+            return postFiltered;
+        }
+
+        List<FilterPredicate> predicates = new ArrayList<>(predicateFilters.size());
+        for (Filter filter : predicateFilters) {
+            predicates.add(new FilterPredicate(filter));
+        }
+
+        List<FluentWebElement> filtered = new ArrayList<>();
+        for (FluentWebElement element : postFiltered) {
+            if (applyAll(predicates, element)) {
+                filtered.add(element);
+            }
+        }
+        return filtered;
+    }
+
+    private static boolean applyAll(List<FilterPredicate> predicates, FluentWebElement element) {
+        for (FilterPredicate predicate : predicates) {
+            if (!predicate.apply(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private List<FluentWebElement> select(String cssSelector) {
-        return Lists.transform(searchContext.findElements(By.cssSelector(cssSelector)),
-                new Function<WebElement, FluentWebElement>() {
-                    public FluentWebElement apply(WebElement webElement) {
-                        return new FluentWebElement(webElement, driver);
-                    }
-                });
+        return select(By.cssSelector(cssSelector));
     }
 
     private List<FluentWebElement> select(By locator) {
-        return Lists.transform(searchContext.findElements(locator), new Function<WebElement, FluentWebElement>() {
-            public FluentWebElement apply(WebElement webElement) {
-                return new FluentWebElement(webElement, driver);
-            }
-        });
+        WaitDeadline.INSTANCE.beforeSearch(driver);
+        List<WebElement> elements = searchContext.findElements(locator);
+        List<FluentWebElement> fluentElements = new ArrayList<>(elements.size());
+        for (WebElement element : elements) {
+            fluentElements.add(new FluentWebElement(element, driver));
+        }
+        return fluentElements;
     }
 
     /**
@@ -134,11 +186,7 @@ public class Search implements SearchControl<FluentWebElement> {
      */
     @Override
     public FluentList<FluentWebElement> find(By locator, final Filter... filters) {
-        List<FluentWebElement> preFiltered = select(locator);
-        Collection<FluentWebElement> postFiltered = preFiltered;
-        for (Filter selector : filters) {
-            postFiltered = Collections2.filter(postFiltered, new FilterPredicate(selector));
-        }
+        List<FluentWebElement> postFiltered = postFilter(select(locator), Arrays.asList(filters));
 
         return new FluentListImpl<>(postFiltered);
     }
@@ -1,5 +1,8 @@
 package org.fluentlenium.core.snapshot;
 
+import java.io.File;
+import java.util.concurrent.Future;
+
 public interface SnapshotControl {
 
     /**
@@ -16,6 +19,19 @@ public interface SnapshotControl {
      */
     void takeHtmlDump(String fileName);
 
+    /**
+     * Take a html dump of the browser DOM into a file given by the fileName param, without waiting for the file to be
+     * written.
+     * <p>
+     * DOM is captured before this method returns, and written in background by {@link SnapshotWriter}. If the DOM
+     * can't be captured or written, an error report is written in place of the dump.
+     *
+     * @param fileName
+     *            file name for html dump
+     * @return future of the written file
+     */
+    Future<File> takeHtmlDumpAsync(String fileName);
+
     /**
      * Check if underlying {@link org.openqa.selenium.WebDriver} can take screenshot.
      * 
@@ -39,4 +55,16 @@ public interface SnapshotControl {
      * @return fluent object
      */
     void takeScreenShot(String fileName);
+
+    /**
+     * Take a snapshot of the browser into a file given by the fileName param, without waiting for the file to be
+     * written.
+     * <p>
+     * Screenshot is captured before this method returns, and written in background by {@link SnapshotWriter}.
+     *
+     * @param fileName
+     *            file name for screenshot
+     * @return future of the written file
+     */
+    Future<File> takeScreenShotAsync(String fileName);
 }
@@ -0,0 +1,209 @@
+package org.fluentlenium.core.snapshot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Writes screenshots and HTML dumps to disk in background.
+ * <p>
+ * Snapshots are captured by the test thread, then encoded and written by a bounded pool of daemon threads, so that
+ * test threads don't wait for the disk. When too many snapshots are pending, the test thread writes its own
+ * snapshot. Pending snapshots are flushed when the JVM exits.
+ * <p>
+ * Snapshots are not compressed: screenshots are already PNG encoded by the driver, and HTML dumps are kept as plain
+ * files so they can still be opened in a browser.
+ */
+public enum SnapshotWriter {
+    INSTANCE;
+
+    /**
+     * Default time to wait for pending snapshots to be written, in seconds.
+     */
+    public static final long DEFAULT_FLUSH_TIMEOUT_SECONDS = 30;
+
+    private static final int THREADS = 2;
+
+    private static final int MAX_PENDING = 64;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Set<Future<File>> pending = Collections.newSetFromMap(new ConcurrentHashMap<Future<File>, Boolean>());
+
+    SnapshotWriter() {
+        executor = new ThreadPoolExecutor(THREADS, THREADS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(MAX_PENDING),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("fluentlenium-snapshot-writer-%d").build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        Runtime.getRuntime().addShutdownHook(new Thread("SnapshotWriterShutdownHook") {
+            @Override
+            public void run() {
+                flush();
+            }
+        });
+    }
+
+    /**
+     * Write binary data, like a screenshot, to a file.
+     *
+     * @param destFile destination file
+     * @param data     data to write
+     * @return future of the written file
+     */
+    public Future<File> write(final File destFile, final byte[] data) {
+        return submit(new Callable<File>() {
+            @Override
+            public File call() throws IOException {
+                FileUtils.writeByteArrayToFile(destFile, data);
+                return destFile;
+            }
+        });
+    }
+
+    /**
+     * Write text, like an HTML dump, to a UTF-8 file.
+     *
+     * @param destFile destination file
+     * @param content  text to write
+     * @return future of the written file
+     */
+    public Future<File> write(final File destFile, final String content) {
+        return submit(new Callable<File>() {
+            @Override
+            public File call() throws IOException {
+                FileUtils.writeByteArrayToFile(destFile, content.getBytes(StandardCharsets.UTF_8));
+                return destFile;
+            }
+        });
+    }
+
+    /**
+     * Write text, like an HTML dump, to a UTF-8 file, or an error report in place of the text if it can't be written.
+     * <p>
+     * The returned future fails only if the error report can't be written either.
+     *
+     * @param destFile destination file
+     * @param content  text to write
+     * @param message  message written before the stack trace of the error report
+     * @return future of the written file
+     */
+    public Future<File> writeOrReport(final File destFile, final String content, final String message) {
+        return submit(new Callable<File>() {
+            @Override
+            public File call() throws IOException {
+                try {
+                    FileUtils.writeByteArrayToFile(destFile, content.getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    try {
+                        FileUtils.writeByteArrayToFile(destFile, report(message, e).getBytes(StandardCharsets.UTF_8));
+                    } catch (IOException e1) {
+                        throw e;
+                    }
+                }
+                return destFile;
+            }
+        });
+    }
+
+    /**
+     * Write an error report to a UTF-8 file, in place of a snapshot that couldn't be captured.
+     *
+     * @param destFile destination file
+     * @param message  message written before the stack trace
+     * @param error    error to report
+     * @return future of the written file
+     */
+    public Future<File> write(File destFile, String message, Throwable error) {
+        return write(destFile, report(message, error));
+    }
+
+    private static String report(String message, Throwable error) {
+        StringWriter report = new StringWriter();
+        PrintWriter printWriter = new PrintWriter(report);
+        printWriter.println(message);
+        error.printStackTrace(printWriter);
+        printWriter.flush();
+        return report.toString();
+    }
+
+    private Future<File> submit(Callable<File> write) {
+        // Task is removed from pending snapshots before completion, so that it's not pending anymore once waited.
+        FutureTask<File> task = new FutureTask<File>(write) {
+            @Override
+            protected void set(File file) {
+                pending.remove(this);
+                super.set(file);
+            }
+
+            @Override
+            protected void setException(Throwable t) {
+                pending.remove(this);
+                super.setException(t);
+            }
+        };
+        pending.add(task);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Wait until pending snapshots are written, at most {@link #DEFAULT_FLUSH_TIMEOUT_SECONDS}.
+     *
+     * @return true if all pending snapshots have been written, false if timeout has expired
+     */
+    public boolean flush() {
+        return flush(DEFAULT_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Wait until pending snapshots are written.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of timeout
+     * @return true if all pending snapshots have been written, false if timeout has expired
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<Future<File>> futures = new ArrayList<>(pending);
+        for (Future<File> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                // Failure is reported to the caller of write.
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of snapshots waiting to be written.
+     *
+     * @return number of pending snapshots
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+}
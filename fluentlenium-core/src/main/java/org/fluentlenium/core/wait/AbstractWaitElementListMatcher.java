@@ -2,6 +2,7 @@ package org.fluentlenium.core.wait;
 
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 import org.fluentlenium.core.FluentDriver;
 import org.fluentlenium.core.conditions.IntegerConditions;
 import org.fluentlenium.core.domain.FluentWebElement;
@@ -28,7 +29,12 @@ public abstract class AbstractWaitElementListMatcher extends AbstractWaitElement
             public boolean apply(FluentDriver input) {
                 return condition().isVerified(predicate, defaultValue);
             }
-        }, negation ? isPredicateNotVerifiedMessage(selectionName) : isPredicateVerifiedMessage(selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isPredicateNotVerifiedMessage(selectionName) : isPredicateVerifiedMessage(selectionName);
+            }
+        });
         return true;
     }
 
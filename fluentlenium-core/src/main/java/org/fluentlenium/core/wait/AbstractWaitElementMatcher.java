@@ -38,6 +38,10 @@ import static org.fluentlenium.core.wait.FluentWaitMessages.isStaleMessage;
 
 /**
  * Base Matcher for waiting on a single element.
+ * <p>
+ * Conditions return true when verified, or throw a TimeoutException. They can't be used on a {@link FluentWait#async()}
+ * wait, as their result isn't known when they return: start them with
+ * {@link FluentWait#untilMatchersAsync(AsyncMatchers)}, whose future gives the result.
  */
 public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher implements FluentConditions {
     protected Search search;
@@ -58,12 +62,47 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
      */
     abstract protected FluentList<? extends FluentWebElement> find();
 
+    /**
+     * Get a script waiting for the given condition inside the browser.
+     *
+     * @param condition condition to wait for
+     * @param arguments arguments of the condition
+     * @return wait script, or null if elements of this matcher can't be found by the browser
+     */
+    MutationWaitScript mutationWaitScript(String condition, String... arguments) {
+        return null;
+    }
+
+    @Override
+    protected void until(FluentWait wait, Predicate<FluentDriver> present, Supplier<String> defaultMessage) {
+        wait.checkMatcherResult();
+        super.until(wait, present, defaultMessage);
+    }
+
+    @Override
+    String getSelectionName() {
+        return selectionName;
+    }
+
+    private Predicate<FluentDriver> observe(Predicate<FluentDriver> predicate, String condition, String... arguments) {
+        // Asynchronous waits share scheduler threads, that must not be held by a script waiting in the browser.
+        if (!wait.useMutationObserver() || wait.isAsync()) {
+            return predicate;
+        }
+        MutationWaitScript script = mutationWaitScript(condition, arguments);
+        return script == null ? predicate : script.wrap(predicate, wait.getTimeoutMillis());
+    }
+
     protected FluentListConditions condition() {
-        FluentListConditions conditions = find().one();
         if (negation) {
-            conditions = conditions.not();
+            return wait.withoutImplicitWait(new Supplier<FluentListConditions>() {
+                @Override
+                public FluentListConditions get() {
+                    return find().one().not();
+                }
+            });
         }
-        return conditions;
+        return find().one();
     }
 
     @Override
@@ -73,7 +112,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
             public boolean apply(FluentDriver input) {
                 return condition().isVerified(predicate);
             }
-        }, negation ? isPredicateNotVerifiedMessage(selectionName) : isPredicateVerifiedMessage(selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isPredicateNotVerifiedMessage(selectionName) : isPredicateVerifiedMessage(selectionName);
+            }
+        });
         return true;
     }
 
@@ -90,7 +134,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return Iterables.all(find(), isAboveScreenTopOrInvisible());
             }
         };
-        until(wait, isAbove, isAboveMessage(find().getIds()));
+        until(wait, isAbove, new Supplier<String>() {
+            @Override
+            public String get() {
+                return isAboveMessage(find().getIds());
+            }
+        });
     }
 
     private Predicate<FluentWebElement> isAboveScreenTopOrInvisible() {
@@ -111,7 +160,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().hasAttribute(attribute, value);
             }
         };
-        until(wait, hasAttribute, negation ? hasNotAttributeMessage(selectionName, attribute, value) : hasAttributeMessage(selectionName, attribute, value));
+        until(wait, observe(hasAttribute, MutationWaitScript.ATTRIBUTE, attribute, value), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? hasNotAttributeMessage(selectionName, attribute, value) : hasAttributeMessage(selectionName, attribute, value);
+            }
+        });
         return true;
     }
 
@@ -122,7 +176,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().hasId(value);
             }
         };
-        until(wait, hasId, negation ? hasNotIdMessage(selectionName, value) : hasIdMessage(selectionName, value));
+        until(wait, observe(hasId, MutationWaitScript.ATTRIBUTE, "id", value), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? hasNotIdMessage(selectionName, value) : hasIdMessage(selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -133,7 +192,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().hasName(value);
             }
         };
-        until(wait, hasName, negation ? hasNotNameMessage(selectionName, value) : hasNameMessage(selectionName, value));
+        until(wait, observe(hasName, MutationWaitScript.ATTRIBUTE, "name", value), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? hasNotNameMessage(selectionName, value) : hasNameMessage(selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -144,7 +208,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().containsText(value);
             }
         };
-        until(wait, containsText, negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value));
+        until(wait, observe(containsText, MutationWaitScript.CONTAINS_TEXT, value), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -155,7 +224,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().hasText(value);
             }
         };
-        until(wait, hasText, negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value));
+        until(wait, observe(hasText, MutationWaitScript.TEXT, value), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -168,7 +242,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().isPresent();
             }
         };
-        until(wait, isPresent, negation ? isNotPresentMessage(selectionName) : isPresentMessage(selectionName));
+        until(wait, observe(isPresent, MutationWaitScript.PRESENT), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isNotPresentMessage(selectionName) : isPresentMessage(selectionName);
+            }
+        });
         return true;
     }
 
@@ -180,7 +259,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().isDisplayed();
             }
         };
-        until(wait, isDisplayed, negation ? isNotDisplayedMessage(selectionName) : isDisplayedMessage(selectionName));
+        until(wait, observe(isDisplayed, MutationWaitScript.DISPLAYED), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isNotDisplayedMessage(selectionName) : isDisplayedMessage(selectionName);
+            }
+        });
         return true;
     }
 
@@ -192,7 +276,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().isEnabled();
             }
         };
-        until(wait, isEnabled, negation ? isNotEnabledMessage(selectionName) : isEnabledMessage(selectionName));
+        until(wait, observe(isEnabled, MutationWaitScript.ENABLED), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isNotEnabledMessage(selectionName) : isEnabledMessage(selectionName);
+            }
+        });
         return true;
     }
 
@@ -204,7 +293,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().isSelected();
             }
         };
-        until(wait, isSelected, negation ? isNotSelectedMessage(selectionName) : isSelectedMessage(selectionName));
+        until(wait, observe(isSelected, MutationWaitScript.SELECTED), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isNotSelectedMessage(selectionName) : isSelectedMessage(selectionName);
+            }
+        });
         return true;
     }
 
@@ -216,7 +310,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().isClickable();
             }
         };
-        until(wait, isClickable, negation ? isNotClickableMessage(selectionName) : isClickableMessage(selectionName));
+        until(wait, observe(isClickable, MutationWaitScript.CLICKABLE), new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isNotClickableMessage(selectionName) : isClickableMessage(selectionName);
+            }
+        });
         return true;
     }
 
@@ -228,7 +327,12 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
                 return condition().isStale();
             }
         };
-        until(wait, isStale, negation ? isNotStaleMessage(selectionName) : isStaleMessage(selectionName));
+        until(wait, isStale, new Supplier<String>() {
+            @Override
+            public String get() {
+                return negation ? isNotStaleMessage(selectionName) : isStaleMessage(selectionName);
+            }
+        });
         return true;
     }
 
@@ -2,6 +2,8 @@ package org.fluentlenium.core.wait;
 
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import org.fluentlenium.core.FluentDriver;
 
 /**
@@ -26,11 +28,37 @@ public abstract class AbstractWaitMatcher {
      * @param defaultMessage default message to use.
      */
     protected void until(FluentWait wait, Predicate<FluentDriver> present, String defaultMessage) {
+        until(wait, present, Suppliers.ofInstance(defaultMessage));
+    }
+
+    /**
+     * Perform the wait.
+     * <p>
+     * Message is built only if the wait times out.
+     *
+     * @param wait fluent wait object.
+     * @param present predicate to wait for.
+     * @param defaultMessage supplier of the default message to use.
+     */
+    protected void until(FluentWait wait, Predicate<FluentDriver> present, final Supplier<String> defaultMessage) {
         if (wait.useCustomMessage()) {
-            wait.untilPredicate(present);
+            wait.untilPredicate(present, getSelectionName());
         } else {
-            String message = buildMessage(defaultMessage);
-            wait.withMessage(message).untilPredicate(present);
+            wait.withMessage(new Supplier<String>() {
+                @Override
+                public String get() {
+                    return buildMessage(defaultMessage.get());
+                }
+            }).untilPredicate(present, getSelectionName());
         }
     }
+
+    /**
+     * Get the description of what this matcher is waiting for, recorded by {@link WaitTelemetry}.
+     *
+     * @return selection name, or null
+     */
+    String getSelectionName() {
+        return null;
+    }
 }
@@ -0,0 +1,16 @@
+package org.fluentlenium.core.wait;
+
+/**
+ * Matchers started asynchronously by {@link FluentWait#untilMatchersAsync(AsyncMatchers)}.
+ */
+public interface AsyncMatchers {
+    /**
+     * Start the waits of matchers, like {@code wait.until(".message").hasText("Hello")}.
+     * <p>
+     * Matchers return before their condition is checked, so their boolean result has no meaning and should be
+     * ignored. The result is given by the future returned by {@link FluentWait#untilMatchersAsync(AsyncMatchers)}.
+     *
+     * @param wait asynchronous wait to start the matchers from
+     */
+    void start(FluentWait wait);
+}
@@ -0,0 +1,140 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.fluentlenium.core.FluentDriver;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous wait, polling a condition on a scheduler shared by all asynchronous waits.
+ * <p>
+ * No thread is held between two polls, so many waits on many drivers can run concurrently with a few threads.
+ * A thread is only used while the condition is evaluated.
+ *
+ * @param <T> type of the condition result
+ */
+class AsyncWaitTask<T> implements Runnable {
+    static final int SCHEDULER_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+    private final FluentDriver fluent;
+
+    private final Function<? super FluentDriver, T> condition;
+
+    private final long timeoutMillis;
+
+    private final long pollingMillis;
+
+    private final PollingSchedule pollingSchedule;
+
+    private final List<Class<? extends Throwable>> ignoredExceptions;
+
+    private final Supplier<String> message;
+
+    private final String selection;
+
+    private final StackTraceElement[] stack;
+
+    private final SettableFuture<T> future = SettableFuture.create();
+
+    private long startNanos;
+
+    private int pollCount;
+
+    private Throwable lastException;
+
+    AsyncWaitTask(FluentDriver fluent, Function<? super FluentDriver, T> condition, long timeoutMillis, long pollingMillis,
+            PollingSchedule pollingSchedule, Collection<Class<? extends Throwable>> ignoredExceptions,
+            Supplier<String> message, String selection) {
+        this.fluent = fluent;
+        this.condition = condition;
+        this.timeoutMillis = timeoutMillis;
+        this.pollingMillis = pollingMillis;
+        this.pollingSchedule = pollingSchedule;
+        this.ignoredExceptions = new ArrayList<>(ignoredExceptions);
+        this.message = message;
+        this.selection = selection;
+        this.stack = WaitTelemetry.INSTANCE.isEnabled() ? new Throwable().getStackTrace() : null;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("fluentlenium-wait-%d").build());
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Start polling the condition.
+     *
+     * @return future completed with the condition result, or with a {@link TimeoutException} if the timeout has expired
+     */
+    ListenableFuture<T> start() {
+        startNanos = System.nanoTime();
+        SCHEDULER.execute(this);
+        return future;
+    }
+
+    @Override
+    public void run() {
+        if (future.isDone()) {
+            return;
+        }
+        pollCount++;
+        try {
+            T value = condition.apply(fluent);
+            if (value != null && !Boolean.FALSE.equals(value)) {
+                complete(WaitRecord.Outcome.SUCCESS);
+                future.set(value);
+                return;
+            }
+        } catch (Throwable e) {
+            if (!isIgnored(e)) {
+                complete(WaitRecord.Outcome.ERROR);
+                future.setException(e);
+                return;
+            }
+            lastException = e;
+        }
+
+        long remaining = timeoutMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (remaining <= 0) {
+            complete(WaitRecord.Outcome.TIMEOUT);
+            future.setException(timeoutException());
+            return;
+        }
+        long delay = pollingSchedule == null ? pollingMillis : pollingSchedule.getDelayMillis(pollCount);
+        SCHEDULER.schedule(this, Math.min(delay, remaining), TimeUnit.MILLISECONDS);
+    }
+
+    private boolean isIgnored(Throwable e) {
+        for (Class<? extends Throwable> ignoredException : ignoredExceptions) {
+            if (ignoredException.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TimeoutException timeoutException() {
+        String description = message == null ? null : message.get();
+        String timeoutMessage = String.format("Timed out after %d seconds%s", TimeUnit.MILLISECONDS.toSeconds(timeoutMillis),
+                description == null ? " waiting for " + condition : ": " + description);
+        return new TimeoutException(timeoutMessage, lastException);
+    }
+
+    private void complete(WaitRecord.Outcome outcome) {
+        WaitTelemetry.INSTANCE.record(selection, stack, startNanos, pollCount, outcome);
+    }
+}
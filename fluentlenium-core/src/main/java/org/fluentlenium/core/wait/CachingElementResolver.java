@@ -0,0 +1,124 @@
+package org.fluentlenium.core.wait;
+
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentListImpl;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.FilterScript;
+import org.fluentlenium.core.filter.matcher.MatcherScript;
+import org.fluentlenium.core.script.BatchJavascript;
+import org.fluentlenium.core.search.Search;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolve elements of a wait matcher on each poll, reusing the elements found by the previous poll.
+ * <p>
+ * Elements found by the locator are kept between polls. On next polls, a single script call checks that the
+ * locator still matches exactly the same elements, and evaluates post filters on them. The locator is searched again
+ * only when elements went stale or the set of matching elements has changed, so a poll costs one script call instead
+ * of a search and a filter script call.
+ * <p>
+ * Only CSS selectors with filters that can be evaluated by the browser are cached. Other locators are searched on
+ * each poll.
+ */
+class CachingElementResolver {
+    private static final String RESOLVE_SCRIPT = BatchJavascript.ATTRIBUTE_FUNCTION + BatchJavascript.TEXT_FUNCTION
+            + MatcherScript.MATCH_FUNCTION
+            + "var cached = arguments[0], selector = arguments[1], filters = arguments[2], root = arguments[3] || document;"
+            + "var found = root.querySelectorAll(selector);"
+            + "if (found.length !== cached.length) { return null; }"
+            + "var r = [];"
+            + "for (var i = 0; i < found.length; i++) {"
+            + "if (found[i] !== cached[i]) { return null; }"
+            + "var ok = true;"
+            + "for (var j = 0; j < filters.length && ok; j++) {"
+            + "var f = filters[j]; ok = match(f[0] === 'text' ? text(found[i]) : attr(found[i], f[0]), f[1]);"
+            + "}"
+            + "r.push(ok);"
+            + "}"
+            + "return r;";
+
+    private final Search search;
+
+    private final By locator;
+
+    private final String cssSelector;
+
+    private List<Filter> scriptFilters;
+
+    private FilterScript filterScript;
+
+    private List<FluentWebElement> cached;
+
+    CachingElementResolver(Search search, By locator) {
+        this.search = search;
+        this.locator = locator;
+        this.cssSelector = MutationWaitScript.getCssSelector(locator);
+    }
+
+    /**
+     * Resolve elements matching the locator and filters.
+     *
+     * @param filters post filters
+     * @return matching elements
+     */
+    FluentList<FluentWebElement> resolve(List<Filter> filters) {
+        FilterScript filterScript = getFilterScript(filters);
+        SearchContext context = search.getSearchContext();
+        if (cssSelector == null || !filterScript.getRemainingFilters().isEmpty()
+                || !(context instanceof WebDriver || context instanceof WebElement)) {
+            cached = null;
+            return find(filters);
+        }
+
+        if (cached != null) {
+            BatchJavascript batch = BatchJavascript.of(cached);
+            Object[] arguments = context instanceof WebElement
+                    ? new Object[] {cssSelector, filterScript.getScriptFilters(), context}
+                    : new Object[] {cssSelector, filterScript.getScriptFilters()};
+            List<?> matches = batch == null ? null : batch.execute(RESOLVE_SCRIPT, arguments);
+            if (matches != null) {
+                List<FluentWebElement> elements = new ArrayList<>();
+                for (int i = 0; i < cached.size(); i++) {
+                    if (Boolean.TRUE.equals(matches.get(i))) {
+                        elements.add(cached.get(i));
+                    }
+                }
+                return new FluentListImpl<>(elements);
+            }
+        }
+
+        cached = new ArrayList<>(search.find(locator));
+        if (filters.isEmpty()) {
+            return new FluentListImpl<>(cached);
+        }
+        List<FluentWebElement> filtered = filterScript.filter(cached);
+        if (filtered == null) {
+            cached = null;
+            return find(filters);
+        }
+        return new FluentListImpl<>(filtered);
+    }
+
+    private FilterScript getFilterScript(List<Filter> filters) {
+        // Filters are added to the matcher before the wait starts, so the script is built once for all polls.
+        if (filterScript == null || !filters.equals(scriptFilters)) {
+            scriptFilters = new ArrayList<>(filters);
+            filterScript = new FilterScript(scriptFilters);
+        }
+        return filterScript;
+    }
+
+    private FluentList<FluentWebElement> find(List<Filter> filters) {
+        if (filters.isEmpty()) {
+            return search.find(locator);
+        }
+        return search.find(locator, filters.toArray(new Filter[filters.size()]));
+    }
+}
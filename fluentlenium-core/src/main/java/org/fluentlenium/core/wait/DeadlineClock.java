@@ -0,0 +1,29 @@
+package org.fluentlenium.core.wait;
+
+import org.openqa.selenium.support.ui.Clock;
+import org.openqa.selenium.support.ui.SystemClock;
+
+/**
+ * System clock ending timeouts at the {@link WaitDeadline} of the current thread.
+ * <p>
+ * Selenium waits and {@code AjaxElementLocator} compute the end of their timeout with {@link #laterBy(long)}, so they
+ * time out at the deadline when it comes first.
+ */
+public class DeadlineClock implements Clock {
+    private final Clock clock = new SystemClock();
+
+    @Override
+    public long now() {
+        return clock.now();
+    }
+
+    @Override
+    public long laterBy(long durationInMillis) {
+        return clock.laterBy(WaitDeadline.INSTANCE.bound(durationInMillis));
+    }
+
+    @Override
+    public boolean isNowBefore(long endInMillis) {
+        return clock.isNowBefore(endInMillis);
+    }
+}
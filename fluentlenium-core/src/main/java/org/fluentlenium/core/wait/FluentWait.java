@@ -1,18 +1,29 @@
 package org.fluentlenium.core.wait;
 
 import com.google.common.base.Function;
+import com.google.common.base.Functions;
 import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import org.fluentlenium.core.FluentDriver;
 import org.fluentlenium.core.FluentPage;
 import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.search.ImplicitWaits;
 import org.fluentlenium.core.search.Search;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.Sleeper;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -20,18 +31,32 @@ import java.util.concurrent.TimeUnit;
  */
 public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDriver> {
 
+    private final DeadlineClock clock = new DeadlineClock();
     private final org.openqa.selenium.support.ui.FluentWait<FluentDriver> wait;
+    private final FluentDriver fluent;
     private final Search search;
     private final WebDriver driver;
+    private final Set<Class<? extends Throwable>> ignoredExceptions = new LinkedHashSet<>();
+    private Supplier<String> message;
+    private boolean async;
+    private final List<ListenableFuture<?>> futures = new ArrayList<>();
+    private boolean startingMatchers;
     private boolean useDefaultException;
     private boolean useCustomMessage;
+    private boolean useMutationObserver;
+    private PollingSchedule pollingSchedule;
+    private int pollCount;
+    private long pollEndMillis;
+    private long timeoutMillis = org.openqa.selenium.support.ui.FluentWait.FIVE_HUNDRED_MILLIS.in(TimeUnit.MILLISECONDS);
+    private long pollingMillis = org.openqa.selenium.support.ui.FluentWait.FIVE_HUNDRED_MILLIS.in(TimeUnit.MILLISECONDS);
 
     public org.openqa.selenium.support.ui.FluentWait getWait() {
         return wait;
     }
 
     public FluentWait(FluentDriver fluent, Search search) {
-        wait = new org.openqa.selenium.support.ui.FluentWait<FluentDriver>(fluent);
+        wait = new org.openqa.selenium.support.ui.FluentWait<FluentDriver>(fluent, clock, new ScheduleSleeper());
+        this.fluent = fluent;
         this.search = search;
         driver = fluent.getDriver();
         useDefaultException = true;
@@ -39,6 +64,7 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
 
     public FluentWait atMost(long duration, java.util.concurrent.TimeUnit unit) {
         wait.withTimeout(duration, unit);
+        timeoutMillis = unit.toMillis(duration);
         return this;
     }
 
@@ -48,21 +74,56 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
      */
     public FluentWait atMost(long timeInMillis) {
         wait.withTimeout(timeInMillis, TimeUnit.MILLISECONDS);
+        timeoutMillis = timeInMillis;
         return this;
     }
 
     public FluentWait pollingEvery(long duration, java.util.concurrent.TimeUnit unit) {
         wait.pollingEvery(duration, unit);
+        pollingMillis = unit.toMillis(duration);
+        pollingSchedule = null;
         return this;
     }
 
+    /**
+     * Use a schedule to compute the delay between polls, instead of a fixed interval.
+     *
+     * @param schedule polling schedule
+     * @return fluent wait
+     * @see PollingSchedules
+     */
+    public FluentWait pollingWith(PollingSchedule schedule) {
+        pollingSchedule = schedule;
+        return this;
+    }
+
+    /**
+     * Get the polling schedule of this wait.
+     *
+     * @return polling schedule, or null if polling at the fixed interval defined by {@link #pollingEvery(long, TimeUnit)}
+     */
+    public PollingSchedule getPollingSchedule() {
+        return pollingSchedule;
+    }
+
+    /**
+     * Get the number of times the condition was evaluated by the last wait.
+     *
+     * @return number of polls
+     */
+    public int getPollCount() {
+        return pollCount;
+    }
+
     public FluentWait ignoreAll(java.util.Collection<java.lang.Class<? extends Throwable>> types) {
         wait.ignoreAll(types);
+        ignoredExceptions.addAll(types);
         return this;
     }
 
     public FluentWait ignoring(java.lang.Class<? extends java.lang.RuntimeException> exceptionType) {
         wait.ignoring(exceptionType);
+        ignoredExceptions.add(exceptionType);
         return this;
     }
 
@@ -76,6 +137,8 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
     public FluentWait ignoring(java.lang.Class<? extends java.lang.RuntimeException> firstType,
             java.lang.Class<? extends java.lang.RuntimeException> secondType) {
         wait.ignoring(firstType, secondType);
+        ignoredExceptions.add(firstType);
+        ignoredExceptions.add(secondType);
         return this;
     }
 
@@ -94,8 +157,152 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
      * @param predicate predicate condition for wait
      */
     public void untilPredicate(Predicate<FluentDriver> predicate) {
+        untilPredicate(predicate, null);
+    }
+
+    /**
+     * Wait asynchronously until the predicate returns true.
+     *
+     * @param predicate predicate condition for wait
+     * @return future completed when the predicate returns true, or with a TimeoutException
+     * @see #async()
+     */
+    public ListenableFuture<Boolean> untilPredicateAsync(Predicate<FluentDriver> predicate) {
+        return startAsync(asFunction(predicate), null);
+    }
+
+    /**
+     * Wait asynchronously until the given condition returns true or a not null value.
+     *
+     * @param isTrue function of a condition returning a boolean or any other object.
+     * @param <T>    type of the condition result
+     * @return future completed with the condition result, or with a TimeoutException
+     * @see #async()
+     */
+    public <T> ListenableFuture<T> untilAsync(Function<? super FluentDriver, T> isTrue) {
+        return startAsync(isTrue, null);
+    }
+
+    /**
+     * Start the waits of matchers asynchronously.
+     * <p>
+     * Matchers started by the given object return immediately, and their conditions are polled on a scheduler shared by
+     * all asynchronous waits, without holding a thread between polls. Waits on several drivers can be started and
+     * joined:
+     * <pre>
+     * ListenableFuture&lt;Boolean&gt; alice = aliceDriver.await().atMost(5, SECONDS).untilMatchersAsync(new AsyncMatchers() {
+     *     public void start(FluentWait wait) {
+     *         wait.until(".message").hasText("Hello");
+     *     }
+     * });
+     * ListenableFuture&lt;Boolean&gt; bob = ...;
+     * Futures.allAsList(alice, bob).get();
+     * </pre>
+     * A driver is not thread safe, so only one wait of a given driver should run at the same time.
+     *
+     * @param matchers matchers to start
+     * @return future completed with true when all conditions of the matchers are verified, or with the first failure
+     * @throws IllegalStateException if no wait was started by the matchers
+     * @see #async()
+     */
+    public ListenableFuture<Boolean> untilMatchersAsync(AsyncMatchers matchers) {
+        boolean wasAsync = async;
+        int started = futures.size();
+        async = true;
+        startingMatchers = true;
+        try {
+            matchers.start(this);
+        } finally {
+            async = wasAsync;
+            startingMatchers = false;
+        }
+        List<ListenableFuture<?>> matcherFutures = new ArrayList<>(futures.subList(started, futures.size()));
+        if (matcherFutures.isEmpty()) {
+            throw new IllegalStateException("No wait was started by the matchers");
+        }
+        return Futures.transform(Futures.<Object>allAsList(matcherFutures), Functions.constant(Boolean.TRUE));
+    }
+
+    /**
+     * Perform the following waits asynchronously.
+     * <p>
+     * Waits started by this object return immediately, and the condition is polled on a scheduler shared by all
+     * asynchronous waits, without holding a thread between polls. Futures of the started waits are joined by
+     * {@link #getFuture()}.
+     * <p>
+     * Conditions of asynchronous waits are always polled, even {@link #withMutationObserver()}. Matchers giving a
+     * boolean result, like {@code isPresent()} or {@code hasText(String)}, can't be used as their result isn't known
+     * when they return: start them with {@link #untilMatchersAsync(AsyncMatchers)}. The result of a function
+     * condition is only available from {@link #untilAsync(Function)}.
+     *
+     * @return fluent wait
+     */
+    public FluentWait async() {
+        async = true;
+        return this;
+    }
+
+    /**
+     * Check if waits of this object are performed asynchronously.
+     *
+     * @return true if waits are asynchronous
+     * @see #async()
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Get the future of all waits started asynchronously by this object.
+     *
+     * @return future completed with the results of the waits, in the order they were started, or with the first
+     * failure, like a TimeoutException. Null if no wait was started asynchronously.
+     * @see #async()
+     */
+    public ListenableFuture<List<Object>> getFuture() {
+        if (futures.isEmpty()) {
+            return null;
+        }
+        return Futures.<Object>allAsList(new ArrayList<>(futures));
+    }
+
+    /**
+     * Check that a matcher giving a boolean result can be used.
+     *
+     * @throws IllegalStateException if this wait is {@link #async()}, outside of
+     *                               {@link #untilMatchersAsync(AsyncMatchers)}
+     */
+    void checkMatcherResult() {
+        if (async && !startingMatchers) {
+            throw new IllegalStateException("Result of a matcher of an asynchronous wait can't be returned, "
+                    + "use untilMatchersAsync(AsyncMatchers) instead");
+        }
+    }
+
+    /**
+     * Wait until the predicate returns true.
+     *
+     * @param predicate predicate condition for wait
+     * @param selection description of the elements waited for, recorded by {@link WaitTelemetry}
+     */
+    void untilPredicate(Predicate<FluentDriver> predicate, String selection) {
+        if (async) {
+            startAsync(asFunction(predicate), selection);
+            return;
+        }
         updateWaitWithDefaultExceptions();
-        wait.until(predicate);
+        startPolls();
+        long start = System.nanoTime();
+        WaitRecord.Outcome outcome = WaitRecord.Outcome.ERROR;
+        try {
+            wait.until(predicate);
+            outcome = WaitRecord.Outcome.SUCCESS;
+        } catch (TimeoutException e) {
+            outcome = WaitRecord.Outcome.TIMEOUT;
+            throw e;
+        } finally {
+            WaitTelemetry.INSTANCE.record(selection, start, pollCount, outcome);
+        }
     }
 
     /**
@@ -104,6 +311,20 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
      */
     public FluentWait withMessage(String message) {
         wait.withMessage(message);
+        this.message = Suppliers.ofInstance(message);
+        useCustomMessage = true;
+        return this;
+    }
+
+    /**
+     * Set the failing message, built only if the wait times out.
+     *
+     * @param message - supplier of the failing message
+     * @return fluent wait
+     */
+    public FluentWait withMessage(Supplier<String> message) {
+        wait.withMessage(message);
+        this.message = message;
         useCustomMessage = true;
         return this;
     }
@@ -118,6 +339,21 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
         return this;
     }
 
+    /**
+     * Wait for conditions on elements matching a CSS selector inside the browser, instead of polling the driver.
+     * <p>
+     * A {@code MutationObserver} checks the condition each time the DOM changes, and the wait returns as soon as it
+     * holds, with a single script call. Driver script timeout is raised to the wait timeout while the script runs.
+     * Conditions that can't be evaluated by the browser are still polled, as are conditions of {@link #async()} waits,
+     * whose shared scheduler threads must not be held by a script waiting in the browser.
+     *
+     * @return fluent wait
+     */
+    public FluentWait withMutationObserver() {
+        useMutationObserver = true;
+        return this;
+    }
+
     /**
      * Return a matcher configured to wait for particular condition for elements matching then given selector.
      *
@@ -201,6 +437,30 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
         return new FluentWaitPageMatcher(this, driver, page);
     }
 
+    /**
+     * Return a matcher waiting until all of several element, page and window conditions are verified.
+     * <p>
+     * Element and page conditions are evaluated by a single script call on each poll.
+     *
+     * @return fluent wait composite matcher
+     */
+    public FluentWaitCompositeMatcher untilAll() {
+        updateWaitWithDefaultExceptions();
+        return new FluentWaitCompositeMatcher(search, this, driver, false);
+    }
+
+    /**
+     * Return a matcher waiting until any of several element, page and window conditions is verified.
+     * <p>
+     * Element and page conditions are evaluated by a single script call on each poll.
+     *
+     * @return fluent wait composite matcher
+     */
+    public FluentWaitCompositeMatcher untilAny() {
+        updateWaitWithDefaultExceptions();
+        return new FluentWaitCompositeMatcher(search, this, driver, true);
+    }
+
     /**
      * Waits unconditionally for explicit amount of time. The method should be used only as a last resort. In most
      * cases you should wait for some condition, e.g. visibility of particular element on the page.
@@ -225,8 +485,7 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
      * @param isTrue supplier of a condition returning a boolean.
      */
     public void until(final Supplier<Boolean> isTrue) {
-        updateWaitWithDefaultExceptions();
-        wait.until(new Function<Object, Boolean>() {
+        Function<Object, Boolean> condition = new Function<Object, Boolean>() {
             public Boolean apply(Object input) {
                 return isTrue.get();
             }
@@ -234,23 +493,116 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
             public String toString() {
                 return isTrue.toString();
             }
-        });
+        };
+        if (async) {
+            startAsync(condition, null);
+            return;
+        }
+        updateWaitWithDefaultExceptions();
+        startPolls();
+        long start = System.nanoTime();
+        WaitRecord.Outcome outcome = WaitRecord.Outcome.ERROR;
+        try {
+            wait.until(condition);
+            outcome = WaitRecord.Outcome.SUCCESS;
+        } catch (TimeoutException e) {
+            outcome = WaitRecord.Outcome.TIMEOUT;
+            throw e;
+        } finally {
+            WaitTelemetry.INSTANCE.record(null, start, pollCount, outcome);
+        }
     }
 
     /**
      * Wait until the given condition is true.
      *
      * @param isTrue function of a condition returning a boolean or any other object.
+     * @return result of the condition
+     * @throws IllegalStateException if this wait is {@link #async()}, use {@link #untilAsync(Function)} instead
      */
     @Override
     public <T> T until(Function<? super FluentDriver, T> isTrue) {
+        if (async) {
+            throw new IllegalStateException(
+                    "Result of an asynchronous wait can't be returned, use untilAsync(Function) instead");
+        }
         updateWaitWithDefaultExceptions();
-        return wait.until(isTrue);
+        startPolls();
+        long start = System.nanoTime();
+        WaitRecord.Outcome outcome = WaitRecord.Outcome.ERROR;
+        try {
+            T result = wait.until(isTrue);
+            outcome = WaitRecord.Outcome.SUCCESS;
+            return result;
+        } catch (TimeoutException e) {
+            outcome = WaitRecord.Outcome.TIMEOUT;
+            throw e;
+        } finally {
+            WaitTelemetry.INSTANCE.record(null, start, pollCount, outcome);
+        }
+    }
+
+    /**
+     * Perform a lookup expecting no element with implicit wait disabled, as the wait polls the lookup anyway.
+     *
+     * @param lookup lookup to perform
+     * @param <T>    type of lookup result
+     * @return lookup result
+     */
+    <T> T withoutImplicitWait(Supplier<T> lookup) {
+        return ImplicitWaits.INSTANCE.withoutImplicitWait(driver, lookup);
     }
 
     private void updateWaitWithDefaultExceptions() {
         if (useDefaultException) {
             wait.ignoring(StaleElementReferenceException.class);
+            ignoredExceptions.add(StaleElementReferenceException.class);
+        }
+    }
+
+    private <T> ListenableFuture<T> startAsync(Function<? super FluentDriver, T> condition, String selection) {
+        updateWaitWithDefaultExceptions();
+        ListenableFuture<T> started = new AsyncWaitTask<T>(fluent, condition, getTimeoutMillis(), pollingMillis,
+                pollingSchedule, ignoredExceptions, useCustomMessage ? message : null, selection).start();
+        futures.add(started);
+        return started;
+    }
+
+    private static Function<FluentDriver, Boolean> asFunction(final Predicate<FluentDriver> predicate) {
+        return new Function<FluentDriver, Boolean>() {
+            @Override
+            public Boolean apply(FluentDriver input) {
+                return predicate.apply(input);
+            }
+
+            @Override
+            public String toString() {
+                return predicate.toString();
+            }
+        };
+    }
+
+    private void startPolls() {
+        pollCount = 1;
+        pollEndMillis = clock.laterBy(timeoutMillis);
+    }
+
+    /**
+     * Sleeps between polls according to the polling schedule, and counts polls.
+     * <p>
+     * Delays of a polling schedule never go past the timeout, so that the last poll happens when the wait times out.
+     * The fixed interval defined by {@link #pollingEvery(long, TimeUnit)} is kept as is, like Selenium does.
+     */
+    private class ScheduleSleeper implements Sleeper {
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            long delay = duration.in(TimeUnit.MILLISECONDS);
+            if (pollingSchedule != null) {
+                long remaining = Math.max(0, pollEndMillis - clock.now());
+                delay = Math.min(pollingSchedule.getDelayMillis(pollCount), remaining);
+            }
+            pollCount++;
+            Sleeper.SYSTEM_SLEEPER.sleep(new Duration(delay, TimeUnit.MILLISECONDS));
         }
     }
 
@@ -258,4 +610,17 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentDri
         return useCustomMessage;
     }
 
+    public boolean useMutationObserver() {
+        return useMutationObserver;
+    }
+
+    /**
+     * Get the timeout of this wait, bounded by the {@link WaitDeadline} of the current thread.
+     *
+     * @return timeout in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return WaitDeadline.INSTANCE.bound(timeoutMillis);
+    }
+
 }
@@ -0,0 +1,533 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.conditions.ConditionScript;
+import org.fluentlenium.core.conditions.FluentListConditions;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.FilterScript;
+import org.fluentlenium.core.search.Search;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasAttributeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasIdMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNameMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotAttributeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotIdMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotNameMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotTextMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasTextMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isClickableMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isDisplayedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isEnabledMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotClickableMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotDisplayedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotEnabledMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotPresentMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotSelectedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isPageLoaded;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isPresentMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isSelectedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isWindowDisplayedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isWindowNotDisplayedMessage;
+
+/**
+ * Matcher waiting for several element, page and window conditions at once.
+ * <p>
+ * Conditions are added with {@link #element(String, Filter...)}, {@link #pageIsLoaded()} and
+ * {@link #windowIsDisplayed(String)}, then {@link #perform()} waits until all of them, or any of them, are verified.
+ * <p>
+ * On each poll, element and page conditions are evaluated by a single script call. Conditions that can't be
+ * evaluated by the browser, like window conditions or non CSS locators, are evaluated by the driver. Browser results of
+ * conditions only approximating WebDriver semantics, like displayed or text conditions, are checked with the driver:
+ * verified ones before the wait returns, and not verified ones on each poll, as the browser may miss elements WebDriver
+ * considers displayed. So only exact conditions, like presence, save driver calls while they are not verified. The wait
+ * falls back to the driver when the browser disagrees or can't run the script.
+ * <p>
+ * On timeout, the message lists the conditions that were not verified by the last poll. Conditions that were not
+ * evaluated, because the result of the poll was already known, are not listed.
+ */
+public class FluentWaitCompositeMatcher extends AbstractWaitMatcher {
+    private static final String ELEMENT = "element";
+
+    private static final String PAGE = "page";
+
+    private static final String COMPOSITE_SCRIPT = MutationWaitScript.CHECK_FUNCTIONS
+            + "var conditions = arguments[0], r = [];"
+            + "for (var i = 0; i < conditions.length; i++) {"
+            + "var c = conditions[i];"
+            + "r.push(c[0] === 'page' ? document.readyState === 'complete' : check(c[1], c[2], c[3], c[4], c[5]));"
+            + "}"
+            + "return r;";
+
+    private final Search search;
+    private final FluentWait wait;
+    private final WebDriver driver;
+    private final boolean any;
+    private final List<Condition> conditions = new ArrayList<>();
+
+    protected FluentWaitCompositeMatcher(Search search, FluentWait wait, WebDriver driver, boolean any) {
+        this.search = search;
+        this.wait = wait;
+        this.driver = driver;
+        this.any = any;
+    }
+
+    /**
+     * Add a condition on elements matching the given CSS selector and filters.
+     *
+     * @param selector CSS selector
+     * @param filters  filters of the elements
+     * @return element condition builder
+     */
+    public ElementConditions element(String selector, Filter... filters) {
+        return new ElementConditions(By.cssSelector(selector), FluentWaitLocatorSelectorMatcher.SELECTOR + " " + selector, filters);
+    }
+
+    /**
+     * Add a condition on elements matching the given locator and filters.
+     *
+     * @param locator  elements locator
+     * @param filters  filters of the elements
+     * @return element condition builder
+     */
+    public ElementConditions element(By locator, Filter... filters) {
+        return new ElementConditions(locator, FluentWaitLocatorSelectorMatcher.SELECTOR + " " + locator, filters);
+    }
+
+    /**
+     * Add a condition verified when the page is loaded.
+     *
+     * @return this matcher
+     */
+    public FluentWaitCompositeMatcher pageIsLoaded() {
+        conditions.add(new PageLoadedCondition());
+        return this;
+    }
+
+    /**
+     * Add a condition verified when the given window is displayed.
+     *
+     * @param windowName window name
+     * @return this matcher
+     */
+    public FluentWaitCompositeMatcher windowIsDisplayed(String windowName) {
+        conditions.add(new WindowCondition(windowName, false));
+        return this;
+    }
+
+    /**
+     * Add a condition verified when the given window is not displayed.
+     *
+     * @param windowName window name
+     * @return this matcher
+     */
+    public FluentWaitCompositeMatcher windowIsNotDisplayed(String windowName) {
+        conditions.add(new WindowCondition(windowName, true));
+        return this;
+    }
+
+    /**
+     * Wait until all conditions are verified, or any of them if this matcher was created by {@link FluentWait#untilAny()}.
+     *
+     * @throws IllegalStateException if no condition was added
+     */
+    public void perform() {
+        if (conditions.isEmpty()) {
+            throw new IllegalStateException("No condition to wait for");
+        }
+        final CompositePredicate predicate = new CompositePredicate();
+        until(wait, predicate, new Supplier<String>() {
+            @Override
+            public String get() {
+                return predicate.getFailureMessage();
+            }
+        });
+    }
+
+    @Override
+    String getSelectionName() {
+        return (any ? "Any of " : "All of ") + conditions.size() + " conditions";
+    }
+
+    /**
+     * Predicate evaluating all conditions on each poll.
+     */
+    private class CompositePredicate implements Predicate<FluentDriver> {
+        private boolean batching = true;
+
+        private List<Condition> failed = new ArrayList<>();
+
+        @Override
+        public boolean apply(FluentDriver fluent) {
+            List<?> browserResults = batching ? evaluateInBrowser(fluent.getDriver()) : null;
+            batching = browserResults != null;
+
+            List<Condition> verifiedByBrowser = new ArrayList<>();
+            List<Condition> driverChecks = new ArrayList<>();
+            List<Condition> verified = new ArrayList<>();
+            failed = new ArrayList<>();
+            int browserIndex = 0;
+            for (Condition condition : conditions) {
+                if (browserResults != null && condition.getScript() != null) {
+                    if (Boolean.TRUE.equals(browserResults.get(browserIndex++))) {
+                        verifiedByBrowser.add(condition);
+                    } else if (condition.isApproximated()) {
+                        // The browser may not verify a condition WebDriver verifies, like an <option> without client rects.
+                        driverChecks.add(condition);
+                    } else {
+                        failed.add(condition);
+                    }
+                } else {
+                    driverChecks.add(condition);
+                }
+            }
+
+            if (any) {
+                for (Condition condition : verifiedByBrowser) {
+                    if (!condition.isApproximated()) {
+                        return true;
+                    }
+                }
+            }
+
+            for (Condition condition : driverChecks) {
+                if (any ? !verified.isEmpty() : !failed.isEmpty()) {
+                    // Result is already known, avoid a driver call. The condition is not evaluated, so it isn't failed.
+                    break;
+                }
+                if (condition.apply(fluent)) {
+                    verified.add(condition);
+                } else {
+                    failed.add(condition);
+                }
+            }
+
+            if (any ? verified.isEmpty() && verifiedByBrowser.isEmpty() : !failed.isEmpty()) {
+                return false;
+            }
+
+            if (any && !verified.isEmpty()) {
+                return true;
+            }
+
+            // Browser side checks are an approximation, confirm them with the driver. In any mode, the first confirmed
+            // condition is enough.
+            for (Condition condition : verifiedByBrowser) {
+                if (!condition.isApproximated() || condition.apply(fluent)) {
+                    if (any) {
+                        return true;
+                    }
+                } else {
+                    batching = false;
+                    failed.add(condition);
+                    if (!any) {
+                        return false;
+                    }
+                }
+            }
+            return !any;
+        }
+
+        private List<?> evaluateInBrowser(WebDriver webDriver) {
+            List<List<Object>> scripts = new ArrayList<>();
+            for (Condition condition : conditions) {
+                if (condition.getScript() != null) {
+                    scripts.add(condition.getScript());
+                }
+            }
+            if (scripts.isEmpty() || !(webDriver instanceof JavascriptExecutor)) {
+                return null;
+            }
+            Object result;
+            try {
+                result = ((JavascriptExecutor) webDriver).executeScript(COMPOSITE_SCRIPT, scripts);
+            } catch (WebDriverException | UnsupportedOperationException | IllegalArgumentException e) {
+                return null;
+            }
+            if (!(result instanceof List) || ((List<?>) result).size() != scripts.size()) {
+                return null;
+            }
+            return (List<?>) result;
+        }
+
+        String getFailureMessage() {
+            List<String> messages = new ArrayList<>();
+            for (Condition condition : failed) {
+                messages.add(condition.getMessage());
+            }
+            return (any ? "None of the conditions is verified: " : "Conditions are not verified: ")
+                    + Joiner.on(", ").join(messages);
+        }
+
+        @Override
+        public String toString() {
+            return getSelectionName();
+        }
+    }
+
+    /**
+     * A condition of the composite wait.
+     */
+    private abstract static class Condition {
+        /**
+         * Get the arguments of the composite script evaluating this condition in the browser.
+         *
+         * @return script arguments, or null if this condition can't be evaluated by the browser
+         */
+        List<Object> getScript() {
+            return null;
+        }
+
+        /**
+         * Check if the browser evaluation of this condition is an approximation that has to be confirmed by the driver.
+         *
+         * @return true if browser evaluation must be confirmed
+         */
+        boolean isApproximated() {
+            return true;
+        }
+
+        /**
+         * Evaluate the condition with the driver.
+         *
+         * @param fluent fluent driver
+         * @return true if verified
+         */
+        abstract boolean apply(FluentDriver fluent);
+
+        /**
+         * Get the message reported when this condition is not verified.
+         *
+         * @return message
+         */
+        abstract String getMessage();
+    }
+
+    /**
+     * Builder of a condition on elements. Each condition method adds the condition to the composite matcher and
+     * returns it.
+     */
+    public class ElementConditions {
+        private final By locator;
+        private final String selectionName;
+        private final Filter[] filters;
+        private final boolean negation;
+
+        ElementConditions(By locator, String selectionName, Filter[] filters) {
+            this(locator, selectionName, filters, false);
+        }
+
+        private ElementConditions(By locator, String selectionName, Filter[] filters, boolean negation) {
+            this.locator = locator;
+            this.selectionName = selectionName;
+            this.filters = filters;
+            this.negation = negation;
+        }
+
+        /**
+         * Negates the next condition.
+         *
+         * @return negated element condition builder
+         */
+        public ElementConditions not() {
+            return new ElementConditions(locator, selectionName, filters, !negation);
+        }
+
+        public FluentWaitCompositeMatcher isPresent() {
+            return add(MutationWaitScript.PRESENT, negation ? isNotPresentMessage(selectionName) : isPresentMessage(selectionName));
+        }
+
+        public FluentWaitCompositeMatcher isNotPresent() {
+            return not().isPresent();
+        }
+
+        public FluentWaitCompositeMatcher isDisplayed() {
+            return add(MutationWaitScript.DISPLAYED, negation ? isNotDisplayedMessage(selectionName) : isDisplayedMessage(selectionName));
+        }
+
+        public FluentWaitCompositeMatcher isNotDisplayed() {
+            return not().isDisplayed();
+        }
+
+        public FluentWaitCompositeMatcher isEnabled() {
+            return add(MutationWaitScript.ENABLED, negation ? isNotEnabledMessage(selectionName) : isEnabledMessage(selectionName));
+        }
+
+        public FluentWaitCompositeMatcher isSelected() {
+            return add(MutationWaitScript.SELECTED, negation ? isNotSelectedMessage(selectionName) : isSelectedMessage(selectionName));
+        }
+
+        public FluentWaitCompositeMatcher isClickable() {
+            return add(MutationWaitScript.CLICKABLE, negation ? isNotClickableMessage(selectionName) : isClickableMessage(selectionName));
+        }
+
+        public FluentWaitCompositeMatcher hasText(String value) {
+            return add(MutationWaitScript.TEXT, negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value), value);
+        }
+
+        public FluentWaitCompositeMatcher containsText(String value) {
+            return add(MutationWaitScript.CONTAINS_TEXT, negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value), value);
+        }
+
+        public FluentWaitCompositeMatcher hasAttribute(String attribute, String value) {
+            return add(MutationWaitScript.ATTRIBUTE, negation ? hasNotAttributeMessage(selectionName, attribute, value) : hasAttributeMessage(selectionName, attribute, value), attribute, value);
+        }
+
+        public FluentWaitCompositeMatcher hasId(String value) {
+            return add(MutationWaitScript.ATTRIBUTE, negation ? hasNotIdMessage(selectionName, value) : hasIdMessage(selectionName, value), "id", value);
+        }
+
+        public FluentWaitCompositeMatcher hasName(String value) {
+            return add(MutationWaitScript.ATTRIBUTE, negation ? hasNotNameMessage(selectionName, value) : hasNameMessage(selectionName, value), "name", value);
+        }
+
+        private FluentWaitCompositeMatcher add(String condition, String message, String... arguments) {
+            conditions.add(new ElementCondition(this, condition, message, arguments));
+            return FluentWaitCompositeMatcher.this;
+        }
+    }
+
+    /**
+     * Condition on elements.
+     */
+    private class ElementCondition extends Condition {
+        private final ElementConditions element;
+        private final String condition;
+        private final String message;
+        private final String[] arguments;
+        private final List<Object> script;
+
+        ElementCondition(ElementConditions element, String condition, String message, String... arguments) {
+            this.element = element;
+            this.condition = condition;
+            this.message = message;
+            this.arguments = arguments;
+            this.script = buildScript();
+        }
+
+        private List<Object> buildScript() {
+            String cssSelector = MutationWaitScript.getCssSelector(element.locator);
+            if (cssSelector == null) {
+                return null;
+            }
+            FilterScript filterScript = new FilterScript(Arrays.asList(element.filters));
+            if (!filterScript.getRemainingFilters().isEmpty()) {
+                return null;
+            }
+            return Arrays.<Object>asList(ELEMENT, cssSelector, filterScript.getScriptFilters(), condition,
+                    Arrays.asList(arguments), element.negation);
+        }
+
+        @Override
+        List<Object> getScript() {
+            return script;
+        }
+
+        @Override
+        boolean isApproximated() {
+            return ConditionScript.isApproximated(condition);
+        }
+
+        @Override
+        boolean apply(FluentDriver fluent) {
+            FluentListConditions conditions;
+            if (element.negation) {
+                conditions = wait.withoutImplicitWait(new Supplier<FluentListConditions>() {
+                    @Override
+                    public FluentListConditions get() {
+                        return search.find(element.locator, element.filters).one().not();
+                    }
+                });
+            } else {
+                conditions = search.find(element.locator, element.filters).one();
+            }
+            switch (condition) {
+                case MutationWaitScript.PRESENT:
+                    return conditions.isPresent();
+                case MutationWaitScript.DISPLAYED:
+                    return conditions.isDisplayed();
+                case MutationWaitScript.ENABLED:
+                    return conditions.isEnabled();
+                case MutationWaitScript.SELECTED:
+                    return conditions.isSelected();
+                case MutationWaitScript.CLICKABLE:
+                    return conditions.isClickable();
+                case MutationWaitScript.TEXT:
+                    return conditions.hasText(arguments[0]);
+                case MutationWaitScript.CONTAINS_TEXT:
+                    return conditions.containsText(arguments[0]);
+                case MutationWaitScript.ATTRIBUTE:
+                    return conditions.hasAttribute(arguments[0], arguments[1]);
+                default:
+                    throw new IllegalArgumentException("Unsupported condition " + condition);
+            }
+        }
+
+        @Override
+        String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * Condition verified when the page is loaded.
+     */
+    private class PageLoadedCondition extends Condition {
+        @Override
+        List<Object> getScript() {
+            return Arrays.<Object>asList(PAGE);
+        }
+
+        @Override
+        boolean isApproximated() {
+            return false;
+        }
+
+        @Override
+        boolean apply(FluentDriver fluent) {
+            if (!(fluent.getDriver() instanceof JavascriptExecutor)) {
+                throw new UnsupportedOperationException("Driver must support javascript execution to use this feature");
+            }
+            Object result = fluent.executeScript("if (document.readyState) return document.readyState;").getStringResult();
+            return "complete".equals(result);
+        }
+
+        @Override
+        String getMessage() {
+            return isPageLoaded(driver.getCurrentUrl());
+        }
+    }
+
+    /**
+     * Condition on a window.
+     */
+    private static class WindowCondition extends Condition {
+        private final String windowName;
+        private final boolean negation;
+
+        WindowCondition(String windowName, boolean negation) {
+            this.windowName = windowName;
+            this.negation = negation;
+        }
+
+        @Override
+        boolean apply(FluentDriver fluent) {
+            return fluent.getDriver().getWindowHandles().contains(windowName) != negation;
+        }
+
+        @Override
+        String getMessage() {
+            return negation ? isWindowNotDisplayedMessage(windowName) : isWindowDisplayedMessage(windowName);
+        }
+    }
+}
@@ -33,6 +33,12 @@ import static org.fluentlenium.core.wait.FluentWaitMessages.isPresentMessage;
 import static org.fluentlenium.core.wait.FluentWaitMessages.isSelectedMessage;
 import static org.fluentlenium.core.wait.FluentWaitMessages.isStaleMessage;
 
+/**
+ * Matcher waiting for each element of a list to verify a condition.
+ * <p>
+ * As for {@link AbstractWaitElementMatcher}, conditions of {@link FluentWait#async()} waits must be started with
+ * {@link FluentWait#untilMatchersAsync(AsyncMatchers)}.
+ */
 public class FluentWaitElementEachMatcher implements FluentListConditions {
     private final AbstractWaitElementListMatcher matcher;
 
@@ -41,11 +47,15 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
     }
 
     protected FluentListConditions eachCondition() {
-        FluentListConditions conditions = matcher.find().each();
         if (matcher.negation) {
-            conditions = conditions.not();
+            return matcher.wait.withoutImplicitWait(new Supplier<FluentListConditions>() {
+                @Override
+                public FluentListConditions get() {
+                    return matcher.find().each().not();
+                }
+            });
         }
-        return conditions;
+        return matcher.find().each();
     }
 
     @Override
@@ -60,7 +70,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isVerified(predicate, defaultValue);
             }
-        }, matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -71,7 +86,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isVerified(predicate);
             }
-        }, matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -82,7 +102,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isClickable();
             }
-        }, matcher.negation ? isNotClickableMessage(matcher.selectionName) : isClickableMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isNotClickableMessage(matcher.selectionName) : isClickableMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -93,7 +118,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isStale();
             }
-        }, matcher.negation ? isNotStaleMessage(matcher.selectionName) : isStaleMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isNotStaleMessage(matcher.selectionName) : isStaleMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -104,7 +134,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isDisplayed();
             }
-        }, matcher.negation ? isNotDisplayedMessage(matcher.selectionName) : isDisplayedMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isNotDisplayedMessage(matcher.selectionName) : isDisplayedMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -115,7 +150,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isEnabled();
             }
-        }, matcher.negation ? isNotEnabledMessage(matcher.selectionName) : isEnabledMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isNotEnabledMessage(matcher.selectionName) : isEnabledMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -126,7 +166,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isSelected();
             }
-        }, matcher.negation ? isNotSelectedMessage(matcher.selectionName) : isSelectedMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isNotSelectedMessage(matcher.selectionName) : isSelectedMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -137,7 +182,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().hasText(text);
             }
-        }, matcher.negation ? hasNotTextMessage(matcher.selectionName, text) : hasTextMessage(matcher.selectionName, text));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotTextMessage(matcher.selectionName, text) : hasTextMessage(matcher.selectionName, text);
+            }
+        });
         return true;
     }
 
@@ -148,7 +198,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().containsText(text);
             }
-        }, matcher.negation ? hasNotTextMessage(matcher.selectionName, text) : hasTextMessage(matcher.selectionName, text));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotTextMessage(matcher.selectionName, text) : hasTextMessage(matcher.selectionName, text);
+            }
+        });
         return true;
     }
 
@@ -159,7 +214,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().hasAttribute(attribute, value);
             }
-        }, matcher.negation ? hasNotAttributeMessage(matcher.selectionName, attribute, value) : hasAttributeMessage(matcher.selectionName, attribute, value));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotAttributeMessage(matcher.selectionName, attribute, value) : hasAttributeMessage(matcher.selectionName, attribute, value);
+            }
+        });
         return true;
     }
 
@@ -170,7 +230,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().hasId(id);
             }
-        }, matcher.negation ? hasNotIdMessage(matcher.selectionName, id) : hasIdMessage(matcher.selectionName, id));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotIdMessage(matcher.selectionName, id) : hasIdMessage(matcher.selectionName, id);
+            }
+        });
         return true;
     }
 
@@ -181,7 +246,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().hasName(name);
             }
-        }, matcher.negation ? hasNotNameMessage(matcher.selectionName, name) : hasNameMessage(matcher.selectionName, name));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotNameMessage(matcher.selectionName, name) : hasNameMessage(matcher.selectionName, name);
+            }
+        });
         return true;
     }
 
@@ -192,7 +262,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().isPresent();
             }
-        }, matcher.negation ? isNotPresentMessage(matcher.selectionName) : isPresentMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isNotPresentMessage(matcher.selectionName) : isPresentMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -203,7 +278,12 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
             public boolean apply(FluentDriver input) {
                 return eachCondition().hasSize(size);
             }
-        }, matcher.negation ? hasNotSizeMessage(matcher.selectionName, size) : hasSizeMessage(matcher.selectionName, size));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotSizeMessage(matcher.selectionName, size) : hasSizeMessage(matcher.selectionName, size);
+            }
+        });
         return true;
     }
 
@@ -46,7 +46,12 @@ public class FluentWaitIntegerMatcher implements IntegerConditions {
             public boolean apply(FluentDriver input) {
                 return hasSize().equalTo(value);
             }
-        }, matcher.negation ? notEqualToMessage(matcher.selectionName, value) : equalToMessage(matcher.selectionName, value));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notEqualToMessage(matcher.selectionName, value) : equalToMessage(matcher.selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -57,7 +62,12 @@ public class FluentWaitIntegerMatcher implements IntegerConditions {
             public boolean apply(FluentDriver input) {
                 return hasSize().lessThan(value);
             }
-        }, matcher.negation ? notLessThanMessage(matcher.selectionName, value) : lessThanMessage(matcher.selectionName, value));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notLessThanMessage(matcher.selectionName, value) : lessThanMessage(matcher.selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -68,7 +78,12 @@ public class FluentWaitIntegerMatcher implements IntegerConditions {
             public boolean apply(FluentDriver input) {
                 return hasSize().lessThanOrEqualTo(value);
             }
-        }, matcher.negation ? notLessThanOrEqualToMessage(matcher.selectionName, value) : lessThanOrEqualToMessage(matcher.selectionName, value));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notLessThanOrEqualToMessage(matcher.selectionName, value) : lessThanOrEqualToMessage(matcher.selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -79,7 +94,12 @@ public class FluentWaitIntegerMatcher implements IntegerConditions {
             public boolean apply(FluentDriver input) {
                 return hasSize().greaterThan(value);
             }
-        }, matcher.negation ? notGreaterThanMessage(matcher.selectionName, value) : greaterThanMessage(matcher.selectionName, value));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notGreaterThanMessage(matcher.selectionName, value) : greaterThanMessage(matcher.selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -90,7 +110,12 @@ public class FluentWaitIntegerMatcher implements IntegerConditions {
             public boolean apply(FluentDriver input) {
                 return hasSize().greaterThanOrEqualTo(value);
             }
-        }, matcher.negation ? notGreaterThanOrEqualToMessage(matcher.selectionName, value) : greaterThanOrEqualToMessage(matcher.selectionName, value));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notGreaterThanOrEqualToMessage(matcher.selectionName, value) : greaterThanOrEqualToMessage(matcher.selectionName, value);
+            }
+        });
         return true;
     }
 
@@ -101,7 +126,12 @@ public class FluentWaitIntegerMatcher implements IntegerConditions {
             public boolean apply(FluentDriver input) {
                 return hasSize().isVerified(predicate);
             }
-        }, matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
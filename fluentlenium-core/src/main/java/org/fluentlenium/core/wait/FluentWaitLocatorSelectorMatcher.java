@@ -14,17 +14,20 @@ import java.util.List;
 public class FluentWaitLocatorSelectorMatcher extends AbstractWaitElementListMatcher {
     private By locator;
     private List<Filter> filters = new ArrayList<>();
+    private CachingElementResolver resolver;
 
     static final String SELECTOR = "Selector";
 
     protected FluentWaitLocatorSelectorMatcher(Search search, FluentWait fluentWait, By locator) {
         super(search, fluentWait, SELECTOR + " " + locator);
         this.locator = locator;
+        this.resolver = new CachingElementResolver(search, locator);
     }
 
     protected FluentWaitLocatorSelectorMatcher(Search search, FluentWait fluentWait, String selector) {
         super(search, fluentWait, SELECTOR + " " + selector);
         this.locator = By.cssSelector(selector);
+        this.resolver = new CachingElementResolver(search, locator);
     }
 
 
@@ -33,6 +36,7 @@ public class FluentWaitLocatorSelectorMatcher extends AbstractWaitElementListMat
         FluentWaitLocatorSelectorMatcher negatedConditions = new FluentWaitLocatorSelectorMatcher(search, wait, locator);
         negatedConditions.negation = !negation;
         negatedConditions.filters = filters;
+        negatedConditions.resolver = resolver;
         return negatedConditions;
     }
 
@@ -61,16 +65,18 @@ public class FluentWaitLocatorSelectorMatcher extends AbstractWaitElementListMat
         return message.toString();
     }
 
-    protected FluentList<FluentWebElement> find() {
-        if (filters.size() > 0) {
-            return findWithFilter();
-        } else {
-            return search.find(locator);
-        }
+    @Override
+    MutationWaitScript mutationWaitScript(String condition, String... arguments) {
+        return MutationWaitScript.of(locator, filters, negation, condition, arguments);
     }
 
-    private FluentList<FluentWebElement> findWithFilter() {
-        return search.find(locator, (Filter[]) filters.toArray(new Filter[filters.size()]));
+    /**
+     * Find elements matching the locator and filters, reusing elements found by previous polls.
+     *
+     * @return matching elements
+     */
+    protected FluentList<FluentWebElement> find() {
+        return resolver.resolve(filters);
     }
 
     /**
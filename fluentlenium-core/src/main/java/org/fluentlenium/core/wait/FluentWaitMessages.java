@@ -32,6 +32,7 @@ final class FluentWaitMessages {
     private static final String IS_NOT_GREATER_THAN_OR_EQUAL_TO = " is not greater than or equal to ";
     private static final String IS_GREATER_THAN_OR_EQUAL_TO = " is greater than or equal to ";
     private static final String IS_NOT_LOADED = " is not loaded";
+    private static final String HAS_NETWORK_ACTIVITY = " had network activity in the last ";
     private static final String IS_NOT_DISPLAYED = " is not displayed";
     private static final String IS_DISPLAYED = " is displayed";
     private static final String IS_NOT_STALE = " is not stale";
@@ -79,6 +80,10 @@ final class FluentWaitMessages {
         return PAGE + url + IS_NOT_LOADED + POINT;
     }
 
+    static final String isNetworkIdleMessage(String url, long quietMillis) {
+        return PAGE + url + HAS_NETWORK_ACTIVITY + quietMillis + " ms" + POINT;
+    }
+
     static final String isPresentMessage(String selectionName) {
         return selectionName + IS_NOT_PRESENT;
     }
@@ -1,14 +1,23 @@
 package org.fluentlenium.core.wait;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 import org.fluentlenium.core.FluentDriver;
 import org.fluentlenium.core.FluentPage;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNetworkIdleMessage;
 import static org.fluentlenium.core.wait.FluentWaitMessages.isPageLoaded;
 
 public class FluentWaitPageMatcher extends AbstractWaitMatcher {
+    /**
+     * Default quiet period of {@link #isNetworkIdle()}, in milliseconds.
+     */
+    public static final long DEFAULT_NETWORK_QUIET_MILLIS = 500;
+
     private FluentWait wait;
     private WebDriver webDriver;
     private FluentPage page;
@@ -40,8 +49,48 @@ public class FluentWaitPageMatcher extends AbstractWaitMatcher {
                     return result != null && "complete".equals(result);
                 }
             };
-            until(wait, isLoaded, isPageLoaded(webDriver.getCurrentUrl()));
+            until(wait, isLoaded, new Supplier<String>() {
+                @Override
+                public String get() {
+                    return isPageLoaded(webDriver.getCurrentUrl());
+                }
+            });
+        }
+    }
+
+    /**
+     * Wait until the page has no pending XHR, fetch or short timer for {@link #DEFAULT_NETWORK_QUIET_MILLIS}.
+     * Be careful, it needs javascript enabled. Throw an UnsupportedOperationException if not.
+     *
+     * @see #isNetworkIdle(long, TimeUnit)
+     */
+    public void isNetworkIdle() {
+        isNetworkIdle(DEFAULT_NETWORK_QUIET_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Wait until the page has no pending XHR, fetch or timer not longer than the quiet period, for the quiet period.
+     * <p>
+     * A request tracker is installed in the page by the first call, so requests sent before, like those sent while the
+     * page was loading, are not tracked. The page is loaded and the call installing the tracker never reports it idle,
+     * so such requests have at least the quiet period to complete. The wait is performed by a single asynchronous
+     * script call, except for asynchronous waits which poll the page so that no scheduler thread is held.
+     * Be careful, it needs javascript enabled. Throw an UnsupportedOperationException if not.
+     *
+     * @param quietPeriod time without network activity
+     * @param unit        unit of quiet period
+     */
+    public void isNetworkIdle(final long quietPeriod, final TimeUnit unit) {
+        if (!(webDriver instanceof JavascriptExecutor)) {
+            throw new UnsupportedOperationException("Driver must support javascript execution to use this feature");
         }
+        NetworkIdleScript script = new NetworkIdleScript(unit.toMillis(quietPeriod));
+        until(wait, script.predicate(wait.getTimeoutMillis(), wait.isAsync()), new Supplier<String>() {
+            @Override
+            public String get() {
+                return isNetworkIdleMessage(webDriver.getCurrentUrl(), unit.toMillis(quietPeriod));
+            }
+        });
     }
 
     /**
@@ -53,12 +102,17 @@ public class FluentWaitPageMatcher extends AbstractWaitMatcher {
         }
         Predicate<FluentDriver> isLoaded = new com.google.common.base.Predicate<FluentDriver>() {
             public boolean apply(FluentDriver fluent) {
-                try {
-                    page.isAt();
-                } catch (Error e) {
-                    return false;
-                }
-                return true;
+                return wait.withoutImplicitWait(new Supplier<Boolean>() {
+                    @Override
+                    public Boolean get() {
+                        try {
+                            page.isAt();
+                        } catch (Error e) {
+                            return false;
+                        }
+                        return true;
+                    }
+                });
             }
         };
         until(wait, isLoaded, "");
@@ -41,7 +41,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().isVerified(predicate);
             }
-        }, matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? isPredicateNotVerifiedMessage(matcher.selectionName) : isPredicateVerifiedMessage(matcher.selectionName);
+            }
+        });
         return true;
     }
 
@@ -57,7 +62,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().withX(x);
             }
-        }, matcher.negation ? notEqualToMessage(matcher.selectionName, x) : equalToMessage(matcher.selectionName, x));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notEqualToMessage(matcher.selectionName, x) : equalToMessage(matcher.selectionName, x);
+            }
+        });
         return true;
     }
 
@@ -78,7 +88,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().withY(y);
             }
-        }, matcher.negation ? notEqualToMessage(matcher.selectionName, y) : equalToMessage(matcher.selectionName, y));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notEqualToMessage(matcher.selectionName, y) : equalToMessage(matcher.selectionName, y);
+            }
+        });
         return true;
     }
 
@@ -99,7 +114,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().withPosition(x, y);
             }
-        }, matcher.negation ? hasNotPositionMessage(matcher.selectionName, x, y) : hasPositionMessage(matcher.selectionName, x, y));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotPositionMessage(matcher.selectionName, x, y) : hasPositionMessage(matcher.selectionName, x, y);
+            }
+        });
         return true;
     }
 
@@ -110,7 +130,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().withWidth(width);
             }
-        }, matcher.negation ? notEqualToMessage(matcher.selectionName, width) : equalToMessage(matcher.selectionName, width));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notEqualToMessage(matcher.selectionName, width) : equalToMessage(matcher.selectionName, width);
+            }
+        });
         return true;
     }
 
@@ -131,7 +156,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().withHeight(height);
             }
-        }, matcher.negation ? notEqualToMessage(matcher.selectionName, height) : equalToMessage(matcher.selectionName, height));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? notEqualToMessage(matcher.selectionName, height) : equalToMessage(matcher.selectionName, height);
+            }
+        });
         return true;
     }
 
@@ -152,7 +182,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().withDimension(width, height);
             }
-        }, matcher.negation ? FluentWaitMessages.hasNotDimensionMessage(matcher.selectionName, width, height) : FluentWaitMessages.hasDimensionMessage(matcher.selectionName, width, height));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? FluentWaitMessages.hasNotDimensionMessage(matcher.selectionName, width, height) : FluentWaitMessages.hasDimensionMessage(matcher.selectionName, width, height);
+            }
+        });
         return true;
     }
 
@@ -163,7 +198,12 @@ public class FluentWaitRectangleMatcher implements RectangleConditions {
             public boolean apply(FluentDriver input) {
                 return hasRectangle().withPositionAndDimension(x, y, width, height);
             }
-        }, matcher.negation ? hasNotPositionAndDimensionMessage(matcher.selectionName, x, y, width, height) : hasPositionAndDimensionMessage(matcher.selectionName, x, y, width, height));
+        }, new Supplier<String>() {
+            @Override
+            public String get() {
+                return matcher.negation ? hasNotPositionAndDimensionMessage(matcher.selectionName, x, y, width, height) : hasPositionAndDimensionMessage(matcher.selectionName, x, y, width, height);
+            }
+        });
         return true;
     }
 }
@@ -1,6 +1,7 @@
 package org.fluentlenium.core.wait;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 import org.fluentlenium.core.FluentDriver;
 
 public class FluentWaitWindowMatcher extends AbstractWaitMatcher {
@@ -13,6 +14,17 @@ public class FluentWaitWindowMatcher extends AbstractWaitMatcher {
         this.windowName = windowName;
     }
 
+    @Override
+    protected void until(FluentWait wait, Predicate<FluentDriver> present, Supplier<String> defaultMessage) {
+        wait.checkMatcherResult();
+        super.until(wait, present, defaultMessage);
+    }
+
+    @Override
+    String getSelectionName() {
+        return "Window " + windowName;
+    }
+
     public boolean isDisplayed() {
         Predicate<FluentDriver> isDisplayed = new Predicate<FluentDriver>() {
             @Override
@@ -21,7 +33,12 @@ public class FluentWaitWindowMatcher extends AbstractWaitMatcher {
             }
         };
 
-        until(wait, isDisplayed, FluentWaitMessages.isWindowDisplayedMessage(windowName));
+        until(wait, isDisplayed, new Supplier<String>() {
+            @Override
+            public String get() {
+                return FluentWaitMessages.isWindowDisplayedMessage(windowName);
+            }
+        });
         return true;
     }
 
@@ -33,7 +50,12 @@ public class FluentWaitWindowMatcher extends AbstractWaitMatcher {
             }
         };
 
-        until(wait, isNotDisplayed, FluentWaitMessages.isWindowNotDisplayedMessage(windowName));
+        until(wait, isNotDisplayed, new Supplier<String>() {
+            @Override
+            public String get() {
+                return FluentWaitMessages.isWindowNotDisplayedMessage(windowName);
+            }
+        });
         return true;
     }
 
@@ -0,0 +1,221 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Predicate;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.conditions.ConditionScript;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.FilterScript;
+import org.fluentlenium.core.filter.matcher.MatcherScript;
+import org.fluentlenium.core.script.ScriptTimeouts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Wait for a condition on elements matching a CSS selector inside the browser, using a {@code MutationObserver}.
+ * <p>
+ * The condition is checked by an asynchronous script each time the DOM changes, and every
+ * {@link #CHECK_INTERVAL_MILLIS} for changes that don't mutate the DOM, like input values or stylesheets. The script
+ * returns as soon as the condition holds, so a wait costs a single script call instead of one search and several
+ * property reads per poll.
+ * <p>
+ * Browser side checks only approximate WebDriver semantics. The condition is always confirmed with the original
+ * predicate, and the wait falls back to polling when the browser disagrees or can't run the script.
+ */
+class MutationWaitScript {
+    static final String PRESENT = ConditionScript.PRESENT;
+
+    static final String DISPLAYED = ConditionScript.DISPLAYED;
+
+    static final String ENABLED = ConditionScript.ENABLED;
+
+    static final String SELECTED = ConditionScript.SELECTED;
+
+    static final String CLICKABLE = ConditionScript.CLICKABLE;
+
+    static final String TEXT = ConditionScript.TEXT;
+
+    static final String CONTAINS_TEXT = ConditionScript.CONTAINS_TEXT;
+
+    static final String ATTRIBUTE = ConditionScript.ATTRIBUTE;
+
+    static final long CHECK_INTERVAL_MILLIS = 100;
+
+    private static final String CSS_SELECTOR_PREFIX = "By.cssSelector: ";
+
+    /**
+     * Javascript functions checking conditions on elements.
+     * <p>
+     * {@code check(selector, filters, condition, args, negate)} returns true if an element matching the selector and
+     * filters verifies the condition, or if negated, when an element doesn't verify the condition or no element
+     * matches.
+     */
+    static final String CHECK_FUNCTIONS = ConditionScript.VERIFY_FUNCTIONS + MatcherScript.MATCH_FUNCTION
+            + "function check(selector, filters, condition, args, negate) {"
+            + "var elements = document.querySelectorAll(selector), count = 0;"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "var e = elements[i], ok = true;"
+            + "for (var j = 0; j < filters.length && ok; j++) {"
+            + "var f = filters[j]; ok = match(f[0] === 'text' ? text(e) : attr(e, f[0]), f[1]);"
+            + "}"
+            + "if (ok) { count++; if (verify(e, condition, args) !== negate) { return true; } }"
+            + "}"
+            + "return count === 0 && negate;"
+            + "}";
+
+    private static final String WAIT_SCRIPT = CHECK_FUNCTIONS
+            + "var selector = arguments[0], filters = arguments[1], condition = arguments[2], args = arguments[3],"
+            + " negate = arguments[4], timeout = arguments[5], interval = arguments[6],"
+            + " callback = arguments[arguments.length - 1];"
+            + "var done = false, observer = null, poller = null, timer = null;"
+            + "function finish(result) {"
+            + "if (done) { return; }"
+            + "done = true;"
+            + "if (observer) { observer.disconnect(); }"
+            + "if (poller) { clearInterval(poller); }"
+            + "if (timer) { clearTimeout(timer); }"
+            + "callback(result);"
+            + "}"
+            + "function poll() {"
+            + "try { if (check(selector, filters, condition, args, negate)) { finish(true); } } catch (err) { finish(null); }"
+            + "}"
+            + "poll();"
+            + "if (!done) {"
+            + "if (typeof MutationObserver !== 'undefined') {"
+            + "observer = new MutationObserver(poll);"
+            + "observer.observe(document.documentElement || document,"
+            + " {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "}"
+            + "poller = setInterval(poll, interval);"
+            + "timer = setTimeout(function () { finish(false); }, timeout);"
+            + "}";
+
+    private final String cssSelector;
+
+    private final List<List<Object>> scriptFilters;
+
+    private final String condition;
+
+    private final List<String> arguments;
+
+    private final boolean negation;
+
+    private MutationWaitScript(String cssSelector, List<List<Object>> scriptFilters, String condition,
+                               List<String> arguments, boolean negation) {
+        this.cssSelector = cssSelector;
+        this.scriptFilters = scriptFilters;
+        this.condition = condition;
+        this.arguments = arguments;
+        this.negation = negation;
+    }
+
+    /**
+     * Creates a wait script for elements matching the given locator and filters.
+     *
+     * @param locator   elements locator
+     * @param filters   post filters
+     * @param negation  true to wait for the condition to be false
+     * @param condition condition to wait for
+     * @param arguments arguments of the condition
+     * @return wait script, or null if locator or filters can't be evaluated by the browser
+     */
+    static MutationWaitScript of(By locator, Collection<Filter> filters, boolean negation, String condition,
+                                 String... arguments) {
+        String cssSelector = getCssSelector(locator);
+        if (cssSelector == null) {
+            return null;
+        }
+        FilterScript filterScript = new FilterScript(filters);
+        if (!filterScript.getRemainingFilters().isEmpty()) {
+            return null;
+        }
+        return new MutationWaitScript(cssSelector, filterScript.getScriptFilters(), condition,
+                Arrays.asList(arguments), negation);
+    }
+
+    /**
+     * Get the CSS selector of a locator.
+     *
+     * @param locator elements locator
+     * @return CSS selector, or null if the locator is not a CSS selector
+     */
+    static String getCssSelector(By locator) {
+        String locatorString = locator.toString();
+        if (!(locator instanceof By.ByCssSelector) || !locatorString.startsWith(CSS_SELECTOR_PREFIX)) {
+            return null;
+        }
+        return locatorString.substring(CSS_SELECTOR_PREFIX.length());
+    }
+
+    /**
+     * Wraps a wait predicate, so that it waits in the browser for the condition to become true before being
+     * evaluated again.
+     *
+     * @param predicate     predicate of the wait
+     * @param timeoutMillis timeout of the wait
+     * @return predicate waiting in the browser
+     */
+    Predicate<FluentDriver> wrap(final Predicate<FluentDriver> predicate, final long timeoutMillis) {
+        return new Predicate<FluentDriver>() {
+            private long deadline = -1;
+
+            private boolean observing = true;
+
+            @Override
+            public boolean apply(FluentDriver fluent) {
+                if (deadline < 0) {
+                    deadline = System.currentTimeMillis() + timeoutMillis;
+                }
+                if (predicate.apply(fluent)) {
+                    return true;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (!observing || remaining <= 0) {
+                    return false;
+                }
+
+                Boolean verified = await(fluent.getDriver(), remaining);
+                if (verified == null) {
+                    observing = false;
+                    return false;
+                }
+                if (!verified) {
+                    return false;
+                }
+                // Browser side check is an approximation, confirm it with the driver.
+                observing = predicate.apply(fluent);
+                return observing;
+            }
+
+            @Override
+            public String toString() {
+                return predicate.toString();
+            }
+        };
+    }
+
+    /**
+     * Wait in the browser until the condition holds.
+     *
+     * @param driver        driver
+     * @param timeoutMillis maximum time to wait
+     * @return true if condition holds, false if timeout has expired, null if the browser can't run the script
+     */
+    Boolean await(WebDriver driver, long timeoutMillis) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        try {
+            Object result = ScriptTimeouts.INSTANCE.executeAsyncScript(driver, timeoutMillis, WAIT_SCRIPT, cssSelector,
+                    scriptFilters, condition, arguments, negation, timeoutMillis, CHECK_INTERVAL_MILLIS);
+            return result instanceof Boolean ? (Boolean) result : null;
+        } catch (WebDriverException | UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
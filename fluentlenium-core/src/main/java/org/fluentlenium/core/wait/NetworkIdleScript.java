@@ -0,0 +1,169 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Predicate;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.script.ScriptTimeouts;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Wait until the page has no network activity for a quiet period.
+ * <p>
+ * A request tracker is installed in the page on first use. It counts pending {@code XMLHttpRequest}s, {@code fetch}
+ * calls and {@code setTimeout} timers not longer than the quiet period, and records the time of the last activity.
+ * Pending requests are also checked for completion on each check, as some browsers don't notify
+ * {@code readystatechange} listeners.
+ * The page is idle when it is loaded and nothing is pending since the quiet period. The wait is performed by a single
+ * asynchronous script checking the tracker every {@link #CHECK_INTERVAL_MILLIS}, and falls back to polling when the
+ * driver can't run asynchronous scripts. Asynchronous waits always poll, as waiting in the browser would hold a thread of
+ * the shared scheduler.
+ * <p>
+ * Activity started before the tracker is installed, like requests sent while the page was loading, is not tracked.
+ * The page is never reported idle by the call installing the tracker, so the wait polls again and such activity has
+ * at least the quiet period and a polling interval to complete.
+ */
+class NetworkIdleScript {
+    static final long CHECK_INTERVAL_MILLIS = 50;
+
+    /**
+     * Result of the scripts when the tracker has been installed by the call.
+     */
+    static final String INSTALLED = "installed";
+
+    private static final String TRACKER = "var t = window.__fluentleniumNetwork, installed = !t;"
+            + "if (installed) {"
+            + "t = window.__fluentleniumNetwork = {pending: 0, last: new Date().getTime(), maxTimer: 0, xhrs: []};"
+            + "var activity = function () { t.last = new Date().getTime(); };"
+            + "var start = function () { t.pending++; activity(); var ended = false;"
+            + " return function () { if (!ended) { ended = true; t.pending--; activity(); } }; };"
+            + "if (window.XMLHttpRequest) {"
+            + "var send = XMLHttpRequest.prototype.send;"
+            + "XMLHttpRequest.prototype.send = function () {"
+            + "var end = start(), xhr = this;"
+            + "t.xhrs.push({xhr: xhr, end: end});"
+            + "xhr.addEventListener('readystatechange', function () { if (xhr.readyState === 4) { end(); } });"
+            + "try { return send.apply(xhr, arguments); } catch (e) { end(); throw e; }"
+            + "};"
+            + "}"
+            + "if (typeof window.fetch === 'function') {"
+            + "var fetch = window.fetch;"
+            + "window.fetch = function () {"
+            + "var end = start();"
+            + "try {"
+            + "return fetch.apply(this, arguments).then("
+            + "function (r) { end(); return r; }, function (e) { end(); throw e; });"
+            + "} catch (e) { end(); throw e; }"
+            + "};"
+            + "}"
+            + "var setTimer = window.setTimeout, clearTimer = window.clearTimeout, timers = {};"
+            + "window.setTimeout = function (fn, delay) {"
+            + "if (typeof fn !== 'function' || (delay || 0) > t.maxTimer) { return setTimer.apply(window, arguments); }"
+            + "var end = start(), args = Array.prototype.slice.call(arguments, 2), id;"
+            + "id = setTimer(function () { delete timers[id]; try { fn.apply(window, args); } finally { end(); } }, delay);"
+            + "timers[id] = end;"
+            + "return id;"
+            + "};"
+            + "window.clearTimeout = function (id) {"
+            + "if (timers[id]) { timers[id](); delete timers[id]; }"
+            + "return clearTimer(id);"
+            + "};"
+            + "}"
+            + "function idle(quiet) {"
+            + "for (var i = t.xhrs.length - 1; i >= 0; i--) {"
+            + "if (t.xhrs[i].xhr.readyState === 4) { t.xhrs[i].end(); t.xhrs.splice(i, 1); }"
+            + "}"
+            + "return t.pending === 0 && new Date().getTime() - t.last >= quiet && document.readyState === 'complete';"
+            + "}";
+
+    private static final String CHECK_SCRIPT = TRACKER
+            + "t.maxTimer = arguments[0];"
+            + "return installed ? '" + INSTALLED + "' : idle(arguments[0]);";
+
+    private static final String WAIT_SCRIPT = TRACKER
+            + "var quiet = arguments[0], timeout = arguments[1], interval = arguments[2],"
+            + " callback = arguments[arguments.length - 1], begin = new Date().getTime();"
+            + "t.maxTimer = quiet;"
+            + "if (installed) {"
+            + "callback('" + INSTALLED + "');"
+            + "} else if (idle(quiet)) {"
+            + "callback(true);"
+            + "} else {"
+            + "var poller = setInterval(function () {"
+            + "if (idle(quiet)) { clearInterval(poller); callback(true); }"
+            + "else if (new Date().getTime() - begin >= timeout) { clearInterval(poller); callback(false); }"
+            + "}, interval);"
+            + "}";
+
+    private final long quietMillis;
+
+    NetworkIdleScript(long quietMillis) {
+        this.quietMillis = quietMillis;
+    }
+
+    /**
+     * Get a wait predicate, waiting in the browser for the page to be idle.
+     *
+     * @param timeoutMillis timeout of the wait
+     * @param async         true if the wait is asynchronous, so the page is only checked without waiting in the browser
+     * @return predicate verified when the page is idle
+     */
+    Predicate<FluentDriver> predicate(final long timeoutMillis, final boolean async) {
+        return new Predicate<FluentDriver>() {
+            private long deadline = -1;
+
+            private boolean waiting = !async;
+
+            @Override
+            public boolean apply(FluentDriver fluent) {
+                if (deadline < 0) {
+                    deadline = System.currentTimeMillis() + timeoutMillis;
+                }
+                if (waiting) {
+                    Boolean idle = await(fluent.getDriver(), Math.max(0, deadline - System.currentTimeMillis()));
+                    if (idle != null) {
+                        return idle;
+                    }
+                    waiting = false;
+                }
+                return check(fluent.getDriver());
+            }
+
+            @Override
+            public String toString() {
+                return "network idle for " + quietMillis + " ms";
+            }
+        };
+    }
+
+    /**
+     * Check if the page is idle.
+     *
+     * @param driver driver
+     * @return true if the page is idle
+     */
+    boolean check(WebDriver driver) {
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(CHECK_SCRIPT, quietMillis));
+    }
+
+    /**
+     * Wait in the browser until the page is idle.
+     *
+     * @param driver        driver
+     * @param timeoutMillis maximum time to wait
+     * @return true if the page is idle, false if timeout has expired or the tracker has just been installed, null if the
+     * browser can't run the script
+     */
+    Boolean await(WebDriver driver, long timeoutMillis) {
+        try {
+            Object result = ScriptTimeouts.INSTANCE.executeAsyncScript(driver, timeoutMillis, WAIT_SCRIPT, quietMillis,
+                    timeoutMillis, CHECK_INTERVAL_MILLIS);
+            if (INSTALLED.equals(result)) {
+                return false;
+            }
+            return result instanceof Boolean ? (Boolean) result : null;
+        } catch (WebDriverException | UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.fluentlenium.core.wait;
+
+/**
+ * Schedule of the delays between two polls of a {@link FluentWait}.
+ *
+ * @see PollingSchedules
+ */
+public interface PollingSchedule {
+    /**
+     * Get the delay to wait before the next poll.
+     *
+     * @param poll number of polls already performed by the wait, starting at 1
+     * @return delay in milliseconds
+     */
+    long getDelayMillis(int poll);
+}
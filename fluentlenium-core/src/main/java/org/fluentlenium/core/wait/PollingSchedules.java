@@ -0,0 +1,130 @@
+package org.fluentlenium.core.wait;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static class providing common {@link PollingSchedule} implementations.
+ */
+public final class PollingSchedules {
+    private PollingSchedules() {
+    }
+
+    /**
+     * Poll at a fixed interval.
+     *
+     * @param interval interval between polls
+     * @param unit     unit of interval
+     * @return polling schedule
+     */
+    public static PollingSchedule fixed(long interval, TimeUnit unit) {
+        final long intervalMillis = toMillis(interval, unit);
+        return new PollingSchedule() {
+            @Override
+            public long getDelayMillis(int poll) {
+                return intervalMillis;
+            }
+
+            @Override
+            public String toString() {
+                return "fixed(" + intervalMillis + "ms)";
+            }
+        };
+    }
+
+    /**
+     * Poll with an exponential backoff: delay starts at initialDelay and is multiplied by multiplier after each poll,
+     * without exceeding maxDelay.
+     *
+     * @param initialDelay delay after the first poll
+     * @param multiplier   factor applied to the delay after each poll
+     * @param maxDelay     maximum delay between polls
+     * @param unit         unit of initialDelay and maxDelay
+     * @return polling schedule
+     */
+    public static PollingSchedule exponential(long initialDelay, final double multiplier, long maxDelay,
+                                              TimeUnit unit) {
+        final long initialDelayMillis = toMillis(initialDelay, unit);
+        final long maxDelayMillis = toMillis(maxDelay, unit);
+        if (multiplier < 1 || maxDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("Invalid exponential schedule (initial=" + initialDelayMillis
+                    + "ms, multiplier=" + multiplier + ", max=" + maxDelayMillis + "ms)");
+        }
+        return new PollingSchedule() {
+            @Override
+            public long getDelayMillis(int poll) {
+                double delay = initialDelayMillis * Math.pow(multiplier, poll - 1);
+                return delay >= maxDelayMillis ? maxDelayMillis : (long) delay;
+            }
+
+            @Override
+            public String toString() {
+                return "exponential(" + initialDelayMillis + "ms, x" + multiplier + ", max " + maxDelayMillis + "ms)";
+            }
+        };
+    }
+
+    /**
+     * Poll quickly for the first polls, then slowly. Conditions that are almost verified are detected with a low
+     * latency, while long waits don't hammer the browser.
+     *
+     * @param fastPolls number of polls using fastDelay
+     * @param fastDelay delay between the first polls
+     * @param slowDelay delay between the next polls
+     * @param unit      unit of delays
+     * @return polling schedule
+     */
+    public static PollingSchedule fastThenSlow(final int fastPolls, long fastDelay, long slowDelay, TimeUnit unit) {
+        final long fastDelayMillis = toMillis(fastDelay, unit);
+        final long slowDelayMillis = toMillis(slowDelay, unit);
+        return new PollingSchedule() {
+            @Override
+            public long getDelayMillis(int poll) {
+                return poll <= fastPolls ? fastDelayMillis : slowDelayMillis;
+            }
+
+            @Override
+            public String toString() {
+                return "fastThenSlow(" + fastPolls + " x " + fastDelayMillis + "ms, then " + slowDelayMillis + "ms)";
+            }
+        };
+    }
+
+    /**
+     * Add a random jitter to the delays of a schedule, so that parallel waits don't poll the browser or the grid at
+     * the same time.
+     *
+     * @param schedule base schedule
+     * @param ratio    maximum jitter, as a ratio of the base delay (0.1 for +/- 10%)
+     * @return polling schedule
+     */
+    public static PollingSchedule jittered(final PollingSchedule schedule, final double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Jitter ratio should be between 0 and 1: " + ratio);
+        }
+        return new PollingSchedule() {
+            @Override
+            public long getDelayMillis(int poll) {
+                long delay = schedule.getDelayMillis(poll);
+                if (ratio == 0) {
+                    return delay;
+                }
+                double jitter = ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+                return Math.max(0, Math.round(delay * (1 + jitter)));
+            }
+
+            @Override
+            public String toString() {
+                return "jittered(" + schedule + ", " + ratio + ")";
+            }
+        };
+    }
+
+    private static long toMillis(long duration, TimeUnit unit) {
+        long millis = unit.toMillis(duration);
+        if (millis < 0) {
+            throw new IllegalArgumentException("Delay can't be negative: " + duration + " " + unit);
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,125 @@
+package org.fluentlenium.core.wait;
+
+import org.fluentlenium.core.search.ImplicitWaits;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline shared by all waits of a test.
+ * <p>
+ * When a deadline is started on the test thread, the remaining time is the upper bound of each {@link FluentWait},
+ * {@code @AjaxElement} lookup and implicit wait of searches performed by this thread, so a broken test fails as soon as
+ * its wait budget is spent instead of waiting for each of its waits to time out.
+ *
+ * @see DeadlineClock
+ */
+public enum WaitDeadline {
+    INSTANCE;
+
+    /**
+     * Implicit wait is lowered only when it exceeds the remaining time by more than this value, to avoid a driver call
+     * on each search.
+     */
+    static final long IMPLICIT_WAIT_SLACK_MILLIS = 500;
+
+    private final ThreadLocal<State> state = new ThreadLocal<>();
+
+    private static class State {
+        private final long deadlineNanos;
+
+        private final Set<WebDriver> loweredImplicitWaits = Collections.newSetFromMap(new IdentityHashMap<WebDriver, Boolean>());
+
+        State(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    /**
+     * Start a deadline for waits of the current thread.
+     *
+     * @param budget   time available to all waits
+     * @param timeUnit unit of budget
+     */
+    public void start(long budget, TimeUnit timeUnit) {
+        clear();
+        state.set(new State(System.nanoTime() + timeUnit.toNanos(budget)));
+    }
+
+    /**
+     * Clear the deadline of the current thread, and restore implicit waits lowered by this deadline.
+     */
+    public void clear() {
+        State current = state.get();
+        if (current == null) {
+            return;
+        }
+        state.remove();
+        for (WebDriver driver : current.loweredImplicitWaits) {
+            try {
+                ImplicitWaits.INSTANCE.apply(driver, ImplicitWaits.INSTANCE.get(driver));
+            } catch (WebDriverException e) {
+                // Driver may already be quit.
+            }
+        }
+    }
+
+    /**
+     * Check if a deadline is started on the current thread.
+     *
+     * @return true if a deadline is started
+     */
+    public boolean isActive() {
+        return state.get() != null;
+    }
+
+    /**
+     * Get the time remaining before the deadline of the current thread.
+     *
+     * @return remaining time in milliseconds, 0 if the deadline has passed, or {@link Long#MAX_VALUE} if no deadline is
+     * started
+     */
+    public long getRemainingMillis() {
+        State current = state.get();
+        if (current == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(current.deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Bound a timeout to the time remaining before the deadline of the current thread.
+     *
+     * @param timeoutMillis timeout in milliseconds
+     * @return the lowest of timeout and remaining time
+     */
+    public long bound(long timeoutMillis) {
+        return Math.min(timeoutMillis, getRemainingMillis());
+    }
+
+    /**
+     * Lower the implicit wait of the driver to the time remaining before the deadline of the current thread, before a
+     * search.
+     *
+     * @param driver driver performing the search
+     */
+    public void beforeSearch(WebDriver driver) {
+        State current = state.get();
+        if (current == null || driver == null) {
+            return;
+        }
+        long implicitWait = ImplicitWaits.INSTANCE.getApplied(driver);
+        if (implicitWait == 0) {
+            return;
+        }
+        long remaining = getRemainingMillis();
+        if (implicitWait > remaining + IMPLICIT_WAIT_SLACK_MILLIS || remaining == 0) {
+            ImplicitWaits.INSTANCE.apply(driver, remaining);
+            current.loweredImplicitWaits.add(driver);
+        }
+    }
+}
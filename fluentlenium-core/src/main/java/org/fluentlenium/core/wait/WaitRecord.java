@@ -0,0 +1,85 @@
+package org.fluentlenium.core.wait;
+
+/**
+ * A wait recorded by {@link WaitTelemetry}.
+ */
+public class WaitRecord {
+    /**
+     * Outcome of a wait.
+     */
+    public enum Outcome {
+        /**
+         * Condition was fulfilled before timeout.
+         */
+        SUCCESS,
+        /**
+         * Condition wasn't fulfilled before timeout.
+         */
+        TIMEOUT,
+        /**
+         * Condition has thrown an exception that was not ignored.
+         */
+        ERROR
+    }
+
+    private final String callSite;
+    private final String condition;
+    private final String selection;
+    private final long elapsedNanos;
+    private final int pollCount;
+    private final Outcome outcome;
+
+    public WaitRecord(String callSite, String condition, String selection, long elapsedNanos, int pollCount, Outcome outcome) {
+        this.callSite = callSite;
+        this.condition = condition;
+        this.selection = selection;
+        this.elapsedNanos = elapsedNanos;
+        this.pollCount = pollCount;
+        this.outcome = outcome;
+    }
+
+    /**
+     * Get the first stack frame outside of FluentLenium that has performed the wait.
+     *
+     * @return call site, like {@code com.company.LoginTest.login(LoginTest.java:42)}
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * Get the name of the FluentLenium method that has performed the wait.
+     *
+     * @return condition, like {@code isDisplayed}
+     */
+    public String getCondition() {
+        return condition;
+    }
+
+    /**
+     * Get the description of the elements this wait was waiting for.
+     *
+     * @return selection, or null if the wait was not waiting for elements
+     */
+    public String getSelection() {
+        return selection;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getPollCount() {
+        return pollCount;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    @Override
+    public String toString() {
+        return "WaitRecord{callSite=" + callSite + ", condition=" + condition + ", selection=" + selection
+                + ", elapsedNanos=" + elapsedNanos + ", pollCount=" + pollCount + ", outcome=" + outcome + '}';
+    }
+}
@@ -0,0 +1,354 @@
+package org.fluentlenium.core.wait;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the time spent in waits, to find the slowest waits of a test suite.
+ * <p>
+ * When enabled, each wait performed by {@link FluentWait} is recorded with its call site, condition, elapsed time,
+ * number of polls and outcome. Each thread records in its own queue, so that recording doesn't contend between
+ * parallel tests. Records are aggregated by call site into a JSON report, with percentiles of elapsed time, which is
+ * written to the report file at the end of each test class that has recorded waits, and when the JVM exits.
+ */
+public enum WaitTelemetry {
+    INSTANCE;
+
+    static final String UNKNOWN_CALL_SITE = "unknown";
+
+    private static final String WAIT_PACKAGE = WaitTelemetry.class.getPackage().getName() + ".";
+
+    private static final String[] INTERNAL_PACKAGES = {"org.fluentlenium.core.", "org.fluentlenium.adapter.",
+            "com.google.common.", "org.openqa.selenium.", "java.", "javax.", "sun.", "jdk."};
+
+    private final Queue<Queue<WaitRecord>> recorders = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<Queue<WaitRecord>> recorder = new ThreadLocal<Queue<WaitRecord>>() {
+        @Override
+        protected Queue<WaitRecord> initialValue() {
+            Queue<WaitRecord> records = new ConcurrentLinkedQueue<>();
+            recorders.add(records);
+            return records;
+        }
+    };
+
+    private final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
+
+    private volatile boolean enabled;
+
+    private volatile File reportFile;
+
+    private final AtomicLong changes = new AtomicLong();
+
+    private long reportedChanges = -1;
+
+    /**
+     * Start recording waits.
+     *
+     * @param reportFile file the report is written to, or null to only record waits
+     */
+    public void enable(File reportFile) {
+        synchronized (this) {
+            if (reportFile == null || !reportFile.equals(this.reportFile)) {
+                reportedChanges = -1;
+            }
+            this.reportFile = reportFile;
+        }
+        enabled = true;
+        if (reportFile != null && shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread("WaitTelemetryShutdownHook") {
+                @Override
+                public void run() {
+                    try {
+                        writeReportIfChanged();
+                    } catch (IOException e) {
+                        // Exceptions can't be propagated from a shutdown hook.
+                        e.printStackTrace();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Stop recording waits. Recorded waits are kept.
+     */
+    public void disable() {
+        enabled = false;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public File getReportFile() {
+        return reportFile;
+    }
+
+    /**
+     * Record a wait, if enabled.
+     *
+     * @param selection   description of the elements waited for, or null
+     * @param startNanos  value of {@link System#nanoTime()} when the wait has started
+     * @param pollCount   number of polls
+     * @param outcome     outcome of the wait
+     */
+    void record(String selection, long startNanos, int pollCount, WaitRecord.Outcome outcome) {
+        if (!enabled) {
+            return;
+        }
+        record(selection, new Throwable().getStackTrace(), startNanos, pollCount, outcome);
+    }
+
+    /**
+     * Record a wait performed on another thread, if enabled.
+     *
+     * @param selection   description of the elements waited for, or null
+     * @param stack       stack of the thread that has started the wait, or null if it wasn't captured
+     * @param startNanos  value of {@link System#nanoTime()} when the wait has started
+     * @param pollCount   number of polls
+     * @param outcome     outcome of the wait
+     */
+    void record(String selection, StackTraceElement[] stack, long startNanos, int pollCount, WaitRecord.Outcome outcome) {
+        if (!enabled || stack == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        add(new WaitRecord(getCallSite(stack), getCondition(stack), selection, elapsedNanos, pollCount, outcome));
+    }
+
+    void add(WaitRecord record) {
+        recorder.get().add(record);
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Get the first frame of the stack outside of FluentLenium, Guava, Selenium and the JDK.
+     *
+     * @param stack stack of the wait
+     * @return call site of the wait
+     */
+    static String getCallSite(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            if (!isInternal(frame.getClassName())) {
+                return frame.toString();
+            }
+        }
+        return UNKNOWN_CALL_SITE;
+    }
+
+    /**
+     * Get the outermost method of the wait package in the stack, which is the condition called by the user.
+     *
+     * @param stack stack of the wait
+     * @return condition of the wait, or null if the stack doesn't contain the wait package
+     */
+    static String getCondition(StackTraceElement[] stack) {
+        String condition = null;
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith(WAIT_PACKAGE)) {
+                if (!className.equals(WaitTelemetry.class.getName())) {
+                    condition = frame.getMethodName();
+                }
+            } else if (condition != null) {
+                break;
+            }
+        }
+        return condition;
+    }
+
+    private static boolean isInternal(String className) {
+        for (String internalPackage : INTERNAL_PACKAGES) {
+            if (className.startsWith(internalPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the waits recorded by all threads.
+     *
+     * @return recorded waits
+     */
+    public List<WaitRecord> getRecords() {
+        List<WaitRecord> records = new ArrayList<>();
+        for (Queue<WaitRecord> threadRecords : recorders) {
+            records.addAll(threadRecords);
+        }
+        return records;
+    }
+
+    /**
+     * Discard recorded waits.
+     */
+    public void reset() {
+        for (Queue<WaitRecord> threadRecords : recorders) {
+            threadRecords.clear();
+        }
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Write the report to the report file, if defined.
+     *
+     * @throws IOException if the report can't be written
+     */
+    public synchronized void writeReport() throws IOException {
+        File file = reportFile;
+        if (file != null) {
+            long currentChanges = changes.get();
+            FileUtils.writeByteArrayToFile(file, getReport().getBytes(StandardCharsets.UTF_8));
+            reportedChanges = currentChanges;
+        }
+    }
+
+    /**
+     * Write the report to the report file, if defined and if waits have been recorded or discarded since the report
+     * has been written.
+     *
+     * @return true if the report has been written
+     * @throws IOException if the report can't be written
+     */
+    public synchronized boolean writeReportIfChanged() throws IOException {
+        if (reportFile == null || changes.get() == reportedChanges) {
+            return false;
+        }
+        writeReport();
+        return true;
+    }
+
+    /**
+     * Build a JSON report of recorded waits.
+     * <p>
+     * Waits are aggregated by call site, condition and selection, slowest call sites first. Each entry gives the number
+     * of waits, polls and timeouts, and the total, median, 90th and 99th percentile and maximum elapsed time.
+     *
+     * @return JSON report
+     */
+    public String getReport() {
+        Map<List<String>, List<WaitRecord>> callSites = new LinkedHashMap<>();
+        long totalNanos = 0;
+        List<WaitRecord> records = getRecords();
+        for (WaitRecord record : records) {
+            List<String> key = Arrays.asList(record.getCallSite(), record.getCondition(), record.getSelection());
+            List<WaitRecord> callSiteRecords = callSites.get(key);
+            if (callSiteRecords == null) {
+                callSiteRecords = new ArrayList<>();
+                callSites.put(key, callSiteRecords);
+            }
+            callSiteRecords.add(record);
+            totalNanos += record.getElapsedNanos();
+        }
+
+        List<CallSiteStatistics> statistics = new ArrayList<>();
+        for (List<WaitRecord> callSiteRecords : callSites.values()) {
+            statistics.add(new CallSiteStatistics(callSiteRecords));
+        }
+        Collections.sort(statistics, new Comparator<CallSiteStatistics>() {
+            @Override
+            public int compare(CallSiteStatistics o1, CallSiteStatistics o2) {
+                return Long.compare(o2.totalNanos, o1.totalNanos);
+            }
+        });
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"waits\": ").append(records.size());
+        json.append(",\n  \"totalMillis\": ").append(millis(totalNanos));
+        json.append(",\n  \"callSites\": [");
+        for (int i = 0; i < statistics.size(); i++) {
+            json.append(i == 0 ? "\n" : ",\n");
+            statistics.get(i).appendJson(json);
+        }
+        json.append(statistics.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Statistics of the waits of a call site.
+     */
+    private static class CallSiteStatistics {
+        private final WaitRecord first;
+        private final long[] elapsedNanos;
+        private long totalNanos;
+        private long polls;
+        private int timeouts;
+        private int errors;
+
+        CallSiteStatistics(List<WaitRecord> records) {
+            first = records.get(0);
+            elapsedNanos = new long[records.size()];
+            for (int i = 0; i < elapsedNanos.length; i++) {
+                WaitRecord record = records.get(i);
+                elapsedNanos[i] = record.getElapsedNanos();
+                totalNanos += record.getElapsedNanos();
+                polls += record.getPollCount();
+                if (record.getOutcome() == WaitRecord.Outcome.TIMEOUT) {
+                    timeouts++;
+                } else if (record.getOutcome() == WaitRecord.Outcome.ERROR) {
+                    errors++;
+                }
+            }
+            Arrays.sort(elapsedNanos);
+        }
+
+        private long percentile(int percent) {
+            int rank = (int) Math.ceil(percent / 100.0 * elapsedNanos.length);
+            return elapsedNanos[Math.max(0, rank - 1)];
+        }
+
+        void appendJson(StringBuilder json) {
+            json.append("    {\"callSite\": ").append(quote(first.getCallSite()));
+            json.append(", \"condition\": ").append(quote(first.getCondition()));
+            json.append(", \"selection\": ").append(quote(first.getSelection()));
+            json.append(", \"count\": ").append(elapsedNanos.length);
+            json.append(", \"polls\": ").append(polls);
+            json.append(", \"timeouts\": ").append(timeouts);
+            json.append(", \"errors\": ").append(errors);
+            json.append(", \"totalMillis\": ").append(millis(totalNanos));
+            json.append(", \"p50Millis\": ").append(millis(percentile(50)));
+            json.append(", \"p90Millis\": ").append(millis(percentile(90)));
+            json.append(", \"p99Millis\": ").append(millis(percentile(99)));
+            json.append(", \"maxMillis\": ").append(millis(elapsedNanos[elapsedNanos.length - 1]));
+            json.append('}');
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.assertj.core.util.Files;
 import org.fluentlenium.adapter.util.DeleteCookies;
 import org.fluentlenium.adapter.util.SharedDriver;
 import org.fluentlenium.adapter.util.SharedDriverStrategy;
+import org.fluentlenium.core.snapshot.SnapshotWriter;
+import org.fluentlenium.core.wait.WaitTelemetry;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,7 +22,6 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.io.File;
-import java.io.IOError;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,7 +40,6 @@ public class FluentTestTest {
     private static List<WebDriver> sharedOnceDrivers = new ArrayList<>();
 
     private static List<ScreenshotWebDriver> screenshotWebDrivers = new ArrayList<>();
-    private static File screenshotFile;
     private static String html = "<html>FluentLenium</html>";
     private static byte[] screenshotData = {1,4,7,9,2,4,2,4,3};
 
@@ -164,15 +164,7 @@ public class FluentTestTest {
         @Override
         public WebDriver getDefaultDriver() {
             ScreenshotWebDriver webDriver = Mockito.mock(ScreenshotWebDriver.class);
-            try {
-                screenshotFile = File.createTempFile("FluentTestTest.java", "");
-                FileUtils.writeByteArrayToFile(screenshotFile, screenshotData);
-                screenshotFile.deleteOnExit();
-            } catch (IOException e) {
-                throw new IOError(e);
-            }
-
-            Mockito.when(webDriver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotFile);
+            Mockito.when(webDriver.getScreenshotAs(OutputType.BYTES)).thenReturn(screenshotData);
 
             WebElement htmlElement = Mockito.mock(WebElement.class);
             Mockito.when(htmlElement.getAttribute("innerHTML")).thenReturn(html);
@@ -189,6 +181,50 @@ public class FluentTestTest {
         }
     }
 
+    public static class FailingSnapshotWriteTest extends FluentTest {
+
+        public FailingSnapshotWriteTest() throws IOException {
+            // Snapshots can't be written in a directory that is a file.
+            File notADirectory = File.createTempFile("fluentlenium", ".tmp", tmpPath);
+            setScreenshotPath(notADirectory.getPath());
+            setScreenshotMode(TriggerMode.ON_FAIL);
+        }
+
+        @Override
+        public WebDriver getDefaultDriver() {
+            ScreenshotWebDriver webDriver = Mockito.mock(ScreenshotWebDriver.class);
+            Mockito.when(webDriver.getScreenshotAs(OutputType.BYTES)).thenReturn(screenshotData);
+            screenshotWebDrivers.add(webDriver);
+            return webDriver;
+        }
+
+        @Test
+        public void failingTest() {
+            fail("Failing Test");
+        }
+    }
+
+    public static class FailingWaitReportTest extends FluentTest {
+
+        public FailingWaitReportTest() throws IOException {
+            // Report can't be written in a directory that is a file.
+            File notADirectory = File.createTempFile("fluentlenium", ".tmp", tmpPath);
+            setWaitReportPath(new File(notADirectory, "waits.json").getPath());
+        }
+
+        @Override
+        public WebDriver getDefaultDriver() {
+            WebDriver webDriver = Mockito.mock(WebDriver.class);
+            drivers.add(webDriver);
+            return webDriver;
+        }
+
+        @Test
+        public void okTest() {
+            goTo("url");
+        }
+    }
+
     @After
     public void after() {
         drivers.clear();
@@ -272,9 +308,11 @@ public class FluentTestTest {
 
         ScreenshotWebDriver driver = screenshotWebDrivers.get(0);
 
-        Mockito.verify(driver).getScreenshotAs(OutputType.FILE);
+        Mockito.verify(driver).getScreenshotAs(OutputType.BYTES);
         Mockito.verify(driver).findElements(By.cssSelector("html"));
 
+        assertThat(SnapshotWriter.INSTANCE.flush()).isTrue();
+
         assertThat(tmpPath.list()).contains("AutomaticScreenShotTest_failingTest(org.fluentlenium.adapter.FluentTestTest$AutomaticScreenShotTest).html");
         assertThat(tmpPath.list()).contains("AutomaticScreenShotTest_failingTest(org.fluentlenium.adapter.FluentTestTest$AutomaticScreenShotTest).png");
 
@@ -290,4 +328,34 @@ public class FluentTestTest {
         }
 
     }
+
+    @Test
+    public void testFailingSnapshotWriteIsReportedAfterClass() {
+        Result result = JUnitCore.runClasses(FailingSnapshotWriteTest.class);
+        assertThat(result.getFailures()).hasSize(2);
+        assertThat(result.getFailures().get(0).getMessage()).isEqualTo("Failing Test");
+        assertThat(result.getFailures().get(1).getException())
+                .hasMessage("error when writing snapshots of failed tests")
+                .hasCauseInstanceOf(IOException.class);
+
+        assertThat(screenshotWebDrivers).hasSize(1);
+        Mockito.verify(screenshotWebDrivers.get(0)).quit();
+    }
+
+    @Test
+    public void testFailingWaitReportIsReportedAfterClass() {
+        try {
+            Result result = JUnitCore.runClasses(FailingWaitReportTest.class);
+            assertThat(result.getFailures()).hasSize(1);
+            assertThat(result.getFailures().get(0).getException())
+                    .hasMessage("error when writing the wait report")
+                    .hasCauseInstanceOf(IOException.class);
+        } finally {
+            WaitTelemetry.INSTANCE.enable(null);
+            WaitTelemetry.INSTANCE.disable();
+        }
+
+        assertThat(drivers).hasSize(1);
+        Mockito.verify(drivers.get(0)).quit();
+    }
 }
@@ -1,16 +1,33 @@
 package org.fluentlenium.adapter;
 
+import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
 import static org.assertj.core.api.Assertions.assertThat;
+import org.fluentlenium.adapter.util.DriverPool;
 import org.fluentlenium.adapter.util.SharedDriverStrategy;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.fail;
 
 
 public class SharedWebDriverContainerTest implements Supplier<WebDriver> {
@@ -193,6 +210,313 @@ public class SharedWebDriverContainerTest implements Supplier<WebDriver> {
         assertThat(container.getTestClassDrivers(String.class)).isEmpty();
     }
 
+    @Test
+    public void quitAll_abandons_hung_drivers_and_reports_failures() {
+        final CountDownLatch hung = new CountDownLatch(1);
+        SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test", SharedDriverStrategy.PER_METHOD);
+        SharedWebDriver hungDriver = container.getOrCreateDriver(this, Object.class, "hung", SharedDriverStrategy.PER_METHOD);
+        SharedWebDriver failingDriver = container.getOrCreateDriver(this, Object.class, "failing", SharedDriverStrategy.PER_CLASS);
+
+        Mockito.doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws InterruptedException {
+                hung.await();
+                return null;
+            }
+        }).when(hungDriver.getDriver()).quit();
+        Mockito.doThrow(new WebDriverException("Browser has gone away")).when(failingDriver.getDriver()).quit();
+
+        try {
+            container.quitAll(100, TimeUnit.MILLISECONDS);
+            fail("Hung and failing drivers should be reported");
+        } catch (DriverQuitException e) {
+            assertThat(e.getFailures()).containsOnlyKeys(hungDriver, failingDriver);
+            assertThat(e.getFailures().get(hungDriver)).isInstanceOf(TimeoutException.class);
+            assertThat(e.getFailures().get(failingDriver)).isInstanceOf(WebDriverException.class);
+        } finally {
+            hung.countDown();
+        }
+
+        Mockito.verify(driver.getDriver()).quit();
+        assertThat(container.getAllDrivers()).isEmpty();
+    }
+
+    @Test
+    public void quit_quits_drivers_concurrently() {
+        final int count = 4;
+        final CountDownLatch quitting = new CountDownLatch(count);
+        List<SharedWebDriver> drivers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test" + i, SharedDriverStrategy.PER_METHOD);
+            // Each quit waits for the others, so it only completes if they run in parallel.
+            Mockito.doAnswer(new Answer<Void>() {
+                @Override
+                public Void answer(InvocationOnMock invocation) throws InterruptedException {
+                    quitting.countDown();
+                    if (!quitting.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Drivers are not quit in parallel");
+                    }
+                    return null;
+                }
+            }).when(driver.getDriver()).quit();
+            drivers.add(driver);
+        }
+
+        container.quit(drivers, 10, TimeUnit.SECONDS);
+
+        assertThat(container.getAllDrivers()).isEmpty();
+    }
+
+    @Test
+    public void getOrCreateDriver_with_strategy_pooled_recycles_released_drivers() {
+        Supplier<WebDriver> resettableDrivers = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                WebDriver webDriver = Mockito.mock(WebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+                Mockito.when(webDriver.getWindowHandle()).thenReturn("main");
+                return webDriver;
+            }
+        };
+
+        SharedWebDriver driver = container.getOrCreateDriver(resettableDrivers, Object.class, "test", SharedDriverStrategy.POOLED);
+
+        assertThat(container.getAllDrivers()).containsOnly(driver);
+        assertThat(container.getTestClassDrivers(Object.class)).containsOnly(driver);
+        assertThat(container.getOrCreateDriver(resettableDrivers, Object.class, "test", SharedDriverStrategy.POOLED))
+                .isSameAs(driver);
+
+        container.quit(driver);
+
+        assertThat(container.getAllDrivers()).isEmpty();
+        Mockito.verify(driver.getDriver(), Mockito.never()).quit();
+
+        SharedWebDriver driver2 = container.getOrCreateDriver(resettableDrivers, Object.class, "otherTest", SharedDriverStrategy.POOLED);
+
+        assertThat(driver2).isNotSameAs(driver);
+        assertThat(driver2.getDriver()).isSameAs(driver.getDriver());
+        assertThat(driver2.getSharedDriverStrategy()).isEqualTo(SharedDriverStrategy.POOLED);
+
+        container.quitAll();
+
+        Mockito.verify(driver.getDriver()).quit();
+    }
+
+    @Test
+    public void getOrCreateDriver_creates_drivers_of_different_tests_in_parallel() throws Exception {
+        final int threads = 4;
+        final CountDownLatch creating = new CountDownLatch(threads);
+        final Supplier<WebDriver> slowFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                creating.countDown();
+                try {
+                    // Each creation waits for the others, so it only completes if they run in parallel.
+                    if (!creating.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Drivers are not created in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return Mockito.mock(WebDriver.class);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SharedWebDriver>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                final String testName = "test" + i;
+                futures.add(executor.submit(new Callable<SharedWebDriver>() {
+                    @Override
+                    public SharedWebDriver call() {
+                        return container.getOrCreateDriver(slowFactory, Object.class, testName, SharedDriverStrategy.PER_METHOD);
+                    }
+                }));
+            }
+            for (Future<SharedWebDriver> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(container.getAllDrivers()).hasSize(threads);
+    }
+
+    @Test
+    public void getOrCreateDriver_from_concurrent_threads_creates_one_instance_per_key() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final Supplier<WebDriver> countingFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                created.incrementAndGet();
+                return Mockito.mock(WebDriver.class);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SharedWebDriver>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(new Callable<SharedWebDriver>() {
+                    @Override
+                    public SharedWebDriver call() {
+                        return container.getOrCreateDriver(countingFactory, Object.class, "test", SharedDriverStrategy.PER_CLASS);
+                    }
+                }));
+            }
+            SharedWebDriver driver = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<SharedWebDriver> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(driver);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getOrCreateDriver_retries_after_failed_creation() {
+        Supplier<WebDriver> failingFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                throw new IllegalStateException("Browser can't start");
+            }
+        };
+
+        try {
+            container.getOrCreateDriver(failingFactory, Object.class, "test", SharedDriverStrategy.PER_METHOD);
+            fail("Driver creation should have failed");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("Browser can't start");
+        }
+
+        assertThat(container.getDriver(Object.class, "test", SharedDriverStrategy.PER_METHOD)).isNull();
+
+        SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test", SharedDriverStrategy.PER_METHOD);
+        assertThat(container.getAllDrivers()).containsOnly(driver);
+    }
+
+    @Test
+    public void getTestClassDrivers_does_not_wait_for_drivers_of_other_classes_being_created() throws Exception {
+        final CountDownLatch creating = new CountDownLatch(1);
+        final CountDownLatch created = new CountDownLatch(1);
+        final Supplier<WebDriver> slowFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                creating.countDown();
+                try {
+                    created.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return Mockito.mock(WebDriver.class);
+            }
+        };
+
+        SharedWebDriver driver = container.getOrCreateDriver(this, String.class, "test", SharedDriverStrategy.PER_CLASS);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SharedWebDriver> slowDriver = executor.submit(new Callable<SharedWebDriver>() {
+                @Override
+                public SharedWebDriver call() {
+                    return container.getOrCreateDriver(slowFactory, Object.class, "test", SharedDriverStrategy.PER_CLASS);
+                }
+            });
+            assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // afterClass of String.class while the driver of Object.class is being created.
+            List<SharedWebDriver> classDrivers = container.getTestClassDrivers(String.class);
+            assertThat(classDrivers).containsOnly(driver);
+            container.quit(classDrivers);
+            Mockito.verify(driver.getDriver()).quit();
+
+            assertThat(container.getTestClassDrivers(Object.class)).isEmpty();
+            assertThat(container.getAllDrivers()).isEmpty();
+
+            created.countDown();
+            SharedWebDriver createdDriver = slowDriver.get(5, TimeUnit.SECONDS);
+            assertThat(container.getTestClassDrivers(Object.class)).containsOnly(createdDriver);
+        } finally {
+            created.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void quitAll_quits_drivers_being_created_once_created() throws Exception {
+        final CountDownLatch creating = new CountDownLatch(1);
+        final CountDownLatch created = new CountDownLatch(1);
+        final Supplier<WebDriver> slowFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                creating.countDown();
+                try {
+                    created.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return Mockito.mock(WebDriver.class);
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SharedWebDriver> slowDriver = executor.submit(new Callable<SharedWebDriver>() {
+                @Override
+                public SharedWebDriver call() {
+                    return container.getOrCreateDriver(slowFactory, Object.class, "test", SharedDriverStrategy.PER_METHOD);
+                }
+            });
+            assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+
+            container.quitAll(100, TimeUnit.MILLISECONDS);
+            assertThat(container.getAllDrivers()).isEmpty();
+
+            created.countDown();
+            Mockito.verify(slowDriver.get(5, TimeUnit.SECONDS).getDriver()).quit();
+            assertThat(container.getAllDrivers()).isEmpty();
+        } finally {
+            created.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    public static class NeverHealthy implements Predicate<WebDriver> {
+        @Override
+        public boolean apply(WebDriver input) {
+            return false;
+        }
+    }
+
+    @DriverPool(minSize = 0, healthCheck = NeverHealthy.class)
+    private static class UnhealthyPoolTest {
+    }
+
+    @Test
+    public void getOrCreateDriver_with_strategy_pooled_uses_configured_health_check() {
+        Supplier<WebDriver> resettableDrivers = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                WebDriver webDriver = Mockito.mock(WebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+                Mockito.when(webDriver.getWindowHandle()).thenReturn("main");
+                return webDriver;
+            }
+        };
+
+        SharedWebDriver driver = container.getOrCreateDriver(resettableDrivers, UnhealthyPoolTest.class, "test",
+                SharedDriverStrategy.POOLED);
+        container.quit(driver);
+
+        SharedWebDriver driver2 = container.getOrCreateDriver(resettableDrivers, UnhealthyPoolTest.class, "otherTest",
+                SharedDriverStrategy.POOLED);
+
+        assertThat(driver2.getDriver()).isNotSameAs(driver.getDriver());
+        Mockito.verify(driver.getDriver()).quit();
+    }
+
     @Test
     public void testSharedDriverBean() {
         WebDriver webDriver = get();
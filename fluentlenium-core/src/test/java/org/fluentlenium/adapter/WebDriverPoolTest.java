@@ -0,0 +1,205 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebDriverPoolTest implements Supplier<WebDriver> {
+
+    private final List<WebDriver> createdDrivers = new ArrayList<>();
+
+    private WebDriverPool pool;
+
+    @After
+    public void after() {
+        if (pool != null) {
+            pool.quitAll();
+        }
+    }
+
+    @Override
+    public synchronized WebDriver get() {
+        WebDriver driver = Mockito.mock(WebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+        when(driver.getWindowHandle()).thenReturn("main");
+        when(driver.getWindowHandles()).thenReturn(new LinkedHashSet<>(Arrays.asList("main")));
+        createdDrivers.add(driver);
+        return driver;
+    }
+
+    private synchronized List<WebDriver> getCreatedDrivers() {
+        return new ArrayList<>(createdDrivers);
+    }
+
+    @Test
+    public void released_driver_is_reset_and_reused() {
+        pool = new WebDriverPool(this, 0, 2, 0);
+
+        WebDriver driver = pool.acquire();
+        assertThat(pool.getActiveCount()).isEqualTo(1);
+
+        pool.release(driver);
+        assertThat(pool.getActiveCount()).isEqualTo(0);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+        verify(driver.manage()).deleteAllCookies();
+        verify(driver).get("about:blank");
+        verify(driver, never()).quit();
+
+        assertThat(pool.acquire()).isSameAs(driver);
+        assertThat(getCreatedDrivers()).hasSize(1);
+    }
+
+    @Test
+    public void driver_is_quit_when_max_reuse_is_reached() {
+        pool = new WebDriverPool(this, 0, 2, 2);
+
+        WebDriver driver = pool.acquire();
+        pool.release(driver);
+        assertThat(pool.acquire()).isSameAs(driver);
+        pool.release(driver);
+
+        verify(driver).quit();
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+        assertThat(pool.acquire()).isNotSameAs(driver);
+    }
+
+    @Test
+    public void driver_is_quit_when_reset_fails() {
+        pool = new WebDriverPool(this, 0, 2, 0);
+
+        WebDriver driver = pool.acquire();
+        Mockito.doThrow(new WebDriverException("Browser has gone away")).when(driver).get("about:blank");
+        pool.release(driver);
+
+        verify(driver).quit();
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void unhealthy_idle_driver_is_replaced() {
+        pool = new WebDriverPool(this, 0, 2, 0, new Predicate<WebDriver>() {
+            @Override
+            public boolean apply(WebDriver input) {
+                return getCreatedDrivers().indexOf(input) != 0;
+            }
+        });
+
+        WebDriver driver = pool.acquire();
+        pool.release(driver);
+
+        WebDriver otherDriver = pool.acquire();
+        assertThat(otherDriver).isNotSameAs(driver);
+        verify(driver).quit();
+    }
+
+    @Test
+    public void prewarm_starts_idle_drivers_in_background() throws InterruptedException {
+        pool = new WebDriverPool(this, 2, 3, 0);
+        pool.prewarm();
+
+        long timeout = System.currentTimeMillis() + 5000;
+        while (pool.getIdleCount() < 2 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertThat(pool.getIdleCount()).isEqualTo(2);
+
+        WebDriver driver = pool.acquire();
+        assertThat(getCreatedDrivers()).contains(driver);
+    }
+
+    @Test
+    public void quitAll_quits_idle_and_active_drivers() {
+        pool = new WebDriverPool(this, 0, 2, 0);
+
+        WebDriver driver = pool.acquire();
+        WebDriver driver2 = pool.acquire();
+        pool.release(driver2);
+
+        pool.quitAll();
+
+        verify(driver).quit();
+        verify(driver2).quit();
+        assertThat(pool.getActiveCount()).isEqualTo(0);
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                pool.acquire();
+            }
+        }).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void driver_being_reset_counts_in_pool_size() throws Exception {
+        pool = new WebDriverPool(this, 0, 1, 0);
+
+        final WebDriver driver = pool.acquire();
+        final CountDownLatch resetStarted = new CountDownLatch(1);
+        final CountDownLatch resetAllowed = new CountDownLatch(1);
+        Mockito.doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                resetStarted.countDown();
+                resetAllowed.await();
+                return null;
+            }
+        }).when(driver).get("about:blank");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    pool.release(driver);
+                }
+            });
+            assertThat(resetStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<WebDriver> acquired = executor.submit(new Callable<WebDriver>() {
+                @Override
+                public WebDriver call() {
+                    return pool.acquire();
+                }
+            });
+            Thread.sleep(200);
+            assertThat(acquired.isDone()).isFalse();
+            assertThat(getCreatedDrivers()).hasSize(1);
+
+            resetAllowed.countDown();
+            assertThat(acquired.get(5, TimeUnit.SECONDS)).isSameAs(driver);
+            assertThat(getCreatedDrivers()).hasSize(1);
+        } finally {
+            resetAllowed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_sizes_are_rejected() {
+        new WebDriverPool(this, 3, 2, 0);
+    }
+}
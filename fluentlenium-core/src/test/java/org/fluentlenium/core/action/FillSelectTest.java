@@ -13,6 +13,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -20,11 +21,15 @@ import org.openqa.selenium.WebElement;
 import java.util.Arrays;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 
 public class FillSelectTest {
@@ -145,4 +150,55 @@ public class FillSelectTest {
             }
         }).isExactlyInstanceOf(NoSuchElementException.class).withFailMessage("No select element found");
     }
+
+    @Test
+    public void testFastFillList() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        final FluentListImpl<FluentWebElement> list = new FluentListImpl<>(Arrays.asList(new FluentWebElement(element1, jsDriver),
+                new FluentWebElement(element2, jsDriver), new FluentWebElement(element3, jsDriver)));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(1L, -1L, 0L));
+
+        new FillSelect(list).fast().withIndex(1);
+
+        verify((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(Arrays.asList(element1, element2, element3)),
+                eq("index"), eq("1"), eq(false));
+        verify(element1, never()).getTagName();
+        verify(element1, never()).findElements(any(By.class));
+        Assertions.assertThat(list).hasSize(2);
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(0L, 2L));
+
+        Assertions.assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                new FillSelect(list).fast().withValue("1");
+            }
+        }).isExactlyInstanceOf(NoSuchElementException.class).hasMessageContaining("Cannot locate option with value: 1");
+        verify(element1, never()).findElements(any(By.class));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(0L, 0L));
+
+        Assertions.assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                new FillSelect(list).fast().withIndex(5);
+            }
+        }).isExactlyInstanceOf(NoSuchElementException.class).hasMessageContaining("No select element found with option index=5");
+    }
+
+    @Test
+    public void testFastFillFallsBackToSelect() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        FillSelect fillConstructor = new FillSelect(new FluentWebElement(element1, jsDriver));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg()))
+                .thenThrow(new UnsupportedOperationException());
+        WebElement option1 = mock(WebElement.class);
+        when(element1.findElements(any(By.class))).thenReturn(Arrays.asList(option1));
+
+        fillConstructor.fast().withValue("1");
+
+        verify(option1).click();
+    }
 }
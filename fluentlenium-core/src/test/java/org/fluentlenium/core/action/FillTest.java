@@ -10,6 +10,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -17,10 +19,14 @@ import java.util.Arrays;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class FillTest {
     @Mock
@@ -87,4 +93,65 @@ public class FillTest {
 
         verify(element1).sendKeys("1");
     }
+
+    @Test
+    public void testFastFillList() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        FluentListImpl<FluentWebElement> list = new FluentListImpl<>(Arrays.asList(new FluentWebElement(element1, jsDriver),
+                new FluentWebElement(element2, jsDriver), new FluentWebElement(element3, jsDriver)));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(true, null, "3"));
+        when(element1.isDisplayed()).thenReturn(true);
+        when(element3.isDisplayed()).thenReturn(true);
+
+        new Fill(list).fast().keystrokes(".typed").with("1", "2", "3");
+
+        verify((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(Arrays.asList(element1, element2, element3)),
+                eq(Arrays.asList("1", "2", "3")), eq(".typed"), eq(Arrays.asList(true, false, true)));
+        verify(element1, never()).sendKeys(anyString());
+        verify(element2, never()).sendKeys(anyString());
+        verify(element3).clear();
+        verify(element3).sendKeys("3");
+    }
+
+    @Test
+    public void testFastFillSingleValueLetsBrowserDecideVisibility() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        FluentListImpl<FluentWebElement> list = new FluentListImpl<>(Arrays.asList(new FluentWebElement(element1, jsDriver),
+                new FluentWebElement(element2, jsDriver)));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(true, true));
+
+        new Fill(list).fast().with("1");
+
+        verify(element1, never()).isDisplayed();
+        verify(element2, never()).isDisplayed();
+        verify(element1, never()).sendKeys(anyString());
+        verify(element2, never()).sendKeys(anyString());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFastFillNoElementFilled() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        FluentListImpl<FluentWebElement> list = new FluentListImpl<>(Arrays.asList(new FluentWebElement(element1, jsDriver)));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList((Object) null));
+
+        new Fill(list).fast().with("1");
+    }
+
+    @Test
+    public void testFastFillFallsBackToKeystrokes() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        FluentListImpl<FluentWebElement> list = new FluentListImpl<>(Arrays.asList(new FluentWebElement(element1, jsDriver)));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg()))
+                .thenThrow(new UnsupportedOperationException());
+        when(element1.isDisplayed()).thenReturn(true);
+        when(element1.isEnabled()).thenReturn(true);
+
+        new Fill(list).fast().with("1");
+
+        verify(element1).sendKeys("1");
+    }
 }
@@ -5,8 +5,16 @@ import org.fluentlenium.core.domain.FluentWebElement;
 import org.junit.Before;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
 public class AbstractFluentListConditionsTest {
     @Mock
     protected WebElement webElement1;
@@ -26,6 +34,8 @@ public class AbstractFluentListConditionsTest {
 
     protected FluentWebElement fluentWebElement3;
 
+    protected WebDriver javascriptDriver;
+
     @Before
     public void before() {
         MockitoAnnotations.initMocks(this);
@@ -33,5 +43,17 @@ public class AbstractFluentListConditionsTest {
         fluentWebElement1 = new FluentWebElement(webElement1);
         fluentWebElement2 = new FluentWebElement(webElement2);
         fluentWebElement3 = new FluentWebElement(webElement3);
+
+        javascriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    }
+
+    /**
+     * Get elements bound to a javascript enabled driver, so that conditions are evaluated by a script.
+     *
+     * @return elements
+     */
+    protected List<FluentWebElement> javascriptElements() {
+        return Arrays.asList(new FluentWebElement(webElement1, javascriptDriver),
+                new FluentWebElement(webElement2, javascriptDriver), new FluentWebElement(webElement3, javascriptDriver));
     }
 }
@@ -5,12 +5,17 @@ import org.fluentlenium.core.domain.FluentWebElement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
 
 import java.util.Arrays;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
 
@@ -166,4 +171,29 @@ public class AtLeastOneElementConditionsTest extends AbstractFluentListCondition
 
         assertThat(conditions.isEnabled()).isFalse();
     }
+
+    @Test
+    public void attribute_conditions_are_evaluated_by_a_single_script() {
+        when(((JavascriptExecutor) javascriptDriver).executeScript(anyString(), anyVararg()))
+                .thenReturn(Arrays.asList(false, false, false));
+        AtLeastOneElementConditions conditions = new AtLeastOneElementConditions(javascriptElements());
+
+        assertThat(conditions.hasAttribute("class", "value")).isFalse();
+
+        verify(webElement1, never()).getAttribute("class");
+        verify(webElement2, never()).getAttribute("class");
+        verify(webElement3, never()).getAttribute("class");
+    }
+
+    @Test
+    public void approximated_conditions_are_evaluated_by_driver_only() {
+        when(webElement2.isEnabled()).thenReturn(true);
+        AtLeastOneElementConditions conditions = new AtLeastOneElementConditions(javascriptElements());
+
+        assertThat(conditions.isEnabled()).isTrue();
+
+        verify((JavascriptExecutor) javascriptDriver, never()).executeScript(anyString(), anyVararg());
+        verify(webElement1).isEnabled();
+        verify(webElement3, never()).isEnabled();
+    }
 }
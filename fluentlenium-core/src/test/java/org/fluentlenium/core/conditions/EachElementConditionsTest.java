@@ -5,13 +5,19 @@ import org.fluentlenium.core.domain.FluentWebElement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
 
 import java.util.Arrays;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 public class EachElementConditionsTest extends AbstractFluentListConditionsTest {
@@ -202,4 +208,31 @@ public class EachElementConditionsTest extends AbstractFluentListConditionsTest
 
         assertThat(conditions.isEnabled()).isFalse();
     }
+
+    @Test
+    public void attribute_condition_is_evaluated_by_a_single_script() {
+        when(((JavascriptExecutor) javascriptDriver).executeScript(anyString(), anyVararg()))
+                .thenReturn(Arrays.asList(true, false, null));
+        EachElementConditions conditions = new EachElementConditions(javascriptElements());
+
+        assertThat(conditions.hasId("value")).isFalse();
+
+        verify((JavascriptExecutor) javascriptDriver, times(1)).executeScript(anyString(), anyVararg());
+        verify(webElement1, never()).getAttribute("id");
+        verify(webElement2, never()).getAttribute("id");
+    }
+
+    @Test
+    public void approximated_conditions_are_evaluated_by_driver_only() {
+        when(webElement1.isDisplayed()).thenReturn(true);
+        when(webElement2.isDisplayed()).thenReturn(false);
+        EachElementConditions conditions = new EachElementConditions(javascriptElements());
+
+        assertThat(conditions.isDisplayed()).isFalse();
+
+        verify((JavascriptExecutor) javascriptDriver, never()).executeScript(anyString(), anyVararg());
+        verify(webElement1).isDisplayed();
+        verify(webElement2).isDisplayed();
+        verify(webElement3, never()).isDisplayed();
+    }
 }
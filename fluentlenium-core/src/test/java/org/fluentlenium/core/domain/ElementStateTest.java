@@ -0,0 +1,164 @@
+package org.fluentlenium.core.domain;
+
+import com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.core.conditions.ElementStateConditions;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class ElementStateTest {
+    @Mock
+    private WebElement webElement1;
+
+    @Mock
+    private WebElement webElement2;
+
+    private WebDriver jsDriver;
+
+    private FluentList<FluentWebElement> list;
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+        jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        list = new FluentListImpl<>(new FluentWebElement(webElement1, jsDriver), new FluentWebElement(webElement2, jsDriver));
+    }
+
+    private static Map<String, Object> scriptState(String text, boolean displayed, Map<String, Object> attributes) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("tagName", "input");
+        state.put("text", text);
+        state.put("displayed", displayed);
+        state.put("enabled", true);
+        state.put("selected", false);
+        state.put("x", 10L);
+        state.put("y", 20L);
+        state.put("width", 30.0);
+        state.put("height", 40L);
+        state.put("attributes", attributes);
+        return state;
+    }
+
+    @Test
+    public void testSnapshotWithJavascriptExecutor() {
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(
+                Arrays.asList(scriptState("a", true, ImmutableMap.<String, Object>of("id", "first", "class", "big red")),
+                        scriptState("b", false, ImmutableMap.<String, Object>of("data-x", 1L))));
+
+        List<ElementState> states = list.snapshot("data-x");
+
+        verify((JavascriptExecutor) jsDriver, times(1)).executeScript(anyString(), anyVararg());
+        verify(webElement1, never()).getText();
+        verify(webElement1, never()).isDisplayed();
+
+        assertThat(states).hasSize(2);
+        ElementState first = states.get(0);
+        assertThat(first.getElement()).isSameAs(list.get(0));
+        assertThat(first.getTagName()).isEqualTo("input");
+        assertThat(first.getText()).isEqualTo("a");
+        assertThat(first.getId()).isEqualTo("first");
+        assertThat(first.getAttribute("class")).isEqualTo("big red");
+        assertThat(first.getName()).isNull();
+        assertThat(first.isDisplayed()).isTrue();
+        assertThat(first.isClickable()).isTrue();
+        assertThat(first.getRect()).isEqualTo(new Rectangle(10, 20, 40, 30));
+
+        ElementState second = states.get(1);
+        assertThat(second.getAttribute("data-x")).isEqualTo("1");
+        assertThat(second.isClickable()).isFalse();
+    }
+
+    @Test
+    public void testSnapshotWithoutJavascriptExecutor() {
+        when(webElement1.getTagName()).thenReturn("a");
+        when(webElement1.getText()).thenReturn("link");
+        when(webElement1.getAttribute("href")).thenReturn("http://localhost/");
+        when(webElement1.isDisplayed()).thenReturn(true);
+        when(webElement1.isEnabled()).thenReturn(true);
+        when(webElement1.getRect()).thenReturn(new Rectangle(1, 2, 3, 4));
+
+        ElementState state = new FluentWebElement(webElement1).snapshot();
+
+        assertThat(state.getTagName()).isEqualTo("a");
+        assertThat(state.getText()).isEqualTo("link");
+        assertThat(state.getAttribute("href")).isEqualTo("http://localhost/");
+        assertThat(state.isClickable()).isTrue();
+        assertThat(state.isSelected()).isFalse();
+        assertThat(state.getRect()).isEqualTo(new Rectangle(1, 2, 3, 4));
+    }
+
+    @Test
+    public void testSnapshotFallsBackWhenScriptFails() {
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg()))
+                .thenThrow(new UnsupportedOperationException());
+        when(webElement1.getText()).thenReturn("a");
+        when(webElement2.getText()).thenReturn("b");
+        when(webElement1.getRect()).thenReturn(new Rectangle(0, 0, 0, 0));
+        when(webElement2.getRect()).thenReturn(new Rectangle(0, 0, 0, 0));
+
+        List<ElementState> states = list.snapshot();
+
+        assertThat(states.get(0).getText()).isEqualTo("a");
+        assertThat(states.get(1).getText()).isEqualTo("b");
+    }
+
+    @Test
+    public void testConditionsDontCallDriver() {
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(
+                Arrays.asList(scriptState("some text", true, ImmutableMap.<String, Object>of("name", "field"))));
+
+        ElementState state = list.get(0).snapshot();
+        ElementStateConditions conditions = state.conditions();
+
+        assertThat(conditions.hasText("some text")).isTrue();
+        assertThat(conditions.containsText("text")).isTrue();
+        assertThat(conditions.hasName("field")).isTrue();
+        assertThat(conditions.hasAttribute("name", "field")).isTrue();
+        assertThat(conditions.isDisplayed()).isTrue();
+        assertThat(conditions.isSelected()).isFalse();
+        assertThat(conditions.not().isSelected()).isTrue();
+        assertThat(conditions.not().isStale()).isTrue();
+        assertThat(conditions.hasRectangle().withX(10)).isTrue();
+        assertThat(conditions.not().hasRectangle().withWidth(30)).isFalse();
+
+        verify((JavascriptExecutor) jsDriver, times(1)).executeScript(anyString(), anyVararg());
+        verify(webElement1, never()).getText();
+        verify(webElement1, never()).getAttribute(anyString());
+        verify(webElement1, never()).getRect();
+    }
+
+    @Test
+    public void testAttributeNotCaptured() {
+        final ElementState state = new ElementState(list.get(0), "div", "", ImmutableMap.<String, String>of(), true, true,
+                false, new Rectangle(0, 0, 0, 0));
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                state.getAttribute("data-x");
+            }
+        }).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("data-x");
+    }
+}
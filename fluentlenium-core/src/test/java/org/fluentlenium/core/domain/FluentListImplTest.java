@@ -8,17 +8,25 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class FluentListImplTest {
     @Mock
@@ -287,6 +295,118 @@ public class FluentListImplTest {
         reset(element1, element2, element3);
     }
 
+    @Test
+    public void testPropertiesWithJavascriptExecutor() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+
+        FluentList<FluentWebElement> jsList = new FluentListImpl<>(new FluentWebElement(webElement1, jsDriver),
+                new FluentWebElement(webElement2, jsDriver));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg()))
+                .thenReturn(Arrays.asList("1", null));
+
+        assertThat(jsList.getIds()).containsExactly("1", null);
+        assertThat(jsList.getTexts()).containsExactly("1", null);
+
+        verify((JavascriptExecutor) jsDriver, times(2)).executeScript(anyString(), anyVararg());
+        verify(webElement1, never()).getAttribute(anyString());
+        verify(webElement1, never()).getText();
+    }
+
+    @Test
+    public void testPropertiesFallbackWhenJavascriptFails() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+
+        FluentList<FluentWebElement> jsList = new FluentListImpl<>(new FluentWebElement(webElement1, jsDriver),
+                new FluentWebElement(webElement2, jsDriver));
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg()))
+                .thenThrow(new UnsupportedOperationException());
+        when(webElement1.getAttribute("value")).thenReturn("1");
+        when(webElement2.getAttribute("value")).thenReturn("2");
+
+        assertThat(jsList.getValues()).containsExactly("1", "2");
+    }
+
+    @Test
+    public void testPipelinedActions() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebDriver otherJsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        WebElement webElement3 = mock(WebElement.class);
+
+        FluentList<FluentWebElement> jsList = new FluentListImpl<>(new FluentWebElement(webElement1, jsDriver),
+                new FluentWebElement(webElement2, otherJsDriver), new FluentWebElement(webElement3, jsDriver)).pipelined();
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(2L, 1L));
+        when(((JavascriptExecutor) otherJsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(2L));
+
+        jsList.click();
+
+        verify((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(Arrays.asList(webElement1, webElement3)), eq(false));
+        verify((JavascriptExecutor) otherJsDriver).executeScript(anyString(), eq(Arrays.asList(webElement2)), eq(false));
+        verify(webElement1).click();
+        verify(webElement2).click();
+        verify(webElement3, never()).click();
+        verify(webElement1, never()).isEnabled();
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(0L, 2L));
+        when(((JavascriptExecutor) otherJsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(1L));
+
+        jsList.text("a");
+
+        verify((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(Arrays.asList(webElement1, webElement3)), eq(true));
+        verify(webElement1, never()).sendKeys(anyString());
+        verify(webElement2, never()).sendKeys(anyString());
+        verify(webElement3).sendKeys("a");
+        verify(webElement1, never()).isDisplayed();
+    }
+
+    @Test
+    public void testPipelinedTextWithSeveralValuesChecksDisplayedWithWebDriver() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        WebElement webElement3 = mock(WebElement.class);
+
+        FluentList<FluentWebElement> jsList = new FluentListImpl<>(new FluentWebElement(webElement1, jsDriver),
+                new FluentWebElement(webElement2, jsDriver), new FluentWebElement(webElement3, jsDriver)).pipelined();
+
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(2L, 1L, 2L));
+        when(webElement1.isDisplayed()).thenReturn(false);
+        when(webElement2.isDisplayed()).thenReturn(true);
+        when(webElement3.isDisplayed()).thenReturn(true);
+
+        jsList.text("a", "b", "c");
+
+        verify((JavascriptExecutor) jsDriver).executeScript(anyString(), eq(Arrays.asList(webElement1, webElement2, webElement3)), eq(false));
+        verify(webElement1, never()).sendKeys(anyString());
+        verify(webElement2, never()).sendKeys(anyString());
+        verify(webElement3).sendKeys("b");
+        verify(webElement2, never()).isEnabled();
+    }
+
+    @Test
+    public void testPipelinedActionsFallbackWhenJavascriptFails() {
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+
+        FluentList<FluentWebElement> pipelinedList = new FluentListImpl<>(new FluentWebElement(webElement1, driver),
+                new FluentWebElement(webElement2, driver)).pipelined();
+
+        when(webElement1.isEnabled()).thenReturn(true);
+
+        pipelinedList.submit();
+
+        verify(webElement1).submit();
+        verify(webElement2, never()).submit();
+    }
+
     @Test
     public void testFind() {
         FluentWebElement ret1 = mock(FluentWebElement.class);
@@ -2,6 +2,7 @@ package org.fluentlenium.core.domain;
 
 import org.assertj.core.api.ThrowableAssert;
 import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.axes.Axes;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -19,7 +20,13 @@ import org.openqa.selenium.interactions.Mouse;
 import org.openqa.selenium.interactions.internal.Coordinates;
 import org.openqa.selenium.internal.Locatable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -78,6 +85,36 @@ public class FluentWebElementTest {
         assertThat(fluentElement.conditions().isEnabled()).isTrue();
     }
 
+    @Test
+    public void testComponentsAreCreatedOnce() {
+        assertThat(fluentElement.axes()).isSameAs(fluentElement.axes());
+        assertThat(fluentElement.conditions()).isSameAs(fluentElement.conditions());
+        assertThat(fluentElement.mouse()).isSameAs(fluentElement.mouse());
+        assertThat(fluentElement.keyboard()).isSameAs(fluentElement.keyboard());
+    }
+
+    @Test
+    public void testComponentsAreCreatedOnceFromConcurrentThreads() throws Exception {
+        final FluentWebElement lazyElement = new FluentWebElement(element, driver);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Axes>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(new Callable<Axes>() {
+                    @Override
+                    public Axes call() {
+                        return lazyElement.axes();
+                    }
+                }));
+            }
+            for (Future<Axes> future : futures) {
+                assertThat(future.get()).isSameAs(lazyElement.axes());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testMouse() {
         assertThat(fluentElement.mouse().click());
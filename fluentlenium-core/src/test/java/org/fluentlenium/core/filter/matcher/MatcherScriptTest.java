@@ -0,0 +1,82 @@
+package org.fluentlenium.core.filter.matcher;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MatcherScriptTest {
+
+    @Test
+    public void checkStringMatcher() {
+        assertThat(MatcherScript.toArguments(new StartsWithMatcher("toto"))).containsExactly("START_WITH", "toto");
+    }
+
+    @Test
+    public void checkNegatedStringMatcher() {
+        assertThat(MatcherScript.toArguments(new NotEndsWithMatcher("toto"))).containsExactly("NOT_END_WITH", "toto");
+    }
+
+    @Test
+    public void checkPatternMatcher() {
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("t(?:o)*", Pattern.CASE_INSENSITIVE))))
+                .containsExactly("CONTAINS", "t(?:o)*", "i");
+    }
+
+    @Test
+    public void checkTranslatedPattern() {
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("a.c"))))
+                .containsExactly("CONTAINS", "a[^\\n\\r\\u0085\\u2028\\u2029]c", "");
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("^\\s+x\\S"))))
+                .containsExactly("CONTAINS", "^[ \\t\\n\\x0B\\f\\r]+x[^ \\t\\n\\x0B\\f\\r]", "");
+        assertThat(MatcherScript.toArguments(new StartsWithMatcher(Pattern.compile("[\\w.-]+@[a-z]{2,}?"))))
+                .containsExactly("START_WITH", "[\\w.-]+@[a-z]{2,}?", "");
+    }
+
+    @Test
+    public void checkUnsupportedPatternFlag() {
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("toto", Pattern.DOTALL)))).isNull();
+        assertThat(MatcherScript.toArguments(new EqualMatcher(Pattern.compile("toto", Pattern.MULTILINE)))).isNull();
+        assertThat(MatcherScript.toArguments(new EqualMatcher(Pattern.compile("toto",
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)))).isNull();
+    }
+
+    @Test
+    public void checkCaseInsensitivePatternMustBeAscii() {
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("caf\u00e9")))).isNotNull();
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("caf\u00e9", Pattern.CASE_INSENSITIVE))))
+                .isNull();
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("caf\\u00e9", Pattern.CASE_INSENSITIVE))))
+                .isNull();
+    }
+
+    @Test
+    public void checkUnsupportedPatternSyntax() {
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("(?<=t)oto")))).isNull();
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("(?i)toto")))).isNull();
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("\\Atoto")))).isNull();
+        assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile("to++")))).isNull();
+        assertThat(MatcherScript.toArguments(new EndsWithMatcher(Pattern.compile("toto$")))).isNull();
+    }
+
+    @Test
+    public void checkPatternSyntaxNotWhitelisted() {
+        String[] regexes = {"[a-z[0-9]]", "[a-z&&[^e]]", "[]a]", "\\v", "\\a", "\\e", "\\x{41}", "\\0101", "\\cA",
+            "(a)\\1", "\\bto", "\\Qto\\E", "to\\Z", "(?<name>to)", "\\p{L}", "\\uD83D\\uDE00"};
+        for (String regex : regexes) {
+            assertThat(MatcherScript.toArguments(new ContainsMatcher(Pattern.compile(regex)))).as(regex).isNull();
+        }
+    }
+
+    @Test
+    public void checkCustomMatcher() {
+        Matcher matcher = new EqualMatcher("toto") {
+            @Override
+            public boolean isSatisfiedBy(String o) {
+                return true;
+            }
+        };
+        assertThat(MatcherScript.toArguments(matcher)).isNull();
+    }
+}
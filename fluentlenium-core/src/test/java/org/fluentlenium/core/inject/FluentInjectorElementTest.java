@@ -14,8 +14,10 @@ import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class FluentInjectorElementTest {
@@ -110,6 +112,18 @@ public class FluentInjectorElementTest {
         List<WebElementDriverWrapper> element;
     }
 
+    public static class SeleniumWebElementContainer {
+        @FindBy(css = "h1")
+        WebElement element;
+
+        @FindBy(css = "h2")
+        List<WebElement> elements;
+    }
+
+    public static class CachedPlanContainer {
+        FluentWebElement element;
+    }
+
     @Test
     public void testFluentWebElement() {
         FluentWebElementContainer container = new FluentWebElementContainer();
@@ -328,6 +342,43 @@ public class FluentInjectorElementTest {
         Assertions.assertThat(container.element.get(1).getWebDriver()).isSameAs(webDriver);
     }
 
+    @Test
+    public void testSeleniumWebElement() {
+        SeleniumWebElementContainer container = new SeleniumWebElementContainer();
+
+        injector.inject(container);
+
+        WebElement webElement = mock(WebElement.class);
+        when(webElement.getTagName()).thenReturn("h1");
+        WebElement webElement2 = mock(WebElement.class);
+        when(webElement2.getTagName()).thenReturn("h2");
+
+        when(webDriver.findElement(By.cssSelector("h1"))).thenReturn(webElement);
+        when(webDriver.findElements(By.cssSelector("h2"))).thenReturn(Arrays.asList(webElement2));
+
+        Assertions.assertThat(container.element.getTagName()).isEqualTo("h1");
+        Assertions.assertThat(container.elements).hasSize(1);
+        Assertions.assertThat(container.elements.get(0).getTagName()).isEqualTo("h2");
+    }
+
+    @Test
+    public void testInjectionPlanIsCached() {
+        long missCount = FluentInjector.getInjectionPlanStats().missCount();
+        long hitCount = FluentInjector.getInjectionPlanStats().hitCount();
+
+        CachedPlanContainer container1 = new CachedPlanContainer();
+        CachedPlanContainer container2 = new CachedPlanContainer();
+        injector.inject(container1);
+        injector.inject(container2);
+
+        Assertions.assertThat(FluentInjector.getInjectionPlanStats().missCount()).isEqualTo(missCount + 1);
+        Assertions.assertThat(FluentInjector.getInjectionPlanStats().hitCount()).isEqualTo(hitCount + 1);
+
+        Assertions.assertThat(container1.element).isNotNull();
+        Assertions.assertThat(container2.element).isNotNull();
+        Assertions.assertThat(container2.element).isNotSameAs(container1.element);
+    }
+
     @Test
     public void testDeprecatedMethod() {
         FluentInjector injectorSpy = spy(injector);
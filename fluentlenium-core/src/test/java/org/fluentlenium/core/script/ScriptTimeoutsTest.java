@@ -0,0 +1,80 @@
+package org.fluentlenium.core.script;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScriptTimeoutsTest {
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS, extraInterfaces = JavascriptExecutor.class)
+    private WebDriver driver;
+
+    @Test
+    public void script_timeout_is_restored_after_script() {
+        ScriptTimeouts.INSTANCE.register(driver, 200);
+        when(((JavascriptExecutor) driver).executeAsyncScript("script", "arg")).thenReturn(true);
+
+        Object result = ScriptTimeouts.INSTANCE.executeAsyncScript(driver, 5000, "script", "arg");
+
+        assertThat(result).isEqualTo(true);
+        InOrder inOrder = inOrder(driver.manage().timeouts());
+        inOrder.verify(driver.manage().timeouts()).setScriptTimeout(5000 + ScriptTimeouts.MARGIN_MILLIS, TimeUnit.MILLISECONDS);
+        inOrder.verify(driver.manage().timeouts()).setScriptTimeout(200, TimeUnit.MILLISECONDS);
+        assertThat(ScriptTimeouts.INSTANCE.get(driver)).isEqualTo(200);
+    }
+
+    @Test
+    public void script_timeout_is_restored_when_script_fails() {
+        ScriptTimeouts.INSTANCE.register(driver, 200);
+        when(((JavascriptExecutor) driver).executeAsyncScript("script")).thenThrow(new WebDriverException("failed"));
+
+        try {
+            ScriptTimeouts.INSTANCE.executeAsyncScript(driver, 5000, "script");
+            fail("Script should have failed");
+        } catch (WebDriverException e) {
+            assertThat(e.getMessage()).startsWith("failed");
+        }
+
+        InOrder inOrder = inOrder(driver.manage().timeouts());
+        inOrder.verify(driver.manage().timeouts()).setScriptTimeout(5000 + ScriptTimeouts.MARGIN_MILLIS, TimeUnit.MILLISECONDS);
+        inOrder.verify(driver.manage().timeouts()).setScriptTimeout(200, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void script_timeout_of_unregistered_driver_is_not_restored() {
+        ScriptTimeouts.INSTANCE.executeAsyncScript(driver, 5000, "script");
+
+        verify(driver.manage().timeouts()).setScriptTimeout(5000 + ScriptTimeouts.MARGIN_MILLIS, TimeUnit.MILLISECONDS);
+        verify(driver.manage().timeouts(), never()).setScriptTimeout(0, TimeUnit.MILLISECONDS);
+
+        ScriptTimeouts.INSTANCE.executeAsyncScript(driver, 2000, "script");
+
+        verify(driver.manage().timeouts()).setScriptTimeout(anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void longer_script_timeout_is_kept() {
+        ScriptTimeouts.INSTANCE.register(driver, 30000);
+
+        ScriptTimeouts.INSTANCE.executeAsyncScript(driver, 5000, "script");
+
+        verify(driver.manage().timeouts(), never()).setScriptTimeout(anyLong(), any(TimeUnit.class));
+    }
+}
@@ -0,0 +1,78 @@
+package org.fluentlenium.core.search;
+
+import com.google.common.base.Supplier;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ImplicitWaitsTest {
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private WebDriver driver;
+
+    @Test
+    public void lookup_is_performed_without_implicit_wait() {
+        ImplicitWaits.INSTANCE.register(driver, 5000);
+
+        String result = ImplicitWaits.INSTANCE.withoutImplicitWait(driver, new Supplier<String>() {
+            @Override
+            public String get() {
+                return "found";
+            }
+        });
+
+        assertThat(result).isEqualTo("found");
+        InOrder inOrder = inOrder(driver.manage().timeouts());
+        inOrder.verify(driver.manage().timeouts()).implicitlyWait(0, TimeUnit.MILLISECONDS);
+        inOrder.verify(driver.manage().timeouts()).implicitlyWait(5000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void nested_lookups_restore_implicit_wait_once() {
+        ImplicitWaits.INSTANCE.register(driver, 5000);
+
+        ImplicitWaits.INSTANCE.withoutImplicitWait(driver, new Supplier<Object>() {
+            @Override
+            public Object get() {
+                return ImplicitWaits.INSTANCE.withoutImplicitWait(driver, new Supplier<Object>() {
+                    @Override
+                    public Object get() {
+                        ImplicitWaits.INSTANCE.apply(driver, 1000);
+                        return null;
+                    }
+                });
+            }
+        });
+
+        verify(driver.manage().timeouts()).implicitlyWait(0, TimeUnit.MILLISECONDS);
+        verify(driver.manage().timeouts(), never()).implicitlyWait(5000, TimeUnit.MILLISECONDS);
+        verify(driver.manage().timeouts()).implicitlyWait(1000, TimeUnit.MILLISECONDS);
+        assertThat(ImplicitWaits.INSTANCE.get(driver)).isEqualTo(5000);
+        assertThat(ImplicitWaits.INSTANCE.getApplied(driver)).isEqualTo(1000);
+    }
+
+    @Test
+    public void driver_is_not_called_without_implicit_wait() {
+        ImplicitWaits.INSTANCE.withoutImplicitWait(driver, new Supplier<Object>() {
+            @Override
+            public Object get() {
+                return null;
+            }
+        });
+
+        verify(driver.manage().timeouts(), never()).implicitlyWait(anyLong(), any(TimeUnit.class));
+    }
+}
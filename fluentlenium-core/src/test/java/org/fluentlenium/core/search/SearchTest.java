@@ -4,6 +4,9 @@ import com.google.common.collect.Lists;
 import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentWebElement;
 import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.FilterConstructor;
+import org.fluentlenium.core.filter.FilterType;
+import org.fluentlenium.core.filter.matcher.EqualMatcher;
 import org.fluentlenium.core.filter.matcher.Matcher;
 import org.junit.After;
 import org.junit.Before;
@@ -12,19 +15,27 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class SearchTest {
     @Mock
@@ -136,6 +147,67 @@ public class SearchTest {
         verify(matcher1).isSatisfiedBy("Ok");
     }
 
+    @Test
+    public void findPostSelectorFilterEvaluatesEachElementOnce() {
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(Arrays.asList(webElement1, webElement2));
+        when(webElement1.getText()).thenReturn("Ok");
+        when(webElement2.getText()).thenReturn("Ko");
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle", FilterConstructor.withText().notContains("Ok"),
+                FilterConstructor.withText().notContains("Nok"));
+
+        assertThat(fluentList).hasSize(1);
+        assertThat(fluentList.size()).isEqualTo(1);
+        assertThat(fluentList.get(0)).isSameAs(fluentList.get(0));
+        for (FluentWebElement element : fluentList) {
+            assertThat(element.getElement()).isSameAs(webElement2);
+        }
+
+        verify(webElement1, times(1)).getText();
+        verify(webElement2, times(2)).getText();
+    }
+
+    @Test
+    public void findPostSelectorFilterWithJavascript() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        search = new Search(jsDriver, searchContext);
+
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(Arrays.asList(webElement1, webElement2));
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(false, true));
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle", FilterConstructor.withText().notContains("Ok"));
+
+        assertThat(fluentList).hasSize(1);
+        assertThat(fluentList.get(0).getElement()).isSameAs(webElement2);
+        verify((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg());
+        verify(webElement1, never()).getText();
+        verify(webElement2, never()).getText();
+    }
+
+    @Test
+    public void findPostSelectorFilterWithMultilinePatternInJava() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        search = new Search(jsDriver, searchContext);
+
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(Arrays.asList(webElement1, webElement2));
+        when(webElement1.getText()).thenReturn("x\nabc");
+        when(webElement2.getText()).thenReturn("abc");
+        when(((JavascriptExecutor) jsDriver).executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(true, true));
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle",
+                new Filter(FilterType.TEXT, new EqualMatcher(Pattern.compile("abc", Pattern.MULTILINE))));
+
+        assertThat(fluentList).hasSize(1);
+        assertThat(fluentList.get(0).getElement()).isSameAs(webElement2);
+        verify((JavascriptExecutor) jsDriver, never()).executeScript(anyString(), anyVararg());
+    }
+
     @Test
     public void findByPosition() {
         String name = "cssStyle";
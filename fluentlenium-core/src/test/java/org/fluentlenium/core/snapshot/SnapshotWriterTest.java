@@ -0,0 +1,68 @@
+package org.fluentlenium.core.snapshot;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SnapshotWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void write_bytes_and_text_in_background() throws Exception {
+        File screenshot = new File(folder.getRoot(), "sub/screenshot.png");
+        File dump = new File(folder.getRoot(), "dump.html");
+
+        Future<File> screenshotFuture = SnapshotWriter.INSTANCE.write(screenshot, new byte[] {1, 2, 3});
+        Future<File> dumpFuture = SnapshotWriter.INSTANCE.write(dump, "<html>é</html>");
+
+        assertThat(screenshotFuture.get()).isEqualTo(screenshot);
+        assertThat(dumpFuture.get()).isEqualTo(dump);
+        assertThat(FileUtils.readFileToByteArray(screenshot)).isEqualTo(new byte[] {1, 2, 3});
+        assertThat(FileUtils.readFileToString(dump, "UTF-8")).isEqualTo("<html>é</html>");
+    }
+
+    @Test
+    public void write_error_report() throws Exception {
+        File dump = new File(folder.getRoot(), "dump.html");
+
+        SnapshotWriter.INSTANCE.write(dump, "Can't dump HTML", new IllegalStateException("No html")).get();
+
+        assertThat(FileUtils.readFileToString(dump, "UTF-8")).startsWith("Can't dump HTML")
+                .contains("java.lang.IllegalStateException: No html");
+    }
+
+    @Test
+    public void flush_waits_for_pending_snapshots() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            File file = new File(folder.getRoot(), i + ".png");
+            SnapshotWriter.INSTANCE.write(file, new byte[1024]);
+            files.add(file);
+        }
+
+        assertThat(SnapshotWriter.INSTANCE.flush()).isTrue();
+        assertThat(SnapshotWriter.INSTANCE.getPendingCount()).isEqualTo(0);
+        for (File file : files) {
+            assertThat(file).exists();
+        }
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void write_failure_is_reported_by_future() throws Exception {
+        File directory = folder.newFolder("directory");
+
+        SnapshotWriter.INSTANCE.write(directory, new byte[] {1}).get();
+    }
+}
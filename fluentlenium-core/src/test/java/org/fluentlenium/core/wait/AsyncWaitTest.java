@@ -0,0 +1,270 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Function;
+import com.google.common.base.Predicate;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.domain.FluentListImpl;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.search.Search;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncWaitTest {
+    @Mock
+    private FluentDriver fluent;
+
+    @Mock
+    private Search search;
+
+    @Mock
+    private FluentWebElement element;
+
+    @Mock(extraInterfaces = JavascriptExecutor.class)
+    private WebDriver driver;
+
+    private FluentWait wait;
+
+    @Before
+    public void before() {
+        wait = new FluentWait(fluent, search).atMost(2, TimeUnit.SECONDS).pollingEvery(10, TimeUnit.MILLISECONDS);
+    }
+
+    private Predicate<FluentDriver> verifiedAfter(final int polls) {
+        final AtomicInteger count = new AtomicInteger();
+        return new Predicate<FluentDriver>() {
+            @Override
+            public boolean apply(FluentDriver input) {
+                return count.incrementAndGet() >= polls;
+            }
+        };
+    }
+
+    @Test
+    public void predicate_is_polled_until_verified() throws Exception {
+        ListenableFuture<Boolean> future = wait.untilPredicateAsync(verifiedAfter(3));
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void function_result_completes_the_future() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        ListenableFuture<String> future = wait.untilAsync(new Function<FluentDriver, String>() {
+            @Override
+            public String apply(FluentDriver input) {
+                if (count.incrementAndGet() == 1) {
+                    throw new StaleElementReferenceException("stale");
+                }
+                return count.get() < 3 ? null : "done";
+            }
+        });
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    public void timeout_completes_the_future_with_message() throws Exception {
+        wait.atMost(50, TimeUnit.MILLISECONDS).withMessage("never verified");
+        ListenableFuture<Boolean> future = wait.untilPredicateAsync(verifiedAfter(Integer.MAX_VALUE));
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Wait should time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isExactlyInstanceOf(TimeoutException.class).hasMessageContaining("never verified");
+        }
+    }
+
+    @Test
+    public void polling_delay_is_capped_at_timeout() throws Exception {
+        wait.atMost(100, TimeUnit.MILLISECONDS).pollingWith(new PollingSchedule() {
+            @Override
+            public long getDelayMillis(int poll) {
+                return 60000;
+            }
+        });
+        ListenableFuture<Boolean> future = wait.untilPredicateAsync(verifiedAfter(Integer.MAX_VALUE));
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Wait should time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isExactlyInstanceOf(TimeoutException.class);
+        }
+    }
+
+    @Test
+    public void exception_not_ignored_completes_the_future() throws Exception {
+        ListenableFuture<Boolean> future = wait.untilPredicateAsync(new Predicate<FluentDriver>() {
+            @Override
+            public boolean apply(FluentDriver input) {
+                throw new NoSuchElementException("missing");
+            }
+        });
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Wait should fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isExactlyInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    public void matchers_are_started_asynchronously() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        when(search.find(any(By.class))).thenAnswer(new org.mockito.stubbing.Answer<FluentListImpl<FluentWebElement>>() {
+            @Override
+            public FluentListImpl<FluentWebElement> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                List<FluentWebElement> found = count.incrementAndGet() < 3
+                        ? Collections.<FluentWebElement>emptyList() : Arrays.asList(element);
+                return new FluentListImpl<>(found);
+            }
+        });
+
+        ListenableFuture<Boolean> future = wait.untilMatchersAsync(new AsyncMatchers() {
+            @Override
+            public void start(FluentWait wait) {
+                wait.until(By.xpath("//div")).isPresent();
+            }
+        });
+
+        assertThat(wait.isAsync()).isFalse();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(count.get()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    public void matchers_future_fails_when_any_matcher_fails() throws Exception {
+        when(search.find(any(By.class))).thenReturn(new FluentListImpl<>(Arrays.asList(element)),
+                new FluentListImpl<FluentWebElement>());
+        wait.atMost(50, TimeUnit.MILLISECONDS);
+
+        ListenableFuture<Boolean> future = wait.untilMatchersAsync(new AsyncMatchers() {
+            @Override
+            public void start(FluentWait wait) {
+                wait.until(By.xpath("//div")).isPresent();
+                wait.until(By.xpath("//span")).isPresent();
+            }
+        });
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Wait should time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isExactlyInstanceOf(TimeoutException.class);
+        }
+    }
+
+    @Test
+    public void boolean_matcher_of_async_wait_is_rejected() {
+        try {
+            wait.async().until(By.xpath("//div")).isPresent();
+            fail("Matcher result of an async wait should be rejected");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage()).contains("untilMatchersAsync");
+        }
+
+        assertThat(wait.getFuture()).isNull();
+        verify(search, never()).find(any(By.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void matchers_must_start_a_wait() {
+        wait.untilMatchersAsync(new AsyncMatchers() {
+            @Override
+            public void start(FluentWait wait) {
+            }
+        });
+    }
+
+    @Test
+    public void future_joins_all_async_waits() throws Exception {
+        wait.async().untilPredicate(verifiedAfter(2));
+        wait.untilPredicate(verifiedAfter(3));
+
+        assertThat(wait.getFuture().get(5, TimeUnit.SECONDS)).containsExactly(true, true);
+
+        wait.untilPredicate(new Predicate<FluentDriver>() {
+            @Override
+            public boolean apply(FluentDriver input) {
+                throw new NoSuchElementException("missing");
+            }
+        });
+        wait.untilPredicate(verifiedAfter(1));
+
+        try {
+            wait.getFuture().get(5, TimeUnit.SECONDS);
+            fail("Wait should fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isExactlyInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void function_result_of_async_wait_is_only_available_from_future() {
+        wait.async().until(new Function<FluentDriver, String>() {
+            @Override
+            public String apply(FluentDriver input) {
+                return "done";
+            }
+        });
+    }
+
+    @Test
+    public void async_wait_with_mutation_observer_is_polled() throws Exception {
+        when(fluent.getDriver()).thenReturn(driver);
+        when(search.find(any(By.class))).thenReturn(new FluentListImpl<FluentWebElement>(),
+                new FluentListImpl<>(Arrays.asList(element)));
+
+        ListenableFuture<Boolean> future = wait.withMutationObserver().untilMatchersAsync(new AsyncMatchers() {
+            @Override
+            public void start(FluentWait wait) {
+                wait.until(".small").isPresent();
+            }
+        });
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+        verify((JavascriptExecutor) driver, never()).executeAsyncScript(anyString(), anyVararg());
+    }
+
+    @Test
+    public void async_network_idle_wait_is_polled() throws Exception {
+        when(fluent.getDriver()).thenReturn(driver);
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyVararg())).thenReturn(NetworkIdleScript.INSTALLED,
+                false, true);
+        wait = new FluentWait(fluent, search).atMost(2, TimeUnit.SECONDS).pollingEvery(10, TimeUnit.MILLISECONDS);
+
+        wait.async().untilPage().isNetworkIdle();
+
+        assertThat(wait.getFuture().get(5, TimeUnit.SECONDS)).containsExactly(true);
+        verify((JavascriptExecutor) driver, never()).executeAsyncScript(anyString(), anyVararg());
+    }
+}
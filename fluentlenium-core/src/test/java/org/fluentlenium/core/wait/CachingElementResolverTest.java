@@ -0,0 +1,147 @@
+package org.fluentlenium.core.wait;
+
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentListImpl;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.FilterType;
+import org.fluentlenium.core.filter.matcher.ContainsMatcher;
+import org.fluentlenium.core.search.Search;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.fluentlenium.core.filter.FilterConstructor.withClass;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingElementResolverTest {
+    @Mock
+    private Search search;
+
+    @Mock
+    private WebElement element1;
+
+    @Mock
+    private WebElement element2;
+
+    private WebDriver driver;
+
+    private JavascriptExecutor executor;
+
+    private FluentWebElement fluentElement1;
+
+    private FluentWebElement fluentElement2;
+
+    private List<Filter> filters;
+
+    @Before
+    public void before() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        executor = (JavascriptExecutor) driver;
+        when(search.getSearchContext()).thenReturn(driver);
+
+        fluentElement1 = new FluentWebElement(element1, driver);
+        fluentElement2 = new FluentWebElement(element2, driver);
+        when(search.find(any(By.class))).thenAnswer(new org.mockito.stubbing.Answer<FluentList<FluentWebElement>>() {
+            @Override
+            public FluentList<FluentWebElement> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                return new FluentListImpl<>(Arrays.asList(fluentElement1, fluentElement2));
+            }
+        });
+
+        filters = Collections.singletonList(withClass("active"));
+    }
+
+    @Test
+    public void elements_are_reused_while_locator_matches_the_same_elements() {
+        when(executor.executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(true, false),
+                Arrays.asList(false, true), Arrays.asList(true, true));
+
+        CachingElementResolver resolver = new CachingElementResolver(search, By.cssSelector(".item"));
+
+        assertThat(resolver.resolve(filters)).containsExactly(fluentElement1);
+        assertThat(resolver.resolve(filters)).containsExactly(fluentElement2);
+        assertThat(resolver.resolve(filters)).containsExactly(fluentElement1, fluentElement2);
+
+        verify(search, times(1)).find(any(By.class));
+        verify(executor, times(3)).executeScript(anyString(), anyVararg());
+    }
+
+    @Test
+    public void elements_are_searched_again_when_matching_elements_have_changed() {
+        when(executor.executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(true, false), null,
+                Arrays.asList(false, true));
+
+        CachingElementResolver resolver = new CachingElementResolver(search, By.cssSelector(".item"));
+
+        assertThat(resolver.resolve(filters)).containsExactly(fluentElement1);
+        assertThat(resolver.resolve(filters)).containsExactly(fluentElement2);
+
+        verify(search, times(2)).find(any(By.class));
+    }
+
+    @Test
+    public void elements_are_searched_again_when_stale() {
+        when(executor.executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(true, false))
+                .thenThrow(new StaleElementReferenceException("stale")).thenReturn(Arrays.asList(true, true));
+
+        CachingElementResolver resolver = new CachingElementResolver(search, By.cssSelector(".item"));
+
+        assertThat(resolver.resolve(filters)).containsExactly(fluentElement1);
+        assertThat(resolver.resolve(filters)).containsExactly(fluentElement1, fluentElement2);
+
+        verify(search, times(2)).find(any(By.class));
+    }
+
+    @Test
+    public void filters_added_after_first_poll_are_evaluated() {
+        when(executor.executeScript(anyString(), anyVararg())).thenReturn(Arrays.asList(true, false));
+        By locator = By.cssSelector(".item");
+        Filter javaFilter = new Filter(FilterType.TEXT, new ContainsMatcher(Pattern.compile("a", Pattern.DOTALL)));
+        FluentList<FluentWebElement> found = new FluentListImpl<>(Arrays.asList(fluentElement2));
+        when(search.find(locator, filters.get(0), javaFilter)).thenReturn(found);
+        List<Filter> matcherFilters = new ArrayList<>(filters);
+
+        CachingElementResolver resolver = new CachingElementResolver(search, locator);
+        assertThat(resolver.resolve(matcherFilters)).containsExactly(fluentElement1);
+
+        matcherFilters.add(javaFilter);
+
+        assertThat(resolver.resolve(matcherFilters)).containsExactly(fluentElement2);
+    }
+
+    @Test
+    public void non_css_locators_are_searched_on_each_poll() {
+        By locator = By.xpath("//div");
+        FluentList<FluentWebElement> found = new FluentListImpl<>(Arrays.asList(fluentElement1));
+        when(search.find(any(By.class), (Filter[]) anyVararg())).thenReturn(found);
+
+        CachingElementResolver resolver = new CachingElementResolver(search, locator);
+        resolver.resolve(filters);
+        resolver.resolve(filters);
+
+        verify(search, times(2)).find(locator, filters.get(0));
+    }
+}
@@ -0,0 +1,182 @@
+package org.fluentlenium.core.wait;
+
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.conditions.FluentListConditions;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.search.Search;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FluentWaitCompositeMatcherTest {
+    @Mock
+    private Search search;
+
+    @Mock
+    private FluentDriver fluent;
+
+    @Mock
+    private FluentList<FluentWebElement> elements;
+
+    @Mock
+    private FluentListConditions conditions;
+
+    private WebDriver driver;
+
+    private FluentWait wait;
+
+    @Before
+    public void before() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(fluent.getDriver()).thenReturn(driver);
+        when(search.find(any(By.class), (Filter[]) anyVararg())).thenReturn(elements);
+        when(elements.one()).thenReturn(conditions);
+        when(conditions.isDisplayed()).thenReturn(true);
+        when(conditions.hasText("text")).thenReturn(true);
+
+        wait = new FluentWait(fluent, search).atMost(200, TimeUnit.MILLISECONDS).pollingEvery(10, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void all_conditions_are_evaluated_by_a_single_script_per_poll() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList()))
+                .thenReturn(Arrays.asList(false, true), Arrays.asList(true, false), Arrays.asList(true, true));
+        when(conditions.hasText("text")).thenReturn(false, true);
+
+        wait.untilAll().element("#a").isPresent().element("#b").hasText("text").perform();
+
+        verify((JavascriptExecutor) driver, times(3)).executeScript(anyString(), anyList());
+        // Presence is exact, so it is never checked by the driver. Text is checked by the driver on the last two polls.
+        verify(conditions, never()).isPresent();
+        verify(conditions, times(2)).hasText("text");
+        assertThat(wait.getPollCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void any_condition_is_confirmed_by_the_driver() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList())).thenReturn(Arrays.asList(false, true));
+
+        wait.untilAny().element("#a").isPresent().element("#b").hasText("text").perform();
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(anyString(), anyList());
+        verify(conditions).hasText("text");
+        verify(conditions, never()).isPresent();
+    }
+
+    @Test
+    public void timeout_reports_failed_conditions() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList())).thenReturn(Arrays.asList(true, false));
+        when(conditions.hasText("text")).thenReturn(false);
+
+        try {
+            wait.untilAll().element("#a").isDisplayed().element("#b").hasText("text").perform();
+            fail("Wait should time out");
+        } catch (TimeoutException e) {
+            assertThat(e.getMessage()).contains("Conditions are not verified: Selector #b has not the text text.");
+            assertThat(e.getMessage()).doesNotContain("#a");
+        }
+        // Poll fails on the text condition, so the displayed condition verified by the browser is not confirmed.
+        verify(conditions, never()).isDisplayed();
+    }
+
+    @Test
+    public void approximated_conditions_not_verified_by_browser_are_checked_by_the_driver() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList())).thenReturn(Arrays.asList(false));
+
+        wait.untilAll().element("option").isDisplayed().perform();
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(anyString(), anyList());
+        verify(conditions).isDisplayed();
+    }
+
+    @Test
+    public void exact_conditions_not_verified_by_browser_are_not_checked_by_the_driver() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList())).thenReturn(Arrays.asList(false),
+                Arrays.asList(true));
+
+        wait.untilAll().element("#a").isPresent().perform();
+
+        verify((JavascriptExecutor) driver, times(2)).executeScript(anyString(), anyList());
+        verify(search, never()).find(any(By.class), (Filter[]) anyVararg());
+    }
+
+    @Test
+    public void any_condition_confirms_next_condition_when_driver_disagrees() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList())).thenReturn(Arrays.asList(true, true));
+        when(conditions.isDisplayed()).thenReturn(false);
+
+        wait.untilAny().element("#a").isDisplayed().element("#b").hasText("text").perform();
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(anyString(), anyList());
+        verify(conditions).isDisplayed();
+        verify(conditions).hasText("text");
+    }
+
+    @Test
+    public void timeout_does_not_report_conditions_that_were_not_evaluated() {
+        when(conditions.isDisplayed()).thenReturn(false);
+
+        try {
+            wait.untilAll().element(By.xpath("//div")).isDisplayed().windowIsDisplayed("popup").perform();
+            fail("Wait should time out");
+        } catch (TimeoutException e) {
+            assertThat(e.getMessage()).contains("Conditions are not verified: ");
+            assertThat(e.getMessage()).doesNotContain("popup");
+        }
+        verify(driver, never()).getWindowHandles();
+    }
+
+    @Test
+    public void conditions_are_evaluated_by_the_driver_when_browser_disagrees() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList())).thenReturn(Arrays.asList(true, true));
+        when(conditions.isDisplayed()).thenReturn(false, true);
+
+        wait.untilAll().element("#a").isDisplayed().element("#b").hasText("text").perform();
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(anyString(), anyList());
+        verify(conditions, times(2)).isDisplayed();
+    }
+
+    @Test
+    public void window_and_non_css_conditions_are_evaluated_by_the_driver() {
+        when(((JavascriptExecutor) driver).executeScript(anyString(), anyList())).thenReturn(Arrays.asList(true));
+        when(driver.getWindowHandles()).thenReturn(new java.util.HashSet<>(Arrays.asList("main")));
+
+        wait.untilAll().pageIsLoaded().element(By.xpath("//div")).isDisplayed().windowIsDisplayed("main").perform();
+
+        verify((JavascriptExecutor) driver).executeScript(anyString(), eq(Arrays.asList(Arrays.asList("page"))));
+        verify(conditions).isDisplayed();
+        verify(driver).getWindowHandles();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void perform_requires_a_condition() {
+        wait.untilAny().perform();
+    }
+}
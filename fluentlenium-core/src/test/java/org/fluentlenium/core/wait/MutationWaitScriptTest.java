@@ -0,0 +1,114 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Predicate;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.filter.Filter;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.fluentlenium.core.filter.MatcherConstructor.contains;
+import static org.fluentlenium.core.filter.MatcherConstructor.regex;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MutationWaitScriptTest {
+    private interface JavascriptWebDriver extends WebDriver, JavascriptExecutor {
+    }
+
+    @Mock
+    private FluentDriver fluent;
+
+    @Mock
+    private Predicate<FluentDriver> predicate;
+
+    private JavascriptWebDriver driver;
+
+    @Before
+    public void before() {
+        MockitoAnnotations.initMocks(this);
+        driver = Mockito.mock(JavascriptWebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+        when(fluent.getDriver()).thenReturn(driver);
+    }
+
+    @Test
+    public void only_css_selectors_and_script_filters_are_supported() {
+        assertThat(MutationWaitScript.of(By.cssSelector(".small"), Collections.<Filter>emptyList(), false,
+                MutationWaitScript.PRESENT)).isNotNull();
+        assertThat(MutationWaitScript.of(By.cssSelector(".small"), Arrays.asList(new Filter("id", contains(regex("i.*")))),
+                false, MutationWaitScript.PRESENT)).isNotNull();
+
+        assertThat(MutationWaitScript.of(By.xpath("//div"), Collections.<Filter>emptyList(), false,
+                MutationWaitScript.PRESENT)).isNull();
+        assertThat(MutationWaitScript.of(By.cssSelector(".small"),
+                Arrays.asList(new Filter("id", contains(Pattern.compile("(?<name>i)")))), false,
+                MutationWaitScript.PRESENT)).isNull();
+    }
+
+    @Test
+    public void predicate_is_verified_again_when_browser_reports_condition() {
+        when(predicate.apply(fluent)).thenReturn(false, true);
+        when(driver.executeAsyncScript(anyString(), anyVararg())).thenReturn(true);
+
+        Predicate<FluentDriver> wrapped = MutationWaitScript.of(By.cssSelector(".small"),
+                Collections.<Filter>emptyList(), false, MutationWaitScript.DISPLAYED).wrap(predicate, 5000);
+
+        assertThat(wrapped.apply(fluent)).isTrue();
+        verify(predicate, times(2)).apply(fluent);
+        verify(driver, times(1)).executeAsyncScript(anyString(), anyVararg());
+    }
+
+    @Test
+    public void predicate_is_not_verified_again_when_browser_times_out() {
+        when(predicate.apply(fluent)).thenReturn(false);
+        when(driver.executeAsyncScript(anyString(), anyVararg())).thenReturn(false);
+
+        Predicate<FluentDriver> wrapped = MutationWaitScript.of(By.cssSelector(".small"),
+                Collections.<Filter>emptyList(), false, MutationWaitScript.DISPLAYED).wrap(predicate, 5000);
+
+        assertThat(wrapped.apply(fluent)).isFalse();
+        verify(predicate, times(1)).apply(fluent);
+    }
+
+    @Test
+    public void wait_falls_back_to_polling_when_script_fails() {
+        when(predicate.apply(fluent)).thenReturn(false);
+        when(driver.executeAsyncScript(anyString(), anyVararg())).thenThrow(new WebDriverException("Unsupported"));
+
+        Predicate<FluentDriver> wrapped = MutationWaitScript.of(By.cssSelector(".small"),
+                Collections.<Filter>emptyList(), false, MutationWaitScript.DISPLAYED).wrap(predicate, 5000);
+
+        assertThat(wrapped.apply(fluent)).isFalse();
+        assertThat(wrapped.apply(fluent)).isFalse();
+        verify(driver, times(1)).executeAsyncScript(anyString(), anyVararg());
+    }
+
+    @Test
+    public void wait_falls_back_to_polling_when_browser_disagrees() {
+        when(predicate.apply(fluent)).thenReturn(false);
+        when(driver.executeAsyncScript(anyString(), anyVararg())).thenReturn(true);
+
+        Predicate<FluentDriver> wrapped = MutationWaitScript.of(By.cssSelector(".small"),
+                Collections.<Filter>emptyList(), false, MutationWaitScript.DISPLAYED).wrap(predicate, 5000);
+
+        assertThat(wrapped.apply(fluent)).isFalse();
+        assertThat(wrapped.apply(fluent)).isFalse();
+        verify(driver, times(1)).executeAsyncScript(anyString(), anyVararg());
+        verify(driver, never()).executeScript(anyString(), anyVararg());
+    }
+}
@@ -0,0 +1,125 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Supplier;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.search.Search;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class PollingSchedulesTest {
+
+    @Test
+    public void fixed() {
+        PollingSchedule schedule = PollingSchedules.fixed(1, TimeUnit.SECONDS);
+
+        assertThat(schedule.getDelayMillis(1)).isEqualTo(1000);
+        assertThat(schedule.getDelayMillis(10)).isEqualTo(1000);
+    }
+
+    @Test
+    public void exponential_is_capped() {
+        PollingSchedule schedule = PollingSchedules.exponential(10, 2, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(schedule.getDelayMillis(1)).isEqualTo(10);
+        assertThat(schedule.getDelayMillis(2)).isEqualTo(20);
+        assertThat(schedule.getDelayMillis(3)).isEqualTo(40);
+        assertThat(schedule.getDelayMillis(4)).isEqualTo(50);
+        assertThat(schedule.getDelayMillis(1000)).isEqualTo(50);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void exponential_rejects_invalid_multiplier() {
+        PollingSchedules.exponential(10, 0.5, 50, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void fast_then_slow() {
+        PollingSchedule schedule = PollingSchedules.fastThenSlow(3, 10, 500, TimeUnit.MILLISECONDS);
+
+        assertThat(schedule.getDelayMillis(1)).isEqualTo(10);
+        assertThat(schedule.getDelayMillis(3)).isEqualTo(10);
+        assertThat(schedule.getDelayMillis(4)).isEqualTo(500);
+    }
+
+    @Test
+    public void jittered_stays_within_ratio() {
+        PollingSchedule schedule = PollingSchedules.jittered(PollingSchedules.fixed(100, TimeUnit.MILLISECONDS), 0.2);
+
+        for (int i = 1; i < 100; i++) {
+            assertThat(schedule.getDelayMillis(i)).isBetween(80L, 120L);
+        }
+        assertThat(PollingSchedules.jittered(PollingSchedules.fixed(100, TimeUnit.MILLISECONDS), 0)
+                .getDelayMillis(1)).isEqualTo(100);
+    }
+
+    @Test
+    public void wait_uses_schedule_and_counts_polls() {
+        final List<Integer> schedulePolls = new ArrayList<>();
+        FluentWait wait = new FluentWait(Mockito.mock(FluentDriver.class), Mockito.mock(Search.class));
+        wait.atMost(5, TimeUnit.SECONDS).pollingWith(new PollingSchedule() {
+            @Override
+            public long getDelayMillis(int poll) {
+                schedulePolls.add(poll);
+                return 1;
+            }
+        });
+
+        wait.until(new Supplier<Boolean>() {
+            private int calls;
+
+            @Override
+            public Boolean get() {
+                return ++calls == 4;
+            }
+        });
+
+        assertThat(schedulePolls).containsExactly(1, 2, 3);
+        assertThat(wait.getPollCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void wait_does_not_sleep_past_timeout() {
+        FluentWait wait = new FluentWait(Mockito.mock(FluentDriver.class), Mockito.mock(Search.class));
+        wait.atMost(200, TimeUnit.MILLISECONDS).pollingWith(PollingSchedules.fixed(60, TimeUnit.SECONDS));
+
+        long start = System.currentTimeMillis();
+        try {
+            wait.until(new Supplier<Boolean>() {
+                @Override
+                public Boolean get() {
+                    return false;
+                }
+            });
+            fail("Wait should have timed out");
+        } catch (TimeoutException e) {
+            assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+            assertThat(wait.getPollCount()).isGreaterThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    public void poll_count_is_available_after_timeout() {
+        FluentWait wait = new FluentWait(Mockito.mock(FluentDriver.class), Mockito.mock(Search.class));
+        wait.atMost(200, TimeUnit.MILLISECONDS).pollingWith(PollingSchedules.fixed(10, TimeUnit.MILLISECONDS));
+
+        try {
+            wait.until(new Supplier<Boolean>() {
+                @Override
+                public Boolean get() {
+                    return false;
+                }
+            });
+            fail("Wait should have timed out");
+        } catch (TimeoutException e) {
+            assertThat(wait.getPollCount()).isGreaterThan(1).isLessThanOrEqualTo(21);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Predicate;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.search.ImplicitWaits;
+import org.fluentlenium.core.search.Search;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WaitDeadlineTest {
+    @Mock
+    private FluentDriver fluent;
+
+    @Mock
+    private Search search;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private WebDriver driver;
+
+    @After
+    public void after() {
+        WaitDeadline.INSTANCE.clear();
+    }
+
+    @Test
+    public void timeouts_are_not_bounded_without_deadline() {
+        assertThat(WaitDeadline.INSTANCE.isActive()).isFalse();
+        assertThat(WaitDeadline.INSTANCE.bound(10000)).isEqualTo(10000);
+        assertThat(new FluentWait(fluent, search).atMost(10, TimeUnit.SECONDS).getTimeoutMillis()).isEqualTo(10000);
+    }
+
+    @Test
+    public void timeouts_are_bounded_by_remaining_time() {
+        WaitDeadline.INSTANCE.start(1, TimeUnit.SECONDS);
+
+        assertThat(WaitDeadline.INSTANCE.bound(10000)).isLessThanOrEqualTo(1000);
+        assertThat(WaitDeadline.INSTANCE.bound(10)).isEqualTo(10);
+        assertThat(new FluentWait(fluent, search).atMost(10, TimeUnit.SECONDS).getTimeoutMillis()).isLessThanOrEqualTo(1000);
+
+        WaitDeadline.INSTANCE.clear();
+        assertThat(WaitDeadline.INSTANCE.getRemainingMillis()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void wait_fails_at_deadline() {
+        WaitDeadline.INSTANCE.start(100, TimeUnit.MILLISECONDS);
+        FluentWait wait = new FluentWait(fluent, search).atMost(1, TimeUnit.MINUTES).pollingEvery(10, TimeUnit.MILLISECONDS);
+
+        long start = System.currentTimeMillis();
+        try {
+            wait.untilPredicate(new Predicate<FluentDriver>() {
+                @Override
+                public boolean apply(FluentDriver input) {
+                    return false;
+                }
+            });
+            fail("Wait should time out");
+        } catch (TimeoutException e) {
+            assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+        }
+    }
+
+    @Test
+    public void implicit_wait_is_lowered_and_restored() {
+        ImplicitWaits.INSTANCE.register(driver, 30000);
+        WaitDeadline.INSTANCE.start(2, TimeUnit.SECONDS);
+
+        WaitDeadline.INSTANCE.beforeSearch(driver);
+        verify(driver.manage().timeouts()).implicitlyWait(anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        WaitDeadline.INSTANCE.clear();
+        verify(driver.manage().timeouts()).implicitlyWait(30000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void implicit_wait_is_kept_when_lower_than_remaining_time() {
+        ImplicitWaits.INSTANCE.register(driver, 100);
+        WaitDeadline.INSTANCE.start(1, TimeUnit.MINUTES);
+
+        WaitDeadline.INSTANCE.beforeSearch(driver);
+        WaitDeadline.INSTANCE.clear();
+
+        verify(driver.manage().timeouts(), never()).implicitlyWait(anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+}
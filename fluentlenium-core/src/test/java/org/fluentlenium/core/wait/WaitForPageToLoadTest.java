@@ -2,6 +2,10 @@ package org.fluentlenium.core.wait;
 
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.script.FluentJavascript;
+import org.fluentlenium.core.search.Search;
 import org.fluentlenium.core.wait.FluentWait;
 import org.fluentlenium.core.wait.FluentWaitPageMatcher;
 import org.junit.Before;
@@ -10,16 +14,24 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class WaitForPageToLoadTest {
 
@@ -36,6 +48,7 @@ public class WaitForPageToLoadTest {
     public void before() {
         MockitoAnnotations.initMocks(this);
         when(wait.withMessage(anyString())).thenReturn(wait);
+        when(wait.withMessage(any(Supplier.class))).thenReturn(wait);
     }
 
     @Test(expected = UnsupportedOperationException.class)
@@ -48,7 +61,31 @@ public class WaitForPageToLoadTest {
     public void when_browser_implemets_Javascript_executor_then_go_to_predicate() {
         FluentWaitPageMatcher fluentWaitPageBuilder = new FluentWaitPageMatcher(wait, new WebDriverWithJavascriptExecutor());
         fluentWaitPageBuilder.isLoaded();
-        verify(wait).untilPredicate(any(Predicate.class));
+        verify(wait).untilPredicate(any(Predicate.class), (String) isNull());
+    }
+
+    @Test
+    public void message_is_built_only_on_timeout() {
+        WebDriver javascriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        FluentDriver fluent = mock(FluentDriver.class);
+        FluentJavascript loading = mock(FluentJavascript.class);
+        when(fluent.getDriver()).thenReturn(javascriptDriver);
+        when(fluent.executeScript(anyString())).thenReturn(loading);
+        when(loading.getStringResult()).thenReturn("loading", "complete");
+        when(javascriptDriver.getCurrentUrl()).thenReturn("http://localhost/");
+
+        FluentWait realWait = new FluentWait(fluent, mock(Search.class)).atMost(200, TimeUnit.MILLISECONDS)
+                .pollingEvery(10, TimeUnit.MILLISECONDS);
+        new FluentWaitPageMatcher(realWait, javascriptDriver).isLoaded();
+        verify(javascriptDriver, never()).getCurrentUrl();
+
+        when(loading.getStringResult()).thenReturn("loading");
+        try {
+            new FluentWaitPageMatcher(realWait, javascriptDriver).isLoaded();
+            fail("Wait should time out");
+        } catch (TimeoutException e) {
+            assertThat(e.getMessage()).contains("Page http://localhost/ is not loaded.");
+        }
     }
 
     private class WebDriverWithJavascriptExecutor implements WebDriver, JavascriptExecutor {
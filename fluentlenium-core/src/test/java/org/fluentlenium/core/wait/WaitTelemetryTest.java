@@ -0,0 +1,150 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Supplier;
+import org.apache.commons.io.FileUtils;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.search.Search;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.TimeoutException;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WaitTelemetryTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    private FluentDriver fluent;
+
+    @Mock
+    private Search search;
+
+    @Before
+    public void before() {
+        WaitTelemetry.INSTANCE.reset();
+    }
+
+    @After
+    public void after() {
+        WaitTelemetry.INSTANCE.disable();
+        WaitTelemetry.INSTANCE.reset();
+    }
+
+    @Test
+    public void call_site_and_condition_are_read_from_stack() {
+        StackTraceElement[] stack = new StackTraceElement[] {
+                new StackTraceElement("org.fluentlenium.core.wait.WaitTelemetry", "record", "WaitTelemetry.java", 1),
+                new StackTraceElement("org.fluentlenium.core.wait.FluentWait", "untilPredicate", "FluentWait.java", 2),
+                new StackTraceElement("org.fluentlenium.core.wait.AbstractWaitMatcher", "until", "AbstractWaitMatcher.java", 3),
+                new StackTraceElement("org.fluentlenium.core.wait.AbstractWaitElementMatcher", "isDisplayed", "AbstractWaitElementMatcher.java", 4),
+                new StackTraceElement("com.company.LoginTest", "login", "LoginTest.java", 42),
+                new StackTraceElement("sun.reflect.NativeMethodAccessorImpl", "invoke", null, -1)
+        };
+
+        assertThat(WaitTelemetry.getCallSite(stack)).isEqualTo("com.company.LoginTest.login(LoginTest.java:42)");
+        assertThat(WaitTelemetry.getCondition(stack)).isEqualTo("isDisplayed");
+    }
+
+    @Test
+    public void call_site_is_unknown_when_stack_is_internal() {
+        StackTraceElement[] stack = new StackTraceElement[] {
+                new StackTraceElement("org.fluentlenium.core.wait.FluentWait", "until", "FluentWait.java", 2),
+                new StackTraceElement("java.lang.Thread", "run", "Thread.java", 745)
+        };
+
+        assertThat(WaitTelemetry.getCallSite(stack)).isEqualTo(WaitTelemetry.UNKNOWN_CALL_SITE);
+        assertThat(WaitTelemetry.getCondition(stack)).isEqualTo("until");
+    }
+
+    @Test
+    public void waits_are_not_recorded_when_disabled() {
+        new FluentWait(fluent, search).until(always(true));
+
+        assertThat(WaitTelemetry.INSTANCE.getRecords()).isEmpty();
+    }
+
+    @Test
+    public void waits_are_recorded_with_outcome() {
+        WaitTelemetry.INSTANCE.enable(null);
+
+        new FluentWait(fluent, search).until(always(true));
+        try {
+            new FluentWait(fluent, search).atMost(50, TimeUnit.MILLISECONDS).pollingEvery(10, TimeUnit.MILLISECONDS).until(always(false));
+            fail("Wait should time out");
+        } catch (TimeoutException e) {
+            // Expected
+        }
+
+        List<WaitRecord> records = WaitTelemetry.INSTANCE.getRecords();
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).getOutcome()).isEqualTo(WaitRecord.Outcome.SUCCESS);
+        assertThat(records.get(0).getPollCount()).isEqualTo(1);
+        assertThat(records.get(1).getOutcome()).isEqualTo(WaitRecord.Outcome.TIMEOUT);
+        assertThat(records.get(1).getPollCount()).isGreaterThan(1);
+        // Timeout is decided on the millisecond wall clock, elapsed time is measured with nanoTime.
+        assertThat(records.get(1).getElapsedNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    public void report_aggregates_waits_by_call_site() throws Exception {
+        for (int i = 1; i <= 10; i++) {
+            WaitTelemetry.INSTANCE.add(record("fast", i, WaitRecord.Outcome.SUCCESS));
+        }
+        WaitTelemetry.INSTANCE.add(record("slow", 500, WaitRecord.Outcome.TIMEOUT));
+
+        File reportFile = folder.newFile("waits.json");
+        WaitTelemetry.INSTANCE.enable(reportFile);
+        WaitTelemetry.INSTANCE.writeReport();
+        String report = FileUtils.readFileToString(reportFile, StandardCharsets.UTF_8);
+
+        assertThat(report).contains("\"waits\": 11", "\"totalMillis\": 555.000");
+        assertThat(report.indexOf("\"slow\"")).isLessThan(report.indexOf("\"fast\""));
+        assertThat(report).contains("{\"callSite\": \"fast\", \"condition\": \"isDisplayed\", \"selection\": \"Selector \\\"#id\\\"\", "
+                + "\"count\": 10, \"polls\": 20, \"timeouts\": 0, \"errors\": 0, \"totalMillis\": 55.000, "
+                + "\"p50Millis\": 5.000, \"p90Millis\": 9.000, \"p99Millis\": 10.000, \"maxMillis\": 10.000}");
+        assertThat(report).contains("\"callSite\": \"slow\"", "\"timeouts\": 1");
+    }
+
+    @Test
+    public void report_is_written_again_only_when_waits_are_recorded() throws Exception {
+        File reportFile = folder.newFile("waits.json");
+        WaitTelemetry.INSTANCE.enable(reportFile);
+        WaitTelemetry.INSTANCE.add(record("fast", 1, WaitRecord.Outcome.SUCCESS));
+
+        assertThat(WaitTelemetry.INSTANCE.writeReportIfChanged()).isTrue();
+        assertThat(FileUtils.readFileToString(reportFile, StandardCharsets.UTF_8)).contains("\"waits\": 1");
+        assertThat(WaitTelemetry.INSTANCE.writeReportIfChanged()).isFalse();
+
+        WaitTelemetry.INSTANCE.add(record("fast", 1, WaitRecord.Outcome.SUCCESS));
+
+        assertThat(WaitTelemetry.INSTANCE.writeReportIfChanged()).isTrue();
+        assertThat(FileUtils.readFileToString(reportFile, StandardCharsets.UTF_8)).contains("\"waits\": 2");
+    }
+
+    private static WaitRecord record(String callSite, long millis, WaitRecord.Outcome outcome) {
+        return new WaitRecord(callSite, "isDisplayed", "Selector \"#id\"", TimeUnit.MILLISECONDS.toNanos(millis), 2, outcome);
+    }
+
+    private static Supplier<Boolean> always(final boolean value) {
+        return new Supplier<Boolean>() {
+            @Override
+            public Boolean get() {
+                return value;
+            }
+        };
+    }
+}
@@ -52,4 +52,43 @@ public class ActionOnListTest extends LocalFluentCase {
         $("#fileUpload2").fill().with("/data/fileName");
         assertThat($("#fileUpload2").getValue()).endsWith("fileName");
     }
+
+    @Test
+    public void checkFastFillAction() {
+        goTo(DEFAULT_URL);
+        executeScript("window.events = [];"
+                + "document.getElementById('name').addEventListener('input', function() { window.events.push('input'); });"
+                + "document.getElementById('name').addEventListener('change', function() { window.events.push('change'); });");
+
+        $("#name, #firstname").fill().fast().with("zzz", "yyy");
+
+        assertThat($("#name, #firstname").getValues()).containsExactly("zzz", "yyy");
+        assertThat(executeScript("return window.events.join(',');").getStringResult()).isEqualTo("input,change");
+    }
+
+    @Test
+    public void checkFastFillWithKeystrokes() {
+        goTo(DEFAULT_URL);
+        executeScript("window.keys = 0;"
+                + "document.getElementById('firstname').addEventListener('keyup', function() { window.keys++; });");
+
+        $("#name, #firstname, #fileUpload").fill().fast().keystrokes("#firstname").with("zzz", "yyy", "/data/fileName");
+
+        assertThat($("#name").getValue()).isEqualTo("zzz");
+        assertThat($("#firstname").getValue()).isEqualTo("yyy");
+        assertThat($("#fileUpload").getValue()).endsWith("fileName");
+        assertThat(executeScript("return window.keys;").getLongResult()).isEqualTo(3L);
+    }
+
+    @Test
+    public void checkPipelinedActions() {
+        goTo(DEFAULT_URL);
+        $("#name, #non_display, #disabled, #firstname").pipelined().text("zzz", "yyy");
+        assertThat($("#name, #firstname").getValues()).containsExactly("zzz", "yyy");
+
+        $("#selected, #disabled, #non_selected").pipelined().click();
+        assertThat($("#selected").first().isSelected()).isFalse();
+        assertThat($("#disabled").first().isSelected()).isFalse();
+        assertThat($("#non_selected").first().isSelected()).isTrue();
+    }
 }
@@ -3,6 +3,7 @@ package org.fluentlenium.integration;
 import org.fluentlenium.core.domain.FluentWebElement;
 import org.fluentlenium.integration.localtest.LocalFluentCase;
 import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.support.ui.Select;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +42,27 @@ public class ActionOnSelectorWithBddTest extends LocalFluentCase {
         assertThat(select.getFirstSelectedOption().getText()).isEqualTo("value 3");
     }
 
+    @Test
+    public void checkFastFillSelectAction() {
+        goTo(DEFAULT_URL);
+        executeScript("window.changes = 0;"
+                + "document.getElementById('select').addEventListener('change', function() { window.changes++; });");
+        Select select = new Select(findFirst("#select").getElement());
+        $("#select, #name").fillSelect().fast().withValue("value-1"); // by value
+        assertThat(select.getFirstSelectedOption().getText()).isEqualTo("value 1");
+        $("#select, #name").fillSelect().fast().withIndex(1); // by index
+        assertThat(select.getFirstSelectedOption().getText()).isEqualTo("value 2");
+        $("#select, #name").fillSelect().fast().withText("value 3"); // by text
+        assertThat(select.getFirstSelectedOption().getText()).isEqualTo("value 3");
+        assertThat(executeScript("return window.changes;").getLongResult()).isEqualTo(2L);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void checkFastFillSelectActionWithMissingOption() {
+        goTo(DEFAULT_URL);
+        $("#select").fillSelect().fast().withText("value 4");
+    }
+
     @Test
     public void checkClearAction() {
         goTo(DEFAULT_URL);
@@ -0,0 +1,61 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.core.domain.ElementState;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.integration.localtest.LocalFluentCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ElementSnapshotTest extends LocalFluentCase {
+    @Before
+    public void before() {
+        goTo(DEFAULT_URL);
+    }
+
+    @Test
+    public void snapshotMatchesElementState() {
+        FluentList<FluentWebElement> elements = $("input, span, a");
+        List<ElementState> states = elements.snapshot();
+
+        assertThat(states).hasSameSizeAs(elements);
+        for (int i = 0; i < states.size(); i++) {
+            FluentWebElement element = elements.get(i);
+            ElementState state = states.get(i);
+
+            assertThat(state.getElement()).isSameAs(element);
+            assertThat(state.getTagName()).isEqualTo(element.getTagName());
+            assertThat(state.getText()).isEqualTo(element.getText());
+            assertThat(state.getId()).isEqualTo(element.getId());
+            assertThat(state.isEnabled()).isEqualTo(element.isEnabled());
+            if (element.getName() != null) {
+                assertThat(state.getName()).isEqualTo(element.getName());
+            }
+            if ("input".equals(state.getTagName())) {
+                assertThat(state.getValue()).isEqualTo(element.getValue());
+                assertThat(state.isSelected()).isEqualTo(element.isSelected());
+            }
+        }
+    }
+
+    @Test
+    public void snapshotConditions() {
+        ElementState selected = $("#selected").first().snapshot();
+        assertThat(selected.conditions().isSelected()).isTrue();
+
+        ElementState disabled = $("#disabled").first().snapshot();
+        assertThat(disabled.conditions().isEnabled()).isFalse();
+        assertThat(disabled.conditions().not().isClickable()).isTrue();
+
+        ElementState nonDisplayed = $("#non_display").first().snapshot();
+        assertThat(nonDisplayed.conditions().isDisplayed()).isFalse();
+
+        ElementState location = $("#location").first().snapshot("data-missing");
+        assertThat(location.conditions().hasText("Pharmacy")).isTrue();
+        assertThat(location.getAttribute("data-missing")).isNull();
+    }
+}
@@ -0,0 +1,63 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.integration.localtest.LocalFluentCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class FluentLeniumCompositeWaitTest extends LocalFluentCase {
+    @Before
+    public void before() {
+        goTo(JAVASCRIPT_URL);
+    }
+
+    @Test
+    public void checkAwaitAll() {
+        await().atMost(5, SECONDS).untilAll()
+                .pageIsLoaded()
+                .element("#newField").isPresent()
+                .element("#default").hasText("wait2")
+                .element("#unvisible").isNotDisplayed()
+                .perform();
+        assertThat(findFirst("#default").getText()).isEqualTo("wait2");
+        assertThat(findFirst("#newField").getText()).isEqualTo("new");
+    }
+
+    @Test
+    public void checkAwaitAllWithDriverConditions() {
+        await().atMost(5, SECONDS).untilAll()
+                .element(By.xpath("//div[@id='newField']")).isPresent()
+                .element("#default").containsText("wait")
+                .windowIsDisplayed(getDriver().getWindowHandle())
+                .perform();
+    }
+
+    @Test
+    public void checkAwaitAny() {
+        await().atMost(5, SECONDS).untilAny()
+                .element("#newFieldSlow").isPresent()
+                .element("#newField").isDisplayed()
+                .perform();
+        assertThat(find("#newFieldSlow")).isEmpty();
+    }
+
+    @Test
+    public void checkAwaitAllTimeoutReportsFailedConditions() {
+        try {
+            await().atMost(1500, MILLISECONDS).untilAll()
+                    .element("#newField").isPresent()
+                    .element("#newFieldSlow").isPresent()
+                    .perform();
+            fail("Wait should time out");
+        } catch (TimeoutException e) {
+            assertThat(e.getMessage()).contains("Conditions are not verified: Selector #newFieldSlow is not present");
+            assertThat(e.getMessage()).doesNotContain("Selector #newField is not present");
+        }
+    }
+}
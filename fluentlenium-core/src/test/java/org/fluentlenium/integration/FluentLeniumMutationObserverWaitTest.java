@@ -0,0 +1,56 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.integration.localtest.LocalFluentCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.fluentlenium.core.filter.MatcherConstructor.regex;
+
+public class FluentLeniumMutationObserverWaitTest extends LocalFluentCase {
+    @Before
+    public void before() {
+        goTo(JAVASCRIPT_URL);
+    }
+
+    @Test
+    public void checkAwaitIsPresent() {
+        await().atMost(5, SECONDS).withMutationObserver().until("#newField").isPresent();
+        assertThat(findFirst("#newField").getText()).isEqualTo("new");
+    }
+
+    @Test
+    public void checkAwaitHasText() {
+        await().atMost(5, SECONDS).withMutationObserver().until("#default").hasText("wait2");
+    }
+
+    @Test
+    public void checkAwaitContainsTextWithFilter() {
+        await().atMost(5, SECONDS).withMutationObserver().until("span").with("id").equalTo("default")
+                .containsText("wait");
+    }
+
+    @Test
+    public void checkAwaitWithRegexFilter() {
+        await().atMost(5, SECONDS).withMutationObserver().until("div").with("id").contains(regex("new.*"))
+                .isDisplayed();
+    }
+
+    @Test
+    public void checkAwaitIsNotPresent() {
+        await().atMost(5, SECONDS).withMutationObserver().until("#default").with("id").equalTo("unknown").not().isPresent();
+    }
+
+    @Test
+    public void checkAwaitIsNotDisplayed() {
+        await().atMost(5, SECONDS).withMutationObserver().until("#unvisible").not().isDisplayed();
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void checkAwaitTimeout() {
+        await().atMost(500, MILLISECONDS).withMutationObserver().until("#newFieldSlow").isPresent();
+    }
+}
@@ -0,0 +1,78 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.integration.localtest.LocalFluentCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class FluentLeniumNetworkIdleWaitTest extends LocalFluentCase {
+    private static final String TIMER_CHAIN = "window.remaining = arguments[0];"
+            + "var next = function () { if (--window.remaining > 0) { setTimeout(next, 100); } };"
+            + "setTimeout(next, 100);";
+
+    @Before
+    public void before() {
+        goTo(JAVASCRIPT_URL);
+        await().atMost(5, SECONDS).untilPage().isNetworkIdle();
+    }
+
+    @Test
+    public void checkAwaitNetworkIdle() {
+        executeScript(TIMER_CHAIN, 5);
+        await().atMost(5, SECONDS).untilPage().isNetworkIdle(200, MILLISECONDS);
+        assertThat(executeScript("return window.remaining;").getLongResult()).isEqualTo(0L);
+    }
+
+    @Test
+    public void checkAwaitNetworkIdleWithXhr() {
+        executeScript("window.loaded = false;"
+                + "setTimeout(function () {"
+                + "var xhr = new XMLHttpRequest();"
+                + "xhr.onreadystatechange = function () { if (xhr.readyState === 4) { window.loaded = true; } };"
+                + "xhr.open('GET', window.location.href, true);"
+                + "xhr.send();"
+                + "}, 100);");
+        await().atMost(5, SECONDS).untilPage().isNetworkIdle(200, MILLISECONDS);
+        assertThat(executeScript("return window.loaded;").getBooleanResult()).isTrue();
+    }
+
+    @Test
+    public void checkAwaitNetworkIdleWithXhrSentBeforeFirstCall() {
+        goTo(JAVASCRIPT_URL);
+        executeScript("window.loaded = false;"
+                + "var xhr = new XMLHttpRequest();"
+                + "xhr.onreadystatechange = function () { if (xhr.readyState === 4) { window.loaded = true; } };"
+                + "xhr.open('GET', window.location.href, true);"
+                + "xhr.send();");
+        await().atMost(5, SECONDS).untilPage().isNetworkIdle(200, MILLISECONDS);
+        assertThat(executeScript("return window.loaded;").getBooleanResult()).isTrue();
+    }
+
+    @Test
+    public void checkPageIsNotIdleWhenTrackerIsInstalled() {
+        goTo(JAVASCRIPT_URL);
+        try {
+            await().atMost(1, MILLISECONDS).untilPage().isNetworkIdle(0, MILLISECONDS);
+            fail("Page should not be idle when the tracker has just been installed");
+        } catch (TimeoutException e) {
+            assertThat(e.getMessage()).contains("had network activity in the last 0 ms.");
+        }
+        await().atMost(5, SECONDS).untilPage().isNetworkIdle(0, MILLISECONDS);
+    }
+
+    @Test
+    public void checkAwaitNetworkIdleTimeout() {
+        executeScript(TIMER_CHAIN, 100);
+        try {
+            await().atMost(500, MILLISECONDS).untilPage().isNetworkIdle(200, MILLISECONDS);
+            fail("Network should not be idle");
+        } catch (TimeoutException e) {
+            assertThat(e.getMessage()).contains("had network activity in the last 200 ms.");
+        }
+    }
+}
@@ -36,6 +36,19 @@ public class FluentLeniumWaitTest extends LocalFluentCase {
         await().atMost(1, NANOSECONDS).until(".not-present").not().isPresent();
     }
 
+    @Test
+    public void checkAwaitIsNotPresentIgnoresImplicitWait() {
+        withDefaultSearchWait(5, TimeUnit.SECONDS);
+        try {
+            long start = System.currentTimeMillis();
+            await().atMost(1, TimeUnit.SECONDS).until(".not-present").not().isPresent();
+            await().atMost(1, TimeUnit.SECONDS).until("#nonexistent").each().not().isDisplayed();
+            assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+        } finally {
+            withDefaultSearchWait(0, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void checkAwaitIsDisplayed() {
         await().atMost(1, NANOSECONDS).until(".small").isDisplayed();
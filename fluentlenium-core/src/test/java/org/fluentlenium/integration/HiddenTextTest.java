@@ -15,6 +15,12 @@ public class HiddenTextTest extends LocalFluentCase {
         assertThat(line.getText()).isEmpty();
     }
 
+    @Test
+    public void checkGetTextsOfListWorks() {
+        goTo(DEFAULT_URL);
+        assertThat(find("#hidden, #non_display").getTexts()).containsExactly("", "");
+    }
+
     @Test
     public void checkGetTextContentWorks() {
         goTo(DEFAULT_URL);
@@ -7,6 +7,9 @@ import org.fluentlenium.integration.localtest.LocalFluentCase;
 import org.junit.Test;
 import org.openqa.selenium.By;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class SearchTest extends LocalFluentCase {
@@ -18,6 +21,30 @@ public class SearchTest extends LocalFluentCase {
         assertThat(list.getIds()).contains("id", "id2");
     }
 
+    @Test
+    public void checkIdsOfListMatchWebDriver() {
+        goTo(DEFAULT_URL);
+        FluentList<FluentWebElement> list = find(".small");
+        assertThat(list.getIds()).isEqualTo(getAttributesWithWebDriver(list, "id"));
+    }
+
+    @Test
+    public void checkBooleanAttributesOfListMatchWebDriver() {
+        goTo(DEFAULT_URL);
+        FluentList<FluentWebElement> list = find("#selected, #non_selected, #disabled, #name");
+        for (String attribute : new String[] {"checked", "disabled", "readonly", "value"}) {
+            assertThat(list.getAttributes(attribute)).as(attribute).isEqualTo(getAttributesWithWebDriver(list, attribute));
+        }
+    }
+
+    private static List<String> getAttributesWithWebDriver(FluentList<FluentWebElement> list, String attribute) {
+        List<String> values = new ArrayList<>();
+        for (FluentWebElement element : list) {
+            values.add(element.getElement().getAttribute(attribute));
+        }
+        return values;
+    }
+
     @Test
     public void checkSearcByLocatorhWorks() {
         goTo(DEFAULT_URL);